@@ -0,0 +1,34 @@
+package com.practice.expensemngr.benchmark;
+
+import com.practice.expensemngr.config.ColumnarExportProperties;
+import com.practice.expensemngr.config.DeltaExportProperties;
+import com.practice.expensemngr.config.ExportCompressionProperties;
+import com.practice.expensemngr.config.StreamingProperties;
+import com.practice.expensemngr.config.TransactionSearchProperties;
+import com.practice.expensemngr.config.TransactionTagIndexProperties;
+import com.practice.expensemngr.config.TransactionTextIndexProperties;
+import com.practice.expensemngr.service.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Minimal non-web application context for benchmarks: JPA on H2 plus the services under test
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {SecurityAutoConfiguration.class, UserDetailsServiceAutoConfiguration.class})
+@EntityScan("com.practice.expensemngr.entity")
+@EnableJpaRepositories("com.practice.expensemngr.repository")
+@Import({DashboardService.class, TransactionSearchService.class, ExportService.class, CsvExportService.class,
+        JsonExportService.class, DimensionNameResolver.class, TransactionRollupService.class,
+        TransactionCursorPager.class, TransactionTextIndex.class, TransactionTextIndexProperties.class,
+        TagBitmapIndex.class, TransactionTagIndexProperties.class, TransactionSearchProperties.class,
+        TransactionFacetService.class, TransactionStreamer.class, StreamingProperties.class, ExportCompressionProperties.class,
+        ColumnarExportService.class, ColumnarExportProperties.class, TombstoneService.class,
+        DeltaExportProperties.class})
+public class BenchmarkApplication {
+}
@@ -0,0 +1,138 @@
+package com.practice.expensemngr.benchmark;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Starts a benchmark application context on a private in-memory H2 database and fills it with
+ * a deterministic synthetic history for one user: accounts, categories, transactions spread over
+ * the last two years and the matching daily rollups.
+ */
+public final class BenchmarkData {
+
+    public static final long USER_ID = 1L;
+    public static final int ACCOUNTS = 5;
+    public static final int EXPENSE_CATEGORIES = 12;
+    public static final int INCOME_CATEGORIES = 4;
+    public static final int HISTORY_DAYS = 730;
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final String[] WORDS = {"grocery", "fuel", "rent", "coffee", "salary", "dinner", "taxi",
+            "pharmacy", "utilities", "gym", "books", "travel", "gift", "insurance", "internet", "bonus"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Start a context and seed it with the given number of transactions
+     * @param transactions Number of transactions to generate
+     * @return Running application context (close it in the benchmark teardown)
+     */
+    public static ConfigurableApplicationContext start(int transactions) {
+        SpringApplication application = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .build();
+        ConfigurableApplicationContext context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:benchmark-" + transactions + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN");
+        seed(context.getBean(JdbcTemplate.class), transactions);
+        return context;
+    }
+
+    /**
+     * First day of the generated history
+     * @return Start date
+     */
+    public static Date historyStart() {
+        return Date.from(LocalDate.now().minusDays(HISTORY_DAYS - 1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * Start of a window covering the last given number of days
+     * @param days Window length
+     * @return Start date
+     */
+    public static Date daysAgo(int days) {
+        return Date.from(LocalDate.now().minusDays(days - 1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * End of today, the last instant of the generated history
+     * @return End date
+     */
+    public static Date historyEnd() {
+        return Date.from(LocalDate.now().plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().minusSeconds(1));
+    }
+
+    /**
+     * Helper: Insert the user, dimensions, transactions and daily rollups
+     */
+    private static void seed(JdbcTemplate jdbc, int transactions) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        // 1. User, accounts and categories
+        jdbc.update("INSERT INTO users (full_name, email, password_hash, status, preferred_currency, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", "Benchmark User", "bench@example.com", "x", "ACTIVE", "PKR", now, now);
+        String[] accountTypes = {"Cash", "Bank", "Credit Card", "Mobile Wallet", "Bank"};
+        for (int i = 0; i < ACCOUNTS; i++) {
+            jdbc.update("INSERT INTO accounts (user_id, name, type, currency_code, initial_balance, current_balance, "
+                            + "is_archived, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    USER_ID, "Account " + (i + 1), accountTypes[i], "PKR", BigDecimal.ZERO, new BigDecimal("100000.00"),
+                    false, now, now);
+        }
+        for (int i = 0; i < EXPENSE_CATEGORIES + INCOME_CATEGORIES; i++) {
+            String type = i < EXPENSE_CATEGORIES ? "EXPENSE" : "INCOME";
+            jdbc.update("INSERT INTO categories (user_id, name, type, color, sort_order, is_archived, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", USER_ID, type + " " + (i + 1), type, "#336699", i, false, now, now);
+        }
+
+        // 2. Transactions, generated from a fixed seed so every run sees the same data
+        SplittableRandom random = new SplittableRandom(42);
+        long firstDay = LocalDate.now().minusDays(HISTORY_DAYS - 1).atStartOfDay(ZoneId.systemDefault())
+                .toInstant().toEpochMilli();
+        String sql = "INSERT INTO transactions (user_id, account_id, category_id, type, amount, currency_code, "
+                + "transaction_date, status, reference_number, description, is_recurring_instance, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < transactions; i++) {
+            boolean income = random.nextInt(10) == 0;
+            long categoryId = income
+                    ? EXPENSE_CATEGORIES + 1 + random.nextInt(INCOME_CATEGORIES)
+                    : 1 + random.nextInt(EXPENSE_CATEGORIES);
+            BigDecimal amount = BigDecimal.valueOf(income ? 5_000_00 + random.nextInt(200_000_00) : 100 + random.nextInt(50_000_00), 2);
+            Timestamp date = new Timestamp(firstDay + random.nextLong(HISTORY_DAYS * 86_400_000L));
+            String description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            batch.add(new Object[]{USER_ID, 1 + random.nextInt(ACCOUNTS), categoryId, income ? "INCOME" : "EXPENSE",
+                    amount, "PKR", date, random.nextInt(20) == 0 ? "PENDING" : "CLEARED", "REF-" + i, description,
+                    false, date, date});
+            if (batch.size() == BATCH_SIZE) {
+                jdbc.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbc.batchUpdate(sql, batch);
+        }
+
+        // 3. Daily rollups derived from the transactions
+        jdbc.update("INSERT INTO transaction_rollups (user_id, account_id, category_id, type, status, rollup_date, "
+                + "total_amount, transaction_count, updated_at) "
+                + "SELECT user_id, account_id, category_id, type, status, CAST(transaction_date AS DATE), SUM(amount), "
+                + "COUNT(*), CURRENT_TIMESTAMP FROM transactions "
+                + "GROUP BY user_id, account_id, category_id, type, status, CAST(transaction_date AS DATE)");
+    }
+}
@@ -0,0 +1,61 @@
+package com.practice.expensemngr.benchmark;
+
+import com.practice.expensemngr.dto.*;
+import com.practice.expensemngr.service.DashboardService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard aggregates over a 90-day window and over the whole two-year history
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DashboardBenchmark {
+
+    @Param({"90", "730"})
+    public int windowDays;
+
+    private DashboardService dashboardService;
+    private Date startDate;
+    private Date endDate;
+
+    @Setup(Level.Trial)
+    public void setUp(TransactionDataState data) {
+        dashboardService = data.bean(DashboardService.class);
+        startDate = BenchmarkData.daysAgo(windowDays);
+        endDate = BenchmarkData.historyEnd();
+    }
+
+    @Benchmark
+    public DashboardSummaryDTO summary() {
+        return dashboardService.getDashboardSummary(BenchmarkData.USER_ID, startDate, endDate, null, 10);
+    }
+
+    @Benchmark
+    public CategoryBreakdownDTO categoryBreakdown() {
+        return dashboardService.getCategoryBreakdown(BenchmarkData.USER_ID, startDate, endDate, "EXPENSE", null);
+    }
+
+    @Benchmark
+    public SpendingTrendDTO spendingTrendsMonthly() {
+        return dashboardService.getSpendingTrends(BenchmarkData.USER_ID, startDate, endDate, "MONTHLY", null, null);
+    }
+
+    @Benchmark
+    public IncomeExpenseComparisonDTO incomeExpenseComparison() {
+        return dashboardService.getIncomeExpenseComparison(BenchmarkData.USER_ID, startDate, endDate, null);
+    }
+
+    @Benchmark
+    public DashboardCompositeDTO compositeDashboard() {
+        return dashboardService.getCompositeDashboard(BenchmarkData.USER_ID, startDate, endDate, null, 10,
+                "MONTHLY", 5, List.of("SUMMARY", "CATEGORY_BREAKDOWN", "SPENDING_TRENDS", "INCOME_EXPENSE_COMPARISON"));
+    }
+}
@@ -0,0 +1,45 @@
+package com.practice.expensemngr.benchmark;
+
+import com.practice.expensemngr.dto.ExportRequestDTO;
+import com.practice.expensemngr.service.ExportService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transaction export to CSV and JSON over a 90-day window
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ExportBenchmark {
+
+    @Param({"CSV", "JSON", "COLUMNAR"})
+    public String format;
+
+    private ExportService exportService;
+    private ExportRequestDTO request;
+
+    @Setup(Level.Trial)
+    public void setUp(TransactionDataState data) {
+        exportService = data.bean(ExportService.class);
+        request = new ExportRequestDTO();
+        request.setUserId(BenchmarkData.USER_ID);
+        request.setDataType("TRANSACTIONS");
+        request.setFormat(format);
+        request.setStartDate(BenchmarkData.daysAgo(90));
+        request.setEndDate(BenchmarkData.historyEnd());
+    }
+
+    @Benchmark
+    public int exportTransactions() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportTransactions(request).writeTo(out);
+        return out.size();
+    }
+}
@@ -0,0 +1,40 @@
+package com.practice.expensemngr.benchmark;
+
+import com.practice.expensemngr.util.RecurringDateCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Next-run date calculation for each recurring frequency. Pure computation, so it is
+ * not parameterized by data size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecurringDateBenchmark {
+
+    @Param({"DAILY", "WEEKLY", "MONTHLY", "YEARLY"})
+    public String frequency;
+
+    private Date current;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        current = BenchmarkData.historyStart();
+    }
+
+    @Benchmark
+    public Date initialNextRunDate() {
+        return RecurringDateCalculator.calculateInitialNextRunDate(current, frequency, 1, 31, "FRIDAY");
+    }
+
+    @Benchmark
+    public Date nextRunDate() {
+        return RecurringDateCalculator.calculateNextRunDate(current, frequency, 2, 31, "FRIDAY");
+    }
+}
@@ -0,0 +1,62 @@
+package com.practice.expensemngr.benchmark;
+
+import com.practice.expensemngr.dto.TransactionFilterDTO;
+import com.practice.expensemngr.dto.TransactionSearchResponseDTO;
+import com.practice.expensemngr.service.TransactionSearchService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First page of transaction search: unfiltered, filtered by fields, and by keyword
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    private TransactionSearchService searchService;
+
+    @Setup(Level.Trial)
+    public void setUp(TransactionDataState data) {
+        searchService = data.bean(TransactionSearchService.class);
+    }
+
+    @Benchmark
+    public TransactionSearchResponseDTO firstPage() {
+        return searchService.searchTransactions(TransactionFilterDTO.builder()
+                .userId(BenchmarkData.USER_ID)
+                .page(0)
+                .size(20)
+                .build());
+    }
+
+    @Benchmark
+    public TransactionSearchResponseDTO filtered() {
+        return searchService.searchTransactions(TransactionFilterDTO.builder()
+                .userId(BenchmarkData.USER_ID)
+                .startDate(BenchmarkData.daysAgo(90))
+                .endDate(BenchmarkData.historyEnd())
+                .type("EXPENSE")
+                .categoryId(3L)
+                .minAmount(new BigDecimal("100.00"))
+                .status("CLEARED")
+                .page(0)
+                .size(20)
+                .build());
+    }
+
+    @Benchmark
+    public TransactionSearchResponseDTO keyword() {
+        return searchService.searchTransactions(TransactionFilterDTO.builder()
+                .userId(BenchmarkData.USER_ID)
+                .keyword("pharmacy")
+                .page(0)
+                .size(20)
+                .build());
+    }
+}
@@ -0,0 +1,31 @@
+package com.practice.expensemngr.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Benchmark state: an application context over a synthetic history of the given size.
+ * Seeding happens once per trial, outside the measured code.
+ */
+@State(Scope.Benchmark)
+public class TransactionDataState {
+
+    @Param({"10000", "100000", "1000000"})
+    public int transactions;
+
+    public ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.start(transactions);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
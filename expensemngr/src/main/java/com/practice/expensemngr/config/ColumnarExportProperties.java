@@ -0,0 +1,22 @@
+package com.practice.expensemngr.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the binary columnar export format
+ */
+@Configuration
+@ConfigurationProperties(prefix = "export.columnar")
+public class ColumnarExportProperties {
+
+    private int rowGroupSize = 10000; // rows buffered and encoded together; dictionaries are per row group
+
+    public int getRowGroupSize() {
+        return rowGroupSize;
+    }
+
+    public void setRowGroupSize(int rowGroupSize) {
+        this.rowGroupSize = rowGroupSize;
+    }
+}
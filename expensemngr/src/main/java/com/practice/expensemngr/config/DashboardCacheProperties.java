@@ -0,0 +1,40 @@
+package com.practice.expensemngr.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the dashboard result cache
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dashboard.cache")
+public class DashboardCacheProperties {
+
+    private boolean enabled = true;
+    private long maxWeightBytes = 16777216; // 16MB of serialized results
+    private long ttlSeconds = 300; // 5 minutes
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxWeightBytes() {
+        return maxWeightBytes;
+    }
+
+    public void setMaxWeightBytes(long maxWeightBytes) {
+        this.maxWeightBytes = maxWeightBytes;
+    }
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public void setTtlSeconds(long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+}
@@ -2,6 +2,7 @@ package com.practice.expensemngr.config;
 
 import com.practice.expensemngr.entity.*;
 import com.practice.expensemngr.repository.*;
+import com.practice.expensemngr.service.TransactionRollupService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -31,6 +32,8 @@ public class DataSeeder implements CommandLineRunner {
     private BudgetsRepository budgetsRepository;
     @Autowired
     private BudgetItemsRepository budgetItemsRepository;
+    @Autowired
+    private TransactionRollupService transactionRollupService;
 
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
@@ -126,12 +129,13 @@ public class DataSeeder implements CommandLineRunner {
     }
 
     private void createTransaction(Long userId, Accounts account, Categories category, String type, BigDecimal amount, String desc, String status) {
-        transactionsRepository.save(Transactions.builder()
+        Transactions transaction = transactionsRepository.save(Transactions.builder()
                 .userId(userId).accountId(account.getId()).categoryId(category.getId())
                 .type(type).amount(amount).currencyCode("PKR")
                 .description(desc).status(status).transactionDate(new Date())
                 .recurringInstance(false)
                 .createdAt(new Date()).updatedAt(new Date()).build());
+        transactionRollupService.recordTransaction(transaction);
         
         // Update Account Balance (simplified logic for seeder)
         if (type.equals("INCOME")) {
@@ -0,0 +1,40 @@
+package com.practice.expensemngr.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for delta (changes-since) exports
+ */
+@Configuration
+@ConfigurationProperties(prefix = "export.delta")
+public class DeltaExportProperties {
+
+    private int tombstoneRetentionDays = 90; // how far back deletions are kept; older resume points need a full export
+    private long purgeIntervalMs = 3600000; // how often expired tombstones are purged
+    private long resumeLagMs = 300000; // resume tokens point this far before the export; must exceed the longest write transaction
+
+    public int getTombstoneRetentionDays() {
+        return tombstoneRetentionDays;
+    }
+
+    public void setTombstoneRetentionDays(int tombstoneRetentionDays) {
+        this.tombstoneRetentionDays = tombstoneRetentionDays;
+    }
+
+    public long getPurgeIntervalMs() {
+        return purgeIntervalMs;
+    }
+
+    public void setPurgeIntervalMs(long purgeIntervalMs) {
+        this.purgeIntervalMs = purgeIntervalMs;
+    }
+
+    public long getResumeLagMs() {
+        return resumeLagMs;
+    }
+
+    public void setResumeLagMs(long resumeLagMs) {
+        this.resumeLagMs = resumeLagMs;
+    }
+}
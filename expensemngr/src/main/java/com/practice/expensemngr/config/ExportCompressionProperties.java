@@ -0,0 +1,31 @@
+package com.practice.expensemngr.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for compressed exports (gzip and ZIP)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "export.compression")
+public class ExportCompressionProperties {
+
+    private int level = 6; // deflate level, 1 (fastest) to 9 (smallest)
+    private int bufferSize = 8192; // bytes buffered by the compressor before deflating
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+}
@@ -0,0 +1,58 @@
+package com.practice.expensemngr.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for asynchronous export jobs
+ */
+@Configuration
+@ConfigurationProperties(prefix = "export.jobs")
+public class ExportJobProperties {
+
+    private String dir = "uploads/exports"; // job files only; anything here without a job row is deleted on startup
+    private int maxConcurrent = 2; // exports written at the same time; the rest wait in the queue
+    private int maxActivePerUser = 3; // queued or running jobs one user may have
+    private long ttlMinutes = 60; // how long a finished file stays downloadable
+    private long cleanupIntervalMs = 60000; // how often expired files are deleted
+
+    public String getDir() {
+        return dir;
+    }
+
+    public void setDir(String dir) {
+        this.dir = dir;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public void setMaxConcurrent(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    public int getMaxActivePerUser() {
+        return maxActivePerUser;
+    }
+
+    public void setMaxActivePerUser(int maxActivePerUser) {
+        this.maxActivePerUser = maxActivePerUser;
+    }
+
+    public long getTtlMinutes() {
+        return ttlMinutes;
+    }
+
+    public void setTtlMinutes(long ttlMinutes) {
+        this.ttlMinutes = ttlMinutes;
+    }
+
+    public long getCleanupIntervalMs() {
+        return cleanupIntervalMs;
+    }
+
+    public void setCleanupIntervalMs(long cleanupIntervalMs) {
+        this.cleanupIntervalMs = cleanupIntervalMs;
+    }
+}
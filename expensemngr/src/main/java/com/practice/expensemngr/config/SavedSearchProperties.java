@@ -0,0 +1,22 @@
+package com.practice.expensemngr.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for matching new transactions against saved searches
+ */
+@Configuration
+@ConfigurationProperties(prefix = "saved-search")
+public class SavedSearchProperties {
+
+    private int maxCachedUsers = 10000; // users whose compiled saved searches are kept in memory
+
+    public int getMaxCachedUsers() {
+        return maxCachedUsers;
+    }
+
+    public void setMaxCachedUsers(int maxCachedUsers) {
+        this.maxCachedUsers = maxCachedUsers;
+    }
+}
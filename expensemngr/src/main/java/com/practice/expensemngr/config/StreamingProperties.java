@@ -0,0 +1,31 @@
+package com.practice.expensemngr.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for streamed responses (NDJSON and exports)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "streaming")
+public class StreamingProperties {
+
+    private int fetchSize = 500; // rows per database round-trip
+    private int flushRows = 500; // rows resolved and written per chunk before flushing
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public int getFlushRows() {
+        return flushRows;
+    }
+
+    public void setFlushRows(int flushRows) {
+        this.flushRows = flushRows;
+    }
+}
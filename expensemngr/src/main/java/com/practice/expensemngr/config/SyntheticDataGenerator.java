@@ -0,0 +1,414 @@
+package com.practice.expensemngr.config;
+
+import com.practice.expensemngr.service.TransactionRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Loads a production-sized synthetic dataset for load and capacity testing.
+ * Runs only with the "synthetic-data" profile, e.g.
+ * java -jar expensemngr.jar --spring.profiles.active=synthetic-data --synthetic-data.users=100
+ *
+ * Every user gets accounts, categories, merchants, payment methods, tags, transactions with
+ * realistic date/amount/category distributions, tag links, receipt metadata, monthly budgets
+ * and recurring rules. Rows are written with batched JDBC inserts; account balances and daily
+ * rollups are then derived from the inserted transactions in bulk statements.
+ * All users log in with the password "synthetic123".
+ */
+@Component
+@Profile("synthetic-data")
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SyntheticDataProperties properties;
+
+    @Autowired
+    private TransactionRollupService transactionRollupService;
+
+    private static final String[] ACCOUNT_TYPES = {"Bank", "Cash", "Credit Card", "Mobile Wallet"};
+    private static final String[] MERCHANTS = {"Imtiaz", "Foodpanda", "Careem", "Uber", "Daraz", "K-Electric",
+            "Sui Gas", "PTCL", "Netflix", "Shell", "Chase Up", "Khaadi"};
+    private static final String[] TAGS = {"work", "family", "vacation", "reimbursable", "tax", "gift",
+            "weekend", "health", "home", "kids", "online", "cash-only"};
+    private static final String[] WORDS = {"weekly", "groceries", "lunch", "dinner", "fuel", "ride", "bill",
+            "monthly", "online", "order", "coffee", "snacks", "medicine", "tickets", "books", "gift", "repair"};
+
+    private static final int SALARY = 12;
+
+    // name, type, relative frequency, median amount, spread (sigma of log-normal amount).
+    // Salary has no frequency: it is paid on the 1st of each month and sized to cover the month's spending.
+    private static final CategoryProfile[] CATEGORIES = {
+            new CategoryProfile("Groceries", "EXPENSE", 22, 3500, 0.6),
+            new CategoryProfile("Food & Dining", "EXPENSE", 18, 1800, 0.7),
+            new CategoryProfile("Transportation", "EXPENSE", 14, 900, 0.6),
+            new CategoryProfile("Shopping", "EXPENSE", 9, 4500, 0.9),
+            new CategoryProfile("Entertainment", "EXPENSE", 6, 2500, 0.8),
+            new CategoryProfile("Utilities", "EXPENSE", 5, 9000, 0.4),
+            new CategoryProfile("Subscriptions", "EXPENSE", 5, 1200, 0.4),
+            new CategoryProfile("Health", "EXPENSE", 4, 3000, 0.9),
+            new CategoryProfile("Travel", "EXPENSE", 2, 25000, 0.9),
+            new CategoryProfile("Education", "EXPENSE", 2, 15000, 0.7),
+            new CategoryProfile("Gifts", "EXPENSE", 2, 5000, 0.8),
+            new CategoryProfile("Rent", "EXPENSE", 1, 60000, 0.1),
+            new CategoryProfile("Salary", "INCOME", 0, 250000, 0.05),
+            new CategoryProfile("Freelance", "INCOME", 1, 40000, 0.7),
+            new CategoryProfile("Interest", "INCOME", 1, 2000, 0.5)
+    };
+
+    @Override
+    public void run(String... args) {
+        long started = System.currentTimeMillis();
+        System.out.println("Generating synthetic data: " + properties.getUsers() + " users x "
+                + properties.getTransactionsPerUser() + " transactions...");
+
+        // 1. Create all users in one batch and read back their IDs
+        String runId = Long.toString(started, 36);
+        List<Long> userIds = insertUsers(runId);
+
+        // 2. Fill each user's data from its own deterministic random stream
+        long totalTransactions = 0;
+        for (int u = 0; u < userIds.size(); u++) {
+            SplittableRandom random = new SplittableRandom(properties.getSeed() + u);
+            totalTransactions += generateUser(userIds.get(u), random);
+        }
+
+        long seconds = Math.max(1, (System.currentTimeMillis() - started) / 1000);
+        System.out.println("Synthetic data completed: " + userIds.size() + " users, " + totalTransactions
+                + " transactions in " + seconds + "s (" + (totalTransactions / seconds) + " transactions/s).");
+    }
+
+    /**
+     * Helper: Insert all users and return their IDs in insertion order
+     */
+    private List<Long> insertUsers(String runId) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        String passwordHash = new BCryptPasswordEncoder().encode("synthetic123");
+        String emailPrefix = "synthetic+" + runId + "-";
+
+        List<Object[]> rows = new ArrayList<>(properties.getUsers());
+        for (int u = 0; u < properties.getUsers(); u++) {
+            rows.add(new Object[]{"Synthetic User " + (u + 1), emailPrefix + (u + 1) + "@example.com", passwordHash,
+                    "ACTIVE", "PKR", now, now});
+        }
+        batchInsert("INSERT INTO users (full_name, email, password_hash, status, preferred_currency, created_at, "
+                + "updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM users WHERE email LIKE ? ORDER BY id", Long.class,
+                emailPrefix + "%");
+    }
+
+    /**
+     * Helper: Generate everything owned by one user
+     * @return Number of generated transactions
+     */
+    private int generateUser(Long userId, SplittableRandom random) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        // 1. Dimensions
+        List<Object[]> accounts = new ArrayList<>();
+        for (int i = 0; i < properties.getAccountsPerUser(); i++) {
+            String type = ACCOUNT_TYPES[i % ACCOUNT_TYPES.length];
+            BigDecimal initial = BigDecimal.valueOf(random.nextLong(10_000_00L, 500_000_00L), 2);
+            accounts.add(new Object[]{userId, type + " " + (i / ACCOUNT_TYPES.length + 1), type, "PKR", initial,
+                    initial, false, now, now});
+        }
+        long[] accountIds = insertOwned("accounts", "INSERT INTO accounts (user_id, name, type, currency_code, "
+                + "initial_balance, current_balance, is_archived, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", accounts, userId);
+
+        List<Object[]> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            categories.add(new Object[]{userId, CATEGORIES[i].name, CATEGORIES[i].type, i, false, now, now});
+        }
+        long[] categoryIds = insertOwned("categories", "INSERT INTO categories (user_id, name, type, sort_order, "
+                + "is_archived, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", categories, userId);
+
+        List<Object[]> merchants = new ArrayList<>();
+        for (String name : MERCHANTS) {
+            merchants.add(new Object[]{userId, name, now, now});
+        }
+        long[] merchantIds = insertOwned("merchants", "INSERT INTO merchants (user_id, name, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?)", merchants, userId);
+
+        long[] paymentMethodIds = insertOwned("payment_methods", "INSERT INTO payment_methods (user_id, name, type, "
+                        + "last4, is_archived, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                Arrays.asList(new Object[]{userId, "Debit Card", "CARD", "4242", false, now, now},
+                        new Object[]{userId, "Credit Card", "CARD", "1881", false, now, now},
+                        new Object[]{userId, "Cash", "CASH", null, false, now, now}), userId);
+
+        List<Object[]> tags = new ArrayList<>();
+        for (int i = 0; i < Math.min(properties.getTagsPerUser(), TAGS.length); i++) {
+            tags.add(new Object[]{userId, TAGS[i], now});
+        }
+        long[] tagIds = insertOwned("tags", "INSERT INTO tags (user_id, name, created_at) VALUES (?, ?, ?)", tags, userId);
+
+        // 2. Transactions, remembering which ones get tags and receipts
+        int count = properties.getTransactionsPerUser();
+        LongList tagLinks = new LongList(); // pairs of (transaction index, tag ID)
+        LongList receipts = new LongList(); // transaction indexes
+        insertTransactions(userId, count, accountIds, categoryIds, merchantIds, paymentMethodIds, tagIds,
+                tagLinks, receipts, random);
+        long[] transactionIds = fetchIds("transactions", userId);
+
+        // 3. Tag links and receipt metadata
+        List<Object[]> links = new ArrayList<>(properties.getBatchSize());
+        for (int i = 0; i < tagLinks.size(); i += 2) {
+            links.add(new Object[]{transactionIds[(int) tagLinks.get(i)], tagLinks.get(i + 1)});
+            links = flushIfFull("INSERT INTO transaction_tags (transaction_id, tag_id) VALUES (?, ?)", links);
+        }
+        batchInsert("INSERT INTO transaction_tags (transaction_id, tag_id) VALUES (?, ?)", links);
+
+        String attachmentSql = "INSERT INTO attachments (transaction_id, file_name, file_path, mime_type, "
+                + "file_size_bytes, uploaded_at) VALUES (?, ?, ?, ?, ?, ?)";
+        List<Object[]> attachments = new ArrayList<>(properties.getBatchSize());
+        for (int i = 0; i < receipts.size(); i++) {
+            long transactionId = transactionIds[(int) receipts.get(i)];
+            String fileName = "receipt-" + transactionId + ".jpg";
+            attachments.add(new Object[]{transactionId, fileName, "uploads/synthetic/" + userId + "/" + fileName,
+                    "image/jpeg", random.nextLong(40_000, 400_000), now});
+            attachments = flushIfFull(attachmentSql, attachments);
+        }
+        batchInsert(attachmentSql, attachments);
+
+        // 4. Monthly budgets and recurring rules
+        insertBudgets(userId, categoryIds, now);
+        insertRecurringRules(userId, accountIds, categoryIds, merchantIds, paymentMethodIds, now);
+
+        // 5. Derive balances and daily rollups from the inserted transactions
+        jdbcTemplate.update("UPDATE accounts a SET current_balance = initial_balance + COALESCE((SELECT "
+                + "SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE -t.amount END) FROM transactions t "
+                + "WHERE t.account_id = a.id AND t.status = 'CLEARED'), 0) WHERE a.user_id = ?", userId);
+        transactionRollupService.rebuildForUser(userId);
+        return count;
+    }
+
+    /**
+     * Helper: Generate and insert one user's transactions in batches
+     */
+    private void insertTransactions(Long userId, int count, long[] accountIds, long[] categoryIds,
+                                    long[] merchantIds, long[] paymentMethodIds, long[] tagIds,
+                                    LongList tagLinks, LongList receipts, SplittableRandom random) {
+        String sql = "INSERT INTO transactions (user_id, account_id, category_id, payment_method_id, merchant_id, "
+                + "type, amount, currency_code, transaction_date, status, reference_number, description, "
+                + "is_recurring_instance, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        int totalWeight = 0;
+        double weightedMean = 0;
+        for (CategoryProfile category : CATEGORIES) {
+            totalWeight += category.weight;
+            if ("EXPENSE".equals(category.type)) {
+                weightedMean += category.weight * category.median * Math.exp(category.spread * category.spread / 2);
+            }
+        }
+        double monthlySpend = weightedMean / totalWeight * count * 30.0 / properties.getHistoryDays();
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zone);
+        LocalDate firstDay = today.minusDays(properties.getHistoryDays() - 1);
+
+        // Paydays: the 1st of every month in the history
+        List<LocalDate> paydays = new ArrayList<>();
+        for (LocalDate month = firstDay.withDayOfMonth(1); !month.isAfter(today); month = month.plusMonths(1)) {
+            if (!month.isBefore(firstDay)) {
+                paydays.add(month);
+            }
+        }
+
+        List<Object[]> batch = new ArrayList<>(properties.getBatchSize());
+        for (int i = 0; i < count; i++) {
+            int c;
+            LocalDate day;
+            if (i < paydays.size()) {
+                c = SALARY;
+                day = paydays.get(i);
+            } else {
+                // Category by relative frequency
+                int pick = random.nextInt(totalWeight);
+                c = 0;
+                while (pick >= CATEGORIES[c].weight) {
+                    pick -= CATEGORIES[c].weight;
+                    c++;
+                }
+
+                // Day uniformly over the history with busier weekends
+                do {
+                    day = today.minusDays(random.nextInt(properties.getHistoryDays()));
+                } while (day.getDayOfWeek().getValue() < DayOfWeek.SATURDAY.getValue() && random.nextInt(10) < 2);
+            }
+            CategoryProfile category = CATEGORIES[c];
+
+            // Time of day between 08:00 and 22:00
+            long millis = day.atStartOfDay(zone).toInstant().toEpochMilli()
+                    + random.nextLong(8 * 3_600_000L, 22 * 3_600_000L);
+            Timestamp date = new Timestamp(millis);
+
+            // Log-normal amount around the category median
+            double median = c == SALARY ? Math.max(category.median, monthlySpend * 1.1) : category.median;
+            double amount = median * Math.exp(category.spread * random.nextGaussian());
+            BigDecimal value = BigDecimal.valueOf(Math.max(1L, Math.round(amount * 100)), 2);
+
+            boolean income = "INCOME".equals(category.type);
+            Long merchantId = !income && random.nextInt(10) < 7 ? merchantIds[random.nextInt(merchantIds.length)] : null;
+            Long paymentMethodId = !income && random.nextInt(10) < 8
+                    ? paymentMethodIds[random.nextInt(paymentMethodIds.length)] : null;
+            String description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            String status = random.nextInt(100) < 95 ? "CLEARED" : "PENDING";
+
+            long accountId = c == SALARY ? accountIds[0] : accountIds[random.nextInt(accountIds.length)];
+            batch.add(new Object[]{userId, accountId, categoryIds[c],
+                    paymentMethodId, merchantId, category.type, value, "PKR", date, status, "SYN-" + userId + "-" + i,
+                    description, false, date, date});
+            batch = flushIfFull(sql, batch);
+
+            // Tags and receipts for a share of transactions
+            if (tagIds.length > 0 && random.nextInt(100) < properties.getTaggedPercent()) {
+                int first = random.nextInt(tagIds.length);
+                tagLinks.add(i).add(tagIds[first]);
+                if (tagIds.length > 1 && random.nextBoolean()) {
+                    tagLinks.add(i).add(tagIds[(first + 1 + random.nextInt(tagIds.length - 1)) % tagIds.length]);
+                }
+            }
+            if (random.nextInt(100) < properties.getAttachmentPercent()) {
+                receipts.add(i);
+            }
+        }
+        batchInsert(sql, batch);
+    }
+
+    /**
+     * Helper: One budget per month over the most frequent expense categories
+     */
+    private void insertBudgets(Long userId, long[] categoryIds, Timestamp now) {
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        ZoneId zone = ZoneId.systemDefault();
+        List<Object[]> budgets = new ArrayList<>();
+        for (int m = 0; m < properties.getBudgetMonths(); m++) {
+            LocalDate start = month.minusMonths(m);
+            LocalDate end = start.plusMonths(1).minusDays(1);
+            budgets.add(new Object[]{userId, "Budget " + start.getYear() + "-" + start.getMonthValue(), "MONTHLY",
+                    Timestamp.from(start.atStartOfDay(zone).toInstant()), Timestamp.from(end.atStartOfDay(zone).toInstant()),
+                    null, now, now});
+        }
+        long[] budgetIds = insertOwned("budgets", "INSERT INTO budgets (user_id, name, period_type, start_date, "
+                + "end_date, total_limit, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", budgets, userId);
+
+        List<Object[]> items = new ArrayList<>();
+        int expectedPerMonth = Math.max(1, properties.getTransactionsPerUser() * 30 / Math.max(1, properties.getHistoryDays()));
+        for (long budgetId : budgetIds) {
+            for (int c = 0; c < 4; c++) {
+                CategoryProfile category = CATEGORIES[c];
+                long limit = Math.round(category.median * expectedPerMonth * category.weight / 100.0 * 1.1);
+                items.add(new Object[]{budgetId, categoryIds[c], BigDecimal.valueOf(Math.max(1000, limit)), 80});
+            }
+        }
+        batchInsert("INSERT INTO budget_items (budget_id, category_id, limit_amount, warning_percent) "
+                + "VALUES (?, ?, ?, ?)", items);
+    }
+
+    /**
+     * Helper: Recurring rules for rent, salary, utilities and subscriptions
+     */
+    private void insertRecurringRules(Long userId, long[] accountIds, long[] categoryIds, long[] merchantIds,
+                                      long[] paymentMethodIds, Timestamp now) {
+        // category index, day of month, merchant index (-1 for none)
+        int[][] templates = {{11, 1, -1}, {SALARY, 1, -1}, {5, 10, 5}, {6, 15, 8}};
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate start = LocalDate.now().minusDays(properties.getHistoryDays()).withDayOfMonth(1);
+        List<Object[]> rules = new ArrayList<>();
+        for (int r = 0; r < properties.getRecurringRulesPerUser(); r++) {
+            int[] template = templates[r % templates.length];
+            CategoryProfile category = CATEGORIES[template[0]];
+            LocalDate next = LocalDate.now().plusMonths(1).withDayOfMonth(template[1]);
+            rules.add(new Object[]{userId, accountIds[0], categoryIds[template[0]],
+                    "INCOME".equals(category.type) ? null : paymentMethodIds[0],
+                    template[2] >= 0 ? merchantIds[template[2]] : null, category.type,
+                    BigDecimal.valueOf(Math.round(category.median)), "PKR", category.name, "MONTHLY", 1, template[1],
+                    Timestamp.from(start.atStartOfDay(zone).toInstant()), Timestamp.from(next.atStartOfDay(zone).toInstant()),
+                    true, now, now});
+        }
+        batchInsert("INSERT INTO recurring_rules (user_id, account_id, category_id, payment_method_id, merchant_id, "
+                + "type, amount, currency_code, description, frequency, interval_val, day_of_month, start_date, "
+                + "next_run_date, is_active, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rules);
+    }
+
+    /**
+     * Helper: Insert rows owned by a user and return the user's IDs of that table in insertion order
+     */
+    private long[] insertOwned(String table, String sql, List<Object[]> rows, Long userId) {
+        batchInsert(sql, rows);
+        return fetchIds(table, userId);
+    }
+
+    /**
+     * Helper: IDs of a user's rows in a table, in insertion (identity) order
+     */
+    private long[] fetchIds(String table, Long userId) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE user_id = ? ORDER BY id", Long.class, userId)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Helper: Write a full batch and start a new one
+     */
+    private List<Object[]> flushIfFull(String sql, List<Object[]> batch) {
+        if (batch.size() < properties.getBatchSize()) {
+            return batch;
+        }
+        batchInsert(sql, batch);
+        return new ArrayList<>(properties.getBatchSize());
+    }
+
+    /**
+     * Helper: Batched insert, skipping empty batches
+     */
+    private void batchInsert(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+
+    /**
+     * Category with its share of transactions and amount distribution
+     */
+    private record CategoryProfile(String name, String type, int weight, double median, double spread) {
+    }
+
+    /**
+     * Growable array of primitive longs
+     */
+    private static final class LongList {
+        private long[] values = new long[1024];
+        private int size;
+
+        private LongList add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+            return this;
+        }
+
+        private long get(int index) {
+            return values[index];
+        }
+
+        private int size() {
+            return size;
+        }
+    }
+}
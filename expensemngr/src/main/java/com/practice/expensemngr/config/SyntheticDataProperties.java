@@ -0,0 +1,112 @@
+package com.practice.expensemngr.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the synthetic dataset generator (profile "synthetic-data")
+ */
+@Configuration
+@ConfigurationProperties(prefix = "synthetic-data")
+public class SyntheticDataProperties {
+
+    private int users = 10;
+    private int accountsPerUser = 3;
+    private int transactionsPerUser = 10000;
+    private int historyDays = 730; // Transactions are spread over the last two years
+    private int tagsPerUser = 8;
+    private int taggedPercent = 30; // Share of transactions with one or two tags
+    private int budgetMonths = 12; // One monthly budget per user for each of the last N months
+    private int recurringRulesPerUser = 4;
+    private int attachmentPercent = 5; // Share of transactions with receipt metadata
+    private int batchSize = 5000;
+    private long seed = 42; // Same seed and settings always produce the same data
+
+    public int getUsers() {
+        return users;
+    }
+
+    public void setUsers(int users) {
+        this.users = users;
+    }
+
+    public int getAccountsPerUser() {
+        return accountsPerUser;
+    }
+
+    public void setAccountsPerUser(int accountsPerUser) {
+        this.accountsPerUser = accountsPerUser;
+    }
+
+    public int getTransactionsPerUser() {
+        return transactionsPerUser;
+    }
+
+    public void setTransactionsPerUser(int transactionsPerUser) {
+        this.transactionsPerUser = transactionsPerUser;
+    }
+
+    public int getHistoryDays() {
+        return historyDays;
+    }
+
+    public void setHistoryDays(int historyDays) {
+        this.historyDays = historyDays;
+    }
+
+    public int getTagsPerUser() {
+        return tagsPerUser;
+    }
+
+    public void setTagsPerUser(int tagsPerUser) {
+        this.tagsPerUser = tagsPerUser;
+    }
+
+    public int getTaggedPercent() {
+        return taggedPercent;
+    }
+
+    public void setTaggedPercent(int taggedPercent) {
+        this.taggedPercent = taggedPercent;
+    }
+
+    public int getBudgetMonths() {
+        return budgetMonths;
+    }
+
+    public void setBudgetMonths(int budgetMonths) {
+        this.budgetMonths = budgetMonths;
+    }
+
+    public int getRecurringRulesPerUser() {
+        return recurringRulesPerUser;
+    }
+
+    public void setRecurringRulesPerUser(int recurringRulesPerUser) {
+        this.recurringRulesPerUser = recurringRulesPerUser;
+    }
+
+    public int getAttachmentPercent() {
+        return attachmentPercent;
+    }
+
+    public void setAttachmentPercent(int attachmentPercent) {
+        this.attachmentPercent = attachmentPercent;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+}
@@ -0,0 +1,22 @@
+package com.practice.expensemngr.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for transaction search
+ */
+@Configuration
+@ConfigurationProperties(prefix = "search")
+public class TransactionSearchProperties {
+
+    private int maxInListIds = 1000; // above this, index matches are left to SQL predicates
+
+    public int getMaxInListIds() {
+        return maxInListIds;
+    }
+
+    public void setMaxInListIds(int maxInListIds) {
+        this.maxInListIds = maxInListIds;
+    }
+}
@@ -0,0 +1,31 @@
+package com.practice.expensemngr.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the in-memory tag bitmap index
+ */
+@Configuration
+@ConfigurationProperties(prefix = "search.tag-index")
+public class TransactionTagIndexProperties {
+
+    private boolean enabled = true;
+    private int maxTags = 10000; // tag bitmaps kept in memory
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxTags() {
+        return maxTags;
+    }
+
+    public void setMaxTags(int maxTags) {
+        this.maxTags = maxTags;
+    }
+}
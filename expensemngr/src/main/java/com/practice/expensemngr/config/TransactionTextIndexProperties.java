@@ -0,0 +1,31 @@
+package com.practice.expensemngr.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the in-memory transaction keyword index
+ */
+@Configuration
+@ConfigurationProperties(prefix = "search.text-index")
+public class TransactionTextIndexProperties {
+
+    private boolean enabled = true;
+    private int maxDocuments = 500000; // transactions indexed across all users
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxDocuments() {
+        return maxDocuments;
+    }
+
+    public void setMaxDocuments(int maxDocuments) {
+        this.maxDocuments = maxDocuments;
+    }
+}
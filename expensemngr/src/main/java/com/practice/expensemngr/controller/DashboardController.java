@@ -1,6 +1,7 @@
 package com.practice.expensemngr.controller;
 
 import com.practice.expensemngr.dto.*;
+import com.practice.expensemngr.service.DashboardCache;
 import com.practice.expensemngr.service.DashboardService;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,6 +9,8 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
@@ -18,6 +21,9 @@ public class DashboardController {
     @Autowired
     private DashboardService dashboardService;
 
+    @Autowired
+    private DashboardCache dashboardCache;
+
     /**
      * Get dashboard summary with account balances, totals, and recent transactions
      * @param userId User ID (required)
@@ -34,8 +40,9 @@ public class DashboardController {
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date endDate,
             @RequestParam(required = false) Long accountId,
             @RequestParam(required = false) Integer limit) {
-        DashboardSummaryDTO summary = dashboardService.getDashboardSummary(
-                userId, startDate, endDate, accountId, limit);
+        DashboardSummaryDTO summary = dashboardCache.get(userId, "summary",
+                Arrays.asList(startDate, endDate, accountId, limit),
+                () -> dashboardService.getDashboardSummary(userId, startDate, endDate, accountId, limit));
         return ResponseEntity.ok(summary);
     }
 
@@ -55,8 +62,9 @@ public class DashboardController {
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date endDate,
             @RequestParam @NotNull String type,
             @RequestParam(required = false) Long accountId) {
-        CategoryBreakdownDTO breakdown = dashboardService.getCategoryBreakdown(
-                userId, startDate, endDate, type, accountId);
+        CategoryBreakdownDTO breakdown = dashboardCache.get(userId, "category-breakdown",
+                Arrays.asList(startDate, endDate, type, accountId),
+                () -> dashboardService.getCategoryBreakdown(userId, startDate, endDate, type, accountId));
         return ResponseEntity.ok(breakdown);
     }
 
@@ -72,8 +80,9 @@ public class DashboardController {
             @RequestParam @NotNull Long userId,
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date startDate,
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date endDate) {
-        List<BudgetProgressDTO> progress = dashboardService.getBudgetProgress(
-                userId, startDate, endDate);
+        List<BudgetProgressDTO> progress = dashboardCache.get(userId, "budget-progress",
+                Arrays.asList(startDate, endDate),
+                () -> dashboardService.getBudgetProgress(userId, startDate, endDate));
         return ResponseEntity.ok(progress);
     }
 
@@ -82,8 +91,9 @@ public class DashboardController {
      * @param userId User ID (required)
      * @param startDate Start date (optional, defaults to 30 days ago)
      * @param endDate End date (optional, defaults to today)
-     * @param groupBy Grouping: DAILY, WEEKLY, MONTHLY (optional, default DAILY)
+     * @param groupBy Grouping: DAILY, WEEKLY, MONTHLY, QUARTERLY, YEARLY (optional, default DAILY)
      * @param accountId Filter by specific account (optional)
+     * @param timeZone Time zone ID periods are cut in, e.g. Asia/Karachi (optional, default server zone)
      * @return Spending trends
      */
     @GetMapping("/spending-trends")
@@ -92,9 +102,11 @@ public class DashboardController {
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date startDate,
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date endDate,
             @RequestParam(required = false) String groupBy,
-            @RequestParam(required = false) Long accountId) {
-        SpendingTrendDTO trends = dashboardService.getSpendingTrends(
-                userId, startDate, endDate, groupBy, accountId);
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) String timeZone) {
+        SpendingTrendDTO trends = dashboardCache.get(userId, "spending-trends",
+                Arrays.asList(startDate, endDate, groupBy, accountId, timeZone),
+                () -> dashboardService.getSpendingTrends(userId, startDate, endDate, groupBy, accountId, timeZone));
         return ResponseEntity.ok(trends);
     }
 
@@ -112,8 +124,9 @@ public class DashboardController {
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date startDate,
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date endDate,
             @RequestParam(required = false) Long accountId) {
-        IncomeExpenseComparisonDTO comparison = dashboardService.getIncomeExpenseComparison(
-                userId, startDate, endDate, accountId);
+        IncomeExpenseComparisonDTO comparison = dashboardCache.get(userId, "income-expense-comparison",
+                Arrays.asList(startDate, endDate, accountId),
+                () -> dashboardService.getIncomeExpenseComparison(userId, startDate, endDate, accountId));
         return ResponseEntity.ok(comparison);
     }
 
@@ -133,8 +146,9 @@ public class DashboardController {
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date endDate,
             @RequestParam(required = false) Integer limit,
             @RequestParam @NotNull String type) {
-        TopCategoryDTO topCategories = dashboardService.getTopCategories(
-                userId, startDate, endDate, limit, type);
+        TopCategoryDTO topCategories = dashboardCache.get(userId, "top-categories",
+                Arrays.asList(startDate, endDate, limit, type),
+                () -> dashboardService.getTopCategories(userId, startDate, endDate, limit, type));
         return ResponseEntity.ok(topCategories);
     }
 
@@ -146,7 +160,38 @@ public class DashboardController {
     @GetMapping("/account-summary")
     public ResponseEntity<AccountBalanceOverviewDTO> getAccountBalanceOverview(
             @RequestParam @NotNull Long userId) {
-        AccountBalanceOverviewDTO overview = dashboardService.getAccountBalanceOverview(userId);
+        AccountBalanceOverviewDTO overview = dashboardCache.get(userId, "account-summary",
+                Collections.emptyList(),
+                () -> dashboardService.getAccountBalanceOverview(userId));
         return ResponseEntity.ok(overview);
     }
-}
\ No newline at end of file
+
+    /**
+     * Get several dashboard widgets for one period in a single call
+     * @param userId User ID (required)
+     * @param startDate Start date (optional, defaults to current month start)
+     * @param endDate End date (optional, defaults to current month end)
+     * @param accountId Filter by specific account (optional)
+     * @param limit Number of recent transactions in the summary (optional, default 10)
+     * @param groupBy Trend grouping: DAILY, WEEKLY, MONTHLY, QUARTERLY, YEARLY (optional, default DAILY)
+     * @param topLimit Number of top expense categories (optional, default 5)
+     * @param widgets Widgets to include, comma separated (optional, defaults to all)
+     * @return Combined dashboard payload
+     */
+    @GetMapping("/all")
+    public ResponseEntity<DashboardCompositeDTO> getCompositeDashboard(
+            @RequestParam @NotNull Long userId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date startDate,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date endDate,
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) Integer topLimit,
+            @RequestParam(required = false) List<String> widgets) {
+        DashboardCompositeDTO dashboard = dashboardCache.get(userId, "all",
+                Arrays.asList(startDate, endDate, accountId, limit, groupBy, topLimit, widgets),
+                () -> dashboardService.getCompositeDashboard(
+                        userId, startDate, endDate, accountId, limit, groupBy, topLimit, widgets));
+        return ResponseEntity.ok(dashboard);
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -30,12 +31,12 @@ public class ExportController {
      * @return File download response
      */
     @PostMapping("/transactions")
-    public ResponseEntity<byte[]> exportTransactions(@Valid @RequestBody ExportRequestDTO request) {
+    public ResponseEntity<StreamingResponseBody> exportTransactions(@Valid @RequestBody ExportRequestDTO request) {
         // Set data type
         request.setDataType("TRANSACTIONS");
 
-        // Generate export
-        byte[] fileContent = exportService.exportTransactions(request);
+        // Generate export; the file is written to the response as it is produced
+        StreamingResponseBody fileContent = exportService.exportTransactions(request);
 
         // Build response headers
         HttpHeaders headers = buildResponseHeaders(request.getFormat(), "transactions");
@@ -110,22 +111,24 @@ public class ExportController {
 
     /**
      * Export all data (complete backup)
-     * @param request Export request (JSON format only)
+     * @param request Export request (JSON, JSON_GZIP or a ZIP of CSV files)
      * @return File download response
      */
     @PostMapping("/all")
-    public ResponseEntity<byte[]> exportAllData(@Valid @RequestBody ExportRequestDTO request) {
+    public ResponseEntity<StreamingResponseBody> exportAllData(@Valid @RequestBody ExportRequestDTO request) {
         // Set data type
         request.setDataType("ALL");
 
-        // Force JSON format for all data
-        request.setFormat("JSON");
+        // Force JSON format for all data unless gzipped JSON or a ZIP bundle was requested
+        if (!"JSON_GZIP".equals(request.getFormat()) && !"ZIP".equals(request.getFormat())) {
+            request.setFormat("JSON");
+        }
 
-        // Generate export
-        byte[] fileContent = exportService.exportAllData(request);
+        // Generate export; the file is written to the response as it is produced
+        StreamingResponseBody fileContent = exportService.exportAllData(request);
 
         // Build response headers
-        HttpHeaders headers = buildResponseHeaders("JSON", "all_data");
+        HttpHeaders headers = buildResponseHeaders(request.getFormat(), "all_data");
 
         return ResponseEntity.ok()
                 .headers(headers)
@@ -0,0 +1,132 @@
+package com.practice.expensemngr.controller;
+
+import com.practice.expensemngr.dto.ExportJobDTO;
+import com.practice.expensemngr.dto.ExportRequestDTO;
+import com.practice.expensemngr.entity.ExportJobs;
+import com.practice.expensemngr.service.ExportJobService;
+import com.practice.expensemngr.util.ExportFormatEnum;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller for background export jobs: submit, poll progress, download the finished file
+ */
+@RestController
+@RequestMapping("/export/jobs")
+public class ExportJobController {
+
+    @Autowired
+    private ExportJobService exportJobService;
+
+    /**
+     * Queue a transactions export
+     * @param request Export request with filters
+     * @return Queued job
+     */
+    @PostMapping("/transactions")
+    public ResponseEntity<ExportJobDTO> submitTransactionsExport(@Valid @RequestBody ExportRequestDTO request) {
+        request.setDataType("TRANSACTIONS");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(exportJobService.submitJob(request));
+    }
+
+    /**
+     * Queue an accounts export
+     * @param request Export request with filters
+     * @return Queued job
+     */
+    @PostMapping("/accounts")
+    public ResponseEntity<ExportJobDTO> submitAccountsExport(@Valid @RequestBody ExportRequestDTO request) {
+        request.setDataType("ACCOUNTS");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(exportJobService.submitJob(request));
+    }
+
+    /**
+     * Queue a budgets export
+     * @param request Export request with filters
+     * @return Queued job
+     */
+    @PostMapping("/budgets")
+    public ResponseEntity<ExportJobDTO> submitBudgetsExport(@Valid @RequestBody ExportRequestDTO request) {
+        request.setDataType("BUDGETS");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(exportJobService.submitJob(request));
+    }
+
+    /**
+     * Queue a categories export
+     * @param request Export request with filters
+     * @return Queued job
+     */
+    @PostMapping("/categories")
+    public ResponseEntity<ExportJobDTO> submitCategoriesExport(@Valid @RequestBody ExportRequestDTO request) {
+        request.setDataType("CATEGORIES");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(exportJobService.submitJob(request));
+    }
+
+    /**
+     * Queue a complete data backup
+     * @param request Export request (JSON, JSON_GZIP or a ZIP of CSV files)
+     * @return Queued job
+     */
+    @PostMapping("/all")
+    public ResponseEntity<ExportJobDTO> submitAllDataExport(@Valid @RequestBody ExportRequestDTO request) {
+        request.setDataType("ALL");
+        if (!"JSON_GZIP".equals(request.getFormat()) && !"ZIP".equals(request.getFormat())) {
+            request.setFormat("JSON");
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(exportJobService.submitJob(request));
+    }
+
+    /**
+     * Get all export jobs for a user
+     * @param userId User ID
+     * @return List of jobs, newest first
+     */
+    @GetMapping
+    public ResponseEntity<List<ExportJobDTO>> getJobs(@RequestParam @NotNull Long userId) {
+        List<ExportJobDTO> jobs = exportJobService.getJobsByUser(userId);
+        return ResponseEntity.ok(jobs);
+    }
+
+    /**
+     * Get the status and progress of an export job
+     * @param id Job ID
+     * @return Job details
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ExportJobDTO> getJob(@PathVariable @NotNull Long id) {
+        ExportJobDTO job = exportJobService.getJob(id);
+        return ResponseEntity.ok(job);
+    }
+
+    /**
+     * Download the file of a completed job. Range requests are answered with 206 Partial
+     * Content, so an interrupted download can be resumed.
+     * @param id Job ID
+     * @return File as resource with proper headers
+     */
+    @GetMapping("/{id}/download")
+    public ResponseEntity<Resource> downloadJobFile(@PathVariable @NotNull Long id) {
+        // Check the job is ready and load its file
+        ExportJobs job = exportJobService.getDownloadableJob(id);
+        Resource resource = exportJobService.loadJobFileAsResource(job);
+
+        // Build response with headers
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ExportFormatEnum.valueOf(job.getFormat()).getMimeType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(job.getDownloadFileName()).build().toString())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .eTag("\"export-job-" + job.getId() + "\"")
+                .body(resource);
+    }
+}
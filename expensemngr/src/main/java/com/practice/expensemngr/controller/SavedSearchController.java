@@ -0,0 +1,94 @@
+package com.practice.expensemngr.controller;
+
+import com.practice.expensemngr.dto.SavedSearchCreateRequestDTO;
+import com.practice.expensemngr.dto.SavedSearchDTO;
+import com.practice.expensemngr.dto.SavedSearchMatchDTO;
+import com.practice.expensemngr.service.SavedSearchService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/saved-searches")
+public class SavedSearchController {
+
+    @Autowired
+    private SavedSearchService savedSearchService;
+
+    /**
+     * Save a transaction filter to be alerted about new matching transactions
+     * @param request Saved search data
+     * @return Created saved search
+     */
+    @PostMapping
+    public ResponseEntity<SavedSearchDTO> createSavedSearch(@Valid @RequestBody SavedSearchCreateRequestDTO request) {
+        SavedSearchDTO savedSearch = savedSearchService.createSavedSearch(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(savedSearch);
+    }
+
+    /**
+     * Get all saved searches for a user
+     * @param userId User ID
+     * @return List of saved searches
+     */
+    @GetMapping
+    public ResponseEntity<List<SavedSearchDTO>> getSavedSearches(@RequestParam @NotNull Long userId) {
+        List<SavedSearchDTO> savedSearches = savedSearchService.getSavedSearchesByUser(userId);
+        return ResponseEntity.ok(savedSearches);
+    }
+
+    /**
+     * Pause or resume matching of a saved search
+     * @param id Saved search ID
+     * @param active Whether new transactions are matched against it
+     * @return Updated saved search
+     */
+    @PatchMapping("/{id}/active")
+    public ResponseEntity<SavedSearchDTO> setActive(
+            @PathVariable @NotNull Long id,
+            @RequestParam boolean active) {
+        SavedSearchDTO savedSearch = savedSearchService.setActive(id, active);
+        return ResponseEntity.ok(savedSearch);
+    }
+
+    /**
+     * Delete a saved search (also removes its matches)
+     * @param id Saved search ID
+     * @return No content
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable @NotNull Long id) {
+        savedSearchService.deleteSavedSearch(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Get transactions that matched a user's saved searches, newest first
+     * @param userId User ID
+     * @param unreadOnly Only matches not yet marked as read (default: false)
+     * @return List of matches
+     */
+    @GetMapping("/matches")
+    public ResponseEntity<List<SavedSearchMatchDTO>> getMatches(
+            @RequestParam @NotNull Long userId,
+            @RequestParam(defaultValue = "false") boolean unreadOnly) {
+        List<SavedSearchMatchDTO> matches = savedSearchService.getMatches(userId, unreadOnly);
+        return ResponseEntity.ok(matches);
+    }
+
+    /**
+     * Mark a match as read
+     * @param id Match ID
+     * @return No content
+     */
+    @PatchMapping("/matches/{id}/read")
+    public ResponseEntity<Void> markMatchRead(@PathVariable @NotNull Long id) {
+        savedSearchService.markMatchRead(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -6,11 +6,14 @@ import com.practice.expensemngr.service.TransactionSearchService;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.util.Date;
+import java.util.List;
 
 @RestController
 @RequestMapping("/transactions")
@@ -31,9 +34,15 @@ public class TransactionSearchController {
      * @param maxAmount Maximum amount (optional)
      * @param keyword Text search in description and reference (optional)
      * @param tagId Filter by tag (optional)
+     * @param tagIds Filter by several tags (optional)
+     * @param tagMatch How tags combine: ALL, ANY or NONE (optional, default ANY)
      * @param status Filter by status: CLEARED, PENDING (optional)
      * @param page Page number (optional, default 0)
      * @param size Page size (optional, default 20)
+     * @param cursor Switches to cursor paging: empty for the first page, then a nextCursor or
+     *               prevCursor from the previous response; page is ignored (optional)
+     * @param facets Facet counts and sums to return for the whole filtered set: CATEGORY,
+     *               ACCOUNT, TYPE, STATUS, TAG (optional, none by default)
      * @return Paginated search results
      */
     @GetMapping("/search")
@@ -48,9 +57,13 @@ public class TransactionSearchController {
             @RequestParam(required = false) BigDecimal maxAmount,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Long tagId,
+            @RequestParam(required = false) List<Long> tagIds,
+            @RequestParam(required = false) String tagMatch,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) Integer page,
-            @RequestParam(required = false) Integer size) {
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) List<String> facets) {
 
         // Build filter DTO
         TransactionFilterDTO filter = TransactionFilterDTO.builder()
@@ -64,12 +77,71 @@ public class TransactionSearchController {
                 .maxAmount(maxAmount)
                 .keyword(keyword)
                 .tagId(tagId)
+                .tagIds(tagIds)
+                .tagMatch(tagMatch)
                 .status(status)
                 .page(page)
                 .size(size)
+                .cursor(cursor)
+                .facets(facets)
                 .build();
 
         TransactionSearchResponseDTO results = transactionSearchService.searchTransactions(filter);
         return ResponseEntity.ok(results);
     }
-}
\ No newline at end of file
+
+    /**
+     * Stream every transaction matching the filters as newline-delimited JSON
+     * @param userId User ID (required)
+     * @param startDate Start date (optional)
+     * @param endDate End date (optional)
+     * @param accountId Filter by account (optional)
+     * @param categoryId Filter by category (optional)
+     * @param type Filter by type: EXPENSE, INCOME, TRANSFER (optional)
+     * @param minAmount Minimum amount (optional)
+     * @param maxAmount Maximum amount (optional)
+     * @param keyword Text search in description and reference (optional)
+     * @param tagId Filter by tag (optional)
+     * @param tagIds Filter by several tags (optional)
+     * @param tagMatch How tags combine: ALL, ANY or NONE (optional, default ANY)
+     * @param status Filter by status: CLEARED, PENDING (optional)
+     * @return One search item per line in search order, written as rows are read
+     */
+    @GetMapping(value = "/search/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTransactions(
+            @RequestParam @NotNull Long userId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date startDate,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date endDate,
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long tagId,
+            @RequestParam(required = false) List<Long> tagIds,
+            @RequestParam(required = false) String tagMatch,
+            @RequestParam(required = false) String status) {
+
+        TransactionFilterDTO filter = TransactionFilterDTO.builder()
+                .userId(userId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .accountId(accountId)
+                .categoryId(categoryId)
+                .type(type)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .keyword(keyword)
+                .tagId(tagId)
+                .tagIds(tagIds)
+                .tagMatch(tagMatch)
+                .status(status)
+                .build();
+
+        StreamingResponseBody body = transactionSearchService.streamSearchResults(filter);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -1,15 +1,18 @@
 package com.practice.expensemngr.controller;
 
 import com.practice.expensemngr.dto.TransactionCreateRequestDTO;
+import com.practice.expensemngr.dto.TransactionPageDTO;
 import com.practice.expensemngr.dto.TransactionResponseDTO;
 import com.practice.expensemngr.service.TransactionsService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.practice.expensemngr.dto.TransferRequestDTO;
 import com.practice.expensemngr.dto.TransferResponseDTO;
 
@@ -40,19 +43,44 @@ public class TransactionsController {
     }
 
     /**
-     * Get all transactions for a user
+     * Get all transactions for a user, or one page of them in cursor mode
      * @param userId User ID
      * @param accountId Optional account filter
-     * @return List of transactions
+     * @param cursor Switches to cursor paging: empty for the first page, then a nextCursor or
+     *               prevCursor from the previous response (optional)
+     * @param size Page size in cursor mode (optional, default 20)
+     * @return List of transactions, or a TransactionPageDTO in cursor mode
      */
     @GetMapping
-    public ResponseEntity<List<TransactionResponseDTO>> getTransactions(
+    public ResponseEntity<?> getTransactions(
             @RequestParam @NotNull Long userId,
-            @RequestParam(required = false) Long accountId) {
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        if (cursor != null) {
+            TransactionPageDTO page = transactionsService.getTransactionsPage(userId, accountId, cursor, size);
+            return ResponseEntity.ok(page);
+        }
         List<TransactionResponseDTO> transactions = transactionsService.getTransactionsByUser(userId, accountId);
         return ResponseEntity.ok(transactions);
     }
 
+    /**
+     * Stream all transactions for a user as newline-delimited JSON, newest first
+     * @param userId User ID
+     * @param accountId Optional account filter
+     * @return One transaction per line, written as rows are read
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTransactions(
+            @RequestParam @NotNull Long userId,
+            @RequestParam(required = false) Long accountId) {
+        StreamingResponseBody body = transactionsService.streamTransactions(userId, accountId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * Get single transaction by ID
      * @param id Transaction ID
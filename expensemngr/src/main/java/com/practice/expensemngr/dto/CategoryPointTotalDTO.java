@@ -0,0 +1,35 @@
+package com.practice.expensemngr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * Aggregate row: total amount for one category at one point in time
+ * (a transaction timestamp, or the start of a rollup day)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryPointTotalDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long categoryId;
+    private Date pointDate;
+    private BigDecimal total;
+
+    /**
+     * Build a row from a day-grain rollup; the point is the start of that day
+     */
+    public CategoryPointTotalDTO(Long categoryId, LocalDate day, BigDecimal total) {
+        this(categoryId, Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant()), total);
+    }
+}
@@ -0,0 +1,24 @@
+package com.practice.expensemngr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Aggregate row: total amount and count for one category
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryTotalDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long categoryId;
+    private BigDecimal total;
+    private Long count;
+}
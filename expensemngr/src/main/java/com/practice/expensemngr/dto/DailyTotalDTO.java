@@ -0,0 +1,26 @@
+package com.practice.expensemngr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Aggregate row: total amount and count for one transaction type on one day
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyTotalDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private LocalDate day;
+    private String type;
+    private BigDecimal total;
+    private Long count;
+}
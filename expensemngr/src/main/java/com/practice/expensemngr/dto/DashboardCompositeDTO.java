@@ -0,0 +1,36 @@
+package com.practice.expensemngr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * DTO for the composite dashboard: every requested widget computed over one period.
+ * Widgets that were not requested are null.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardCompositeDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private DashboardSummaryDTO summary;
+    private CategoryBreakdownDTO expenseBreakdown;
+    private CategoryBreakdownDTO incomeBreakdown;
+    private List<BudgetProgressDTO> budgetProgress;
+    private SpendingTrendDTO spendingTrends;
+    private IncomeExpenseComparisonDTO incomeExpenseComparison;
+    private TopCategoryDTO topCategories;
+    private AccountBalanceOverviewDTO accountSummary;
+
+    // Period information
+    private Date startDate;
+    private Date endDate;
+    private List<String> widgets;
+}
@@ -0,0 +1,37 @@
+package com.practice.expensemngr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * DTO for the status and progress of an export job
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+    private Long userId;
+    private String dataType;
+    private String format;
+    private String status;
+    private Long totalRows; // null until known
+    private Long rowsWritten;
+    private Double percentComplete; // null when the total is unknown
+    private Long bytesWritten;
+    private String fileName;
+    private String downloadUrl; // set once completed
+    private String errorMessage;
+    private Date createdAt;
+    private Date startedAt;
+    private Date completedAt;
+    private Date expiresAt;
+}
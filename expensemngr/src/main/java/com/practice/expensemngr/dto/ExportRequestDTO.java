@@ -22,8 +22,8 @@ public class ExportRequestDTO implements Serializable {
     private String dataType;
 
     @NotNull(message = "Export format is required")
-    @Pattern(regexp = "CSV|JSON|EXCEL|PDF",
-            message = "Format must be CSV, JSON, EXCEL, or PDF")
+    @Pattern(regexp = "CSV|JSON|EXCEL|PDF|CSV_GZIP|JSON_GZIP|ZIP|COLUMNAR",
+            message = "Format must be CSV, JSON, EXCEL, PDF, CSV_GZIP, JSON_GZIP, ZIP, or COLUMNAR")
     private String format;
 
     // Date range filters (for transactions)
@@ -38,4 +38,14 @@ public class ExportRequestDTO implements Serializable {
     private Long categoryId;
     private String type; // EXPENSE, INCOME, TRANSFER
     private String status; // CLEARED, PENDING
+
+    // JSON only: indent the output (default true)
+    private Boolean pretty;
+
+    // Delta export (transactions, JSON only): changes and deletions at or after this time
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Date since;
+
+    // Delta export: resume token from the previous delta export, instead of since
+    private String resumeToken;
 }
\ No newline at end of file
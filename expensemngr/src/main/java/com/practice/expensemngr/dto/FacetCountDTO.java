@@ -0,0 +1,25 @@
+package com.practice.expensemngr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * DTO for one value of a search facet: how many matching transactions have it and their total
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String value; // ID for category, account and tag; the value itself for type and status
+    private String label;
+    private Long count;
+    private BigDecimal total;
+}
@@ -0,0 +1,28 @@
+package com.practice.expensemngr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Aggregate row: total amount and count of matching transactions per
+ * (category, account, type, status) combination
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetRowDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long categoryId;
+    private Long accountId;
+    private String type;
+    private String status;
+    private Long count;
+    private BigDecimal total;
+}
@@ -0,0 +1,26 @@
+package com.practice.expensemngr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Aggregate row: total amount and count for one transaction type at one transaction timestamp
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InstantTotalDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Date instant;
+    private String type;
+    private BigDecimal total;
+    private Long count;
+}
@@ -0,0 +1,28 @@
+package com.practice.expensemngr.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * Request object for saving a transaction filter
+ */
+@Data
+public class SavedSearchCreateRequestDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @NotNull(message = "User ID is required")
+    private Long userId;
+
+    @NotBlank(message = "Saved search name is required")
+    @Size(min = 1, max = 100, message = "Saved search name must be between 1 and 100 characters")
+    private String name;
+
+    @Valid
+    @NotNull(message = "Filter is required")
+    private TransactionFilterDTO filter; // Account, category, type, status, amount range, keyword and dates; tags and paging are not supported
+}
@@ -0,0 +1,28 @@
+package com.practice.expensemngr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * DTO for saved search information
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+    private Long userId;
+    private String name;
+    private TransactionFilterDTO filter;
+    private Boolean active;
+    private Date createdAt;
+    private Date updatedAt;
+}
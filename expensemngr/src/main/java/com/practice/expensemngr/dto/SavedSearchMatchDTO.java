@@ -0,0 +1,32 @@
+package com.practice.expensemngr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * DTO for a transaction that matched a saved search
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchMatchDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+    private Long savedSearchId;
+    private String savedSearchName;
+    private Long transactionId;
+    private String description;
+    private BigDecimal amount;
+    private String currencyCode;
+    private Date transactionDate;
+    private Date matchedAt;
+    private Boolean read;
+}
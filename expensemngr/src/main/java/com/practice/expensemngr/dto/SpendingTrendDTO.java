@@ -19,7 +19,8 @@ import java.util.List;
 public class SpendingTrendDTO implements Serializable {
     private static final long serialVersionUID = 1L;
 
-    private String groupBy; // DAILY, WEEKLY, MONTHLY
+    private String groupBy; // DAILY, WEEKLY, MONTHLY, QUARTERLY, YEARLY
+    private String timeZone; // Zone the periods are cut in, e.g. "Asia/Karachi"
     private List<SpendingTrendDataPointDTO> dataPoints;
 
     // Period information
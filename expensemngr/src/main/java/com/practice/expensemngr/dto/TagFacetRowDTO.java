@@ -0,0 +1,24 @@
+package com.practice.expensemngr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Aggregate row: total amount and count of matching transactions carrying one tag
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagFacetRowDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long tagId;
+    private Long count;
+    private BigDecimal total;
+}
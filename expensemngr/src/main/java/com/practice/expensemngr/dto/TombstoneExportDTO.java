@@ -0,0 +1,26 @@
+package com.practice.expensemngr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * A deletion in a delta export: a transaction, one of its tag assignments, or one of its attachments
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TombstoneExportDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String entityType; // TRANSACTION_TAG, ATTACHMENT
+    private Long transactionId;
+    private Long tagId; // TRANSACTION_TAG only
+    private Long attachmentId; // ATTACHMENT only
+    private Date deletedAt;
+}
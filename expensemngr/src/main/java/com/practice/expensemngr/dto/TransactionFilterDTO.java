@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.util.Date;
+import java.util.List;
 
 /**
  * DTO for transaction filter criteria
@@ -29,7 +30,11 @@ public class TransactionFilterDTO implements Serializable {
     private BigDecimal maxAmount;
     private String keyword; // Search in description and reference
     private Long tagId;
+    private List<Long> tagIds; // Combined with tagId
+    private String tagMatch; // ALL, ANY (default), NONE
     private String status; // CLEARED, PENDING
     private Integer page;
     private Integer size;
+    private String cursor; // Keyset mode: empty for the first page, then nextCursor/prevCursor
+    private List<String> facets; // CATEGORY, ACCOUNT, TYPE, STATUS, TAG; none by default
 }
\ No newline at end of file
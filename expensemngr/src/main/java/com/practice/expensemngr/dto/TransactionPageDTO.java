@@ -0,0 +1,25 @@
+package com.practice.expensemngr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * DTO for one cursor-paginated page of a user's transactions
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionPageDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private List<TransactionResponseDTO> transactions;
+    private Integer pageSize;
+    private String nextCursor; // null on the last page
+    private String prevCursor; // null on the first page
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.Map;
 
 /**
  * DTO for paginated transaction search results
@@ -24,4 +25,7 @@ public class TransactionSearchResponseDTO implements Serializable {
     private Integer currentPage;
     private Integer pageSize;
     private TransactionFilterDTO appliedFilters;
+    private String nextCursor; // Cursor mode only; null on the last page
+    private String prevCursor; // Cursor mode only; null on the first page
+    private Map<String, List<FacetCountDTO>> facets; // Only when facets were requested
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.practice.expensemngr.dto;
+
+import com.practice.expensemngr.entity.Tags;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Projection row: one tag assigned to one transaction
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionTagRowDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long transactionId;
+    private Tags tag;
+}
@@ -0,0 +1,24 @@
+package com.practice.expensemngr.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Projection row: the searchable text of one transaction
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionTextDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+    private String description;
+    private String referenceNumber;
+    private String merchantName;
+}
@@ -16,7 +16,8 @@ import java.math.BigDecimal;
 @ToString
 @SuperBuilder
 @NoArgsConstructor
-@Table(name = "budget_items")
+@Table(name = "budget_items",
+        indexes = @Index(name = "idx_budget_items_budget", columnList = "budget_id"))
 public class BudgetItems implements Serializable {
 
     private static final long serialVersionUID = 1L;
@@ -17,7 +17,8 @@ import java.util.Date;
 @ToString
 @SuperBuilder
 @NoArgsConstructor
-@Table(name = "budgets")
+@Table(name = "budgets",
+        indexes = @Index(name = "idx_budgets_user_start", columnList = "user_id, start_date"))
 public class Budgets implements Serializable {
 
     private static final long serialVersionUID = 1L;
@@ -0,0 +1,77 @@
+package com.practice.expensemngr.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * An export written in the background to a file in storage, downloadable until it expires
+ */
+@Entity
+@Getter
+@Setter
+@ToString
+@SuperBuilder
+@NoArgsConstructor
+@Table(name = "export_jobs", indexes = {
+        @Index(name = "idx_export_jobs_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_export_jobs_status_expires", columnList = "status, expires_at")
+})
+public class ExportJobs implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "data_type", nullable = false)
+    private String dataType;
+
+    @Column(name = "format", nullable = false)
+    private String format;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @Column(name = "total_rows")
+    private Long totalRows;
+
+    @Column(name = "rows_written")
+    private Long rowsWritten;
+
+    @Column(name = "bytes_written")
+    private Long bytesWritten;
+
+    @Column(name = "stored_file_name")
+    private String storedFileName;
+
+    @Column(name = "download_file_name")
+    private String downloadFileName;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false)
+    private Date createdAt;
+
+    @Column(name = "started_at")
+    private Date startedAt;
+
+    @Column(name = "completed_at")
+    private Date completedAt;
+
+    @Column(name = "expires_at")
+    private Date expiresAt;
+
+}
@@ -17,7 +17,8 @@ import java.util.Date;
 @ToString
 @SuperBuilder
 @NoArgsConstructor
-@Table(name = "notification_preferences")
+@Table(name = "notification_preferences",
+        indexes = @Index(name = "idx_notification_preferences_user_type_channel", columnList = "user_id, type, channel"))
 public class NotificationPreferences implements Serializable {
 
     private static final long serialVersionUID = 1L;
@@ -17,7 +17,12 @@ import java.util.Date;
 @ToString
 @SuperBuilder
 @NoArgsConstructor
-@Table(name = "recurring_rules")
+@Table(name = "recurring_rules",
+        indexes = {
+                @Index(name = "idx_recurring_rules_active_next_run", columnList = "is_active, next_run_date"),
+                @Index(name = "idx_recurring_rules_user_next_run", columnList = "user_id, next_run_date"),
+                @Index(name = "idx_recurring_rules_account", columnList = "account_id")
+        })
 public class RecurringRules implements Serializable {
 
     private static final long serialVersionUID = 1L;
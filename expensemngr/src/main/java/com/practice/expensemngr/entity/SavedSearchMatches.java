@@ -0,0 +1,50 @@
+package com.practice.expensemngr.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * A transaction that matched a saved search, kept for in-app notification
+ */
+@Entity
+@Getter
+@Setter
+@ToString
+@SuperBuilder
+@NoArgsConstructor
+@Table(name = "saved_search_matches",
+        uniqueConstraints = @UniqueConstraint(name = "uk_saved_search_matches_search_transaction",
+                columnNames = {"saved_search_id", "transaction_id"}),
+        indexes = @Index(name = "idx_saved_search_matches_user_matched", columnList = "user_id, matched_at"))
+public class SavedSearchMatches implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "saved_search_id", nullable = false)
+    private Long savedSearchId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+
+    @Column(name = "matched_at", nullable = false)
+    private Date matchedAt;
+
+    @Column(name = "is_read", nullable = false)
+    private Boolean read;
+
+}
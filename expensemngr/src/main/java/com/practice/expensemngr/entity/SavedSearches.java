@@ -0,0 +1,76 @@
+package com.practice.expensemngr.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * A transaction filter stored by a user; new transactions matching it are recorded as matches
+ */
+@Entity
+@Getter
+@Setter
+@ToString
+@SuperBuilder
+@NoArgsConstructor
+@Table(name = "saved_searches",
+        indexes = @Index(name = "idx_saved_searches_user_active", columnList = "user_id, is_active"))
+public class SavedSearches implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "type")
+    private String type;
+
+    @Column(name = "status")
+    private String status;
+
+    @Column(name = "min_amount")
+    private BigDecimal minAmount;
+
+    @Column(name = "max_amount")
+    private BigDecimal maxAmount;
+
+    @Column(name = "keyword")
+    private String keyword;
+
+    @Column(name = "start_date")
+    private Date startDate;
+
+    @Column(name = "end_date")
+    private Date endDate;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean active;
+
+    @Column(name = "created_at", nullable = false)
+    private Date createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Date updatedAt;
+
+}
@@ -16,7 +16,8 @@ import java.util.Date;
 @ToString
 @SuperBuilder
 @NoArgsConstructor
-@Table(name = "tags")
+@Table(name = "tags",
+        indexes = @Index(name = "idx_tags_user_name", columnList = "user_id, name"))
 public class Tags implements Serializable {
 
     private static final long serialVersionUID = 1L;
@@ -0,0 +1,54 @@
+package com.practice.expensemngr.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * A record that something exported with a user's transactions was deleted, so delta exports
+ * can tell sync consumers to remove it
+ */
+@Entity
+@Getter
+@Setter
+@ToString
+@SuperBuilder
+@NoArgsConstructor
+@Table(name = "tombstones", indexes = {
+        @Index(name = "idx_tombstones_user_deleted", columnList = "user_id, deleted_at"),
+        @Index(name = "idx_tombstones_deleted", columnList = "deleted_at")
+})
+public class Tombstones implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "entity_type", nullable = false)
+    private String entityType;
+
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @Column(name = "attachment_id")
+    private Long attachmentId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Date deletedAt;
+
+}
@@ -15,7 +15,8 @@ import java.io.Serializable;
 @ToString
 @SuperBuilder
 @NoArgsConstructor
-@Table(name = "transaction_tags")
+@Table(name = "transaction_tags",
+        indexes = @Index(name = "idx_transaction_tags_transaction", columnList = "transaction_id, tag_id"))
 @IdClass(TransactionTagsId.class)  // ⬅️ THIS LINE FIXES THE ERROR
 public class TransactionTags implements Serializable {
 
@@ -18,7 +18,12 @@ import java.util.Date;
 @ToString
 @SuperBuilder
 @NoArgsConstructor
-@Table(name = "transactions")
+@Table(name = "transactions",
+        indexes = {
+                @Index(name = "idx_transactions_user_date", columnList = "user_id, transaction_date, created_at, id"),
+                @Index(name = "idx_transactions_account_date", columnList = "account_id, transaction_date"),
+                @Index(name = "idx_transactions_user_updated", columnList = "user_id, updated_at")
+        })
 public class Transactions implements Serializable {
 
     private static final long serialVersionUID = 1L;
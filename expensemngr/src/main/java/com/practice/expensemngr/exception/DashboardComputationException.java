@@ -0,0 +1,11 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when dashboard widgets cannot be computed
+ */
+public class DashboardComputationException extends RuntimeException {
+
+    public DashboardComputationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
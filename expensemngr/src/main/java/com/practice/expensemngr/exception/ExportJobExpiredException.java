@@ -0,0 +1,11 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when an export job's file has expired and was deleted
+ */
+public class ExportJobExpiredException extends RuntimeException {
+
+    public ExportJobExpiredException(Long jobId) {
+        super("Export file has expired for job ID: " + jobId);
+    }
+}
@@ -0,0 +1,11 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when a user already has the maximum number of export jobs queued or running
+ */
+public class ExportJobLimitExceededException extends RuntimeException {
+
+    public ExportJobLimitExceededException(int limit) {
+        super("Too many export jobs in progress; at most " + limit + " may be queued or running");
+    }
+}
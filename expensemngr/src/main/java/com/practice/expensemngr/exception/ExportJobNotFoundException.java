@@ -0,0 +1,11 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when export job is not found
+ */
+public class ExportJobNotFoundException extends RuntimeException {
+
+    public ExportJobNotFoundException(Long jobId) {
+        super("Export job not found with ID: " + jobId);
+    }
+}
@@ -0,0 +1,11 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when an export job's file is requested before it is ready
+ */
+public class ExportJobNotReadyException extends RuntimeException {
+
+    public ExportJobNotReadyException(Long jobId) {
+        super("Export file is not ready yet for job ID: " + jobId);
+    }
+}
@@ -283,4 +283,130 @@ public class GlobalExceptionHandler {
         error.put("error", ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(InvalidDashboardWidgetException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidDashboardWidget(InvalidDashboardWidgetException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(DashboardComputationException.class)
+    public ResponseEntity<Map<String, String>> handleDashboardComputation(DashboardComputationException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+    }
+
+    @ExceptionHandler(InvalidTrendGroupingException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidTrendGrouping(InvalidTrendGroupingException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(InvalidTimeZoneException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidTimeZone(InvalidTimeZoneException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidCursor(InvalidCursorException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(InvalidTagMatchException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidTagMatch(InvalidTagMatchException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(InvalidFacetException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidFacet(InvalidFacetException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(SavedSearchNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleSavedSearchNotFound(SavedSearchNotFoundException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(SavedSearchMatchNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleSavedSearchMatchNotFound(SavedSearchMatchNotFoundException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(InvalidSavedSearchException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidSavedSearch(InvalidSavedSearchException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(ExportJobNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleExportJobNotFound(ExportJobNotFoundException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(ExportJobNotReadyException.class)
+    public ResponseEntity<Map<String, String>> handleExportJobNotReady(ExportJobNotReadyException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(ExportJobExpiredException.class)
+    public ResponseEntity<Map<String, String>> handleExportJobExpired(ExportJobExpiredException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.GONE).body(error);
+    }
+
+    @ExceptionHandler(ExportJobLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleExportJobLimitExceeded(ExportJobLimitExceededException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+    }
+
+    @ExceptionHandler(InvalidResumeTokenException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidResumeToken(InvalidResumeTokenException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(ResumePointExpiredException.class)
+    public ResponseEntity<Map<String, String>> handleResumePointExpired(ResumePointExpiredException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.GONE).body(error);
+    }
+
+    @ExceptionHandler(UnsupportedExportFormatException.class)
+    public ResponseEntity<Map<String, String>> handleUnsupportedExportFormat(UnsupportedExportFormatException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(UnsupportedDeltaExportException.class)
+    public ResponseEntity<Map<String, String>> handleUnsupportedDeltaExport(UnsupportedDeltaExportException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+}
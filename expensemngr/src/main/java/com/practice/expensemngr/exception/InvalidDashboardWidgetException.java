@@ -0,0 +1,12 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when a requested dashboard widget is unknown
+ */
+public class InvalidDashboardWidgetException extends RuntimeException {
+
+    public InvalidDashboardWidgetException(String widget) {
+        super("Invalid dashboard widget: " + widget + ". Must be SUMMARY, CATEGORY_BREAKDOWN, BUDGET_PROGRESS, "
+                + "SPENDING_TRENDS, INCOME_EXPENSE_COMPARISON, TOP_CATEGORIES, or ACCOUNT_SUMMARY.");
+    }
+}
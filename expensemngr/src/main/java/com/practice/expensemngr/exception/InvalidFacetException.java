@@ -0,0 +1,11 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when a requested search facet is invalid
+ */
+public class InvalidFacetException extends RuntimeException {
+
+    public InvalidFacetException(String facet) {
+        super("Invalid facet: " + facet + ". Must be CATEGORY, ACCOUNT, TYPE, STATUS, or TAG.");
+    }
+}
@@ -0,0 +1,11 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when a delta export's resume token cannot be decoded
+ */
+public class InvalidResumeTokenException extends RuntimeException {
+
+    public InvalidResumeTokenException() {
+        super("Invalid resume token");
+    }
+}
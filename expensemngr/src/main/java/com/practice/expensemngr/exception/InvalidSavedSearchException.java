@@ -0,0 +1,11 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when a saved search uses criteria that cannot be matched against new transactions
+ */
+public class InvalidSavedSearchException extends RuntimeException {
+
+    public InvalidSavedSearchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when a tag match mode is invalid
+ */
+public class InvalidTagMatchException extends RuntimeException {
+
+    public InvalidTagMatchException(String tagMatch) {
+        super("Invalid tag match: " + tagMatch + ". Must be ALL, ANY, or NONE.");
+    }
+}
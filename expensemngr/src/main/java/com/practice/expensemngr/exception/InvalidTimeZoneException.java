@@ -0,0 +1,11 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when a time zone ID is invalid
+ */
+public class InvalidTimeZoneException extends RuntimeException {
+
+    public InvalidTimeZoneException(String timeZone) {
+        super("Invalid time zone: " + timeZone + ". Must be a region ID such as Asia/Karachi or an offset such as +05:00.");
+    }
+}
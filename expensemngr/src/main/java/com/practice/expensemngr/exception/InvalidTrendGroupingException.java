@@ -0,0 +1,11 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when a spending trend grouping is invalid
+ */
+public class InvalidTrendGroupingException extends RuntimeException {
+
+    public InvalidTrendGroupingException(String groupBy) {
+        super("Invalid trend grouping: " + groupBy + ". Must be DAILY, WEEKLY, MONTHLY, QUARTERLY, or YEARLY.");
+    }
+}
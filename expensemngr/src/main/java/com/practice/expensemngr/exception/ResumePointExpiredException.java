@@ -0,0 +1,11 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when a delta export starts before the retained deletion history
+ */
+public class ResumePointExpiredException extends RuntimeException {
+
+    public ResumePointExpiredException(int retentionDays) {
+        super("Deletions are only kept for " + retentionDays + " days; run a full export instead");
+    }
+}
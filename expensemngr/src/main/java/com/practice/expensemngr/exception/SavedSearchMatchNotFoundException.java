@@ -0,0 +1,11 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when saved search match is not found
+ */
+public class SavedSearchMatchNotFoundException extends RuntimeException {
+
+    public SavedSearchMatchNotFoundException(Long matchId) {
+        super("Saved search match not found with ID: " + matchId);
+    }
+}
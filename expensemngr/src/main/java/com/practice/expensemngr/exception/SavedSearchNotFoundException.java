@@ -0,0 +1,11 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when saved search is not found
+ */
+public class SavedSearchNotFoundException extends RuntimeException {
+
+    public SavedSearchNotFoundException(Long savedSearchId) {
+        super("Saved search not found with ID: " + savedSearchId);
+    }
+}
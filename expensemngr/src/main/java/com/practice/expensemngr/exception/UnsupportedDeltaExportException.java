@@ -0,0 +1,11 @@
+package com.practice.expensemngr.exception;
+
+/**
+ * Exception thrown when a delta export is requested for a data type or format it cannot be built for
+ */
+public class UnsupportedDeltaExportException extends RuntimeException {
+
+    public UnsupportedDeltaExportException(String message) {
+        super(message);
+    }
+}
@@ -4,6 +4,7 @@ import com.practice.expensemngr.entity.BudgetItems;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface BudgetItemsRepository extends JpaRepository<BudgetItems, Long>, JpaSpecificationExecutor<BudgetItems> {
@@ -15,6 +16,13 @@ public interface BudgetItemsRepository extends JpaRepository<BudgetItems, Long>,
      */
     List<BudgetItems> findByBudgetId(Long budgetId);
 
+    /**
+     * Find all items for a set of budgets
+     * @param budgetIds Budget IDs
+     * @return List of budget items
+     */
+    List<BudgetItems> findByBudgetIdIn(Collection<Long> budgetIds);
+
     /**
      * Delete all items for a specific budget
      * @param budgetId Budget ID
@@ -3,7 +3,10 @@ package com.practice.expensemngr.repository;
 import com.practice.expensemngr.entity.Budgets;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Date;
 import java.util.List;
 
 public interface BudgetsRepository extends JpaRepository<Budgets, Long>, JpaSpecificationExecutor<Budgets> {
@@ -21,4 +24,17 @@ public interface BudgetsRepository extends JpaRepository<Budgets, Long>, JpaSpec
      * @return List of budgets
      */
     List<Budgets> findByUserIdOrderByStartDateDesc(Long userId);
+
+    /**
+     * Find all budgets for a user whose period overlaps a date range
+     * @param userId User ID
+     * @param startDate Range start
+     * @param endDate Range end
+     * @return List of overlapping budgets
+     */
+    @Query("SELECT b FROM Budgets b WHERE b.userId = :userId " +
+            "AND b.endDate >= :startDate AND b.startDate <= :endDate")
+    List<Budgets> findOverlapping(@Param("userId") Long userId,
+                                  @Param("startDate") Date startDate,
+                                  @Param("endDate") Date endDate);
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.practice.expensemngr.repository;
+
+import com.practice.expensemngr.entity.ExportJobs;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+public interface ExportJobsRepository extends JpaRepository<ExportJobs, Long>, JpaSpecificationExecutor<ExportJobs> {
+
+    /**
+     * Find a user's export jobs, newest first
+     * @param userId User ID
+     * @return List of jobs
+     */
+    List<ExportJobs> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    /**
+     * Count a user's jobs in the given statuses
+     * @param userId User ID
+     * @param statuses Job statuses
+     * @return Number of jobs
+     */
+    long countByUserIdAndStatusIn(Long userId, Collection<String> statuses);
+
+    /**
+     * Find jobs in a status whose file expired before the given time
+     * @param status Job status
+     * @param expiresAt Cutoff time
+     * @return List of jobs
+     */
+    List<ExportJobs> findByStatusAndExpiresAtBefore(String status, Date expiresAt);
+
+    /**
+     * Check whether a job refers to a stored file
+     * @param storedFileName Name of the file
+     * @return true if a job row has it
+     */
+    boolean existsByStoredFileName(String storedFileName);
+}
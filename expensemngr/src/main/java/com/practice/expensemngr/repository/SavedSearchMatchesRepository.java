@@ -0,0 +1,39 @@
+package com.practice.expensemngr.repository;
+
+import com.practice.expensemngr.entity.SavedSearchMatches;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+
+public interface SavedSearchMatchesRepository extends JpaRepository<SavedSearchMatches, Long>, JpaSpecificationExecutor<SavedSearchMatches> {
+
+    /**
+     * Find a user's matches, newest first
+     * @param userId User ID
+     * @return List of matches
+     */
+    List<SavedSearchMatches> findByUserIdOrderByMatchedAtDesc(Long userId);
+
+    /**
+     * Find a user's unread matches, newest first
+     * @param userId User ID
+     * @param read Read flag
+     * @return List of matches
+     */
+    List<SavedSearchMatches> findByUserIdAndReadOrderByMatchedAtDesc(Long userId, Boolean read);
+
+    /**
+     * Check if a transaction was already recorded for a saved search
+     * @param savedSearchId Saved search ID
+     * @param transactionId Transaction ID
+     * @return true if exists
+     */
+    boolean existsBySavedSearchIdAndTransactionId(Long savedSearchId, Long transactionId);
+
+    /**
+     * Delete all matches of a saved search
+     * @param savedSearchId Saved search ID
+     */
+    void deleteBySavedSearchId(Long savedSearchId);
+}
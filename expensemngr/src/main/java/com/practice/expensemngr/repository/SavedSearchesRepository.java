@@ -0,0 +1,25 @@
+package com.practice.expensemngr.repository;
+
+import com.practice.expensemngr.entity.SavedSearches;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+
+public interface SavedSearchesRepository extends JpaRepository<SavedSearches, Long>, JpaSpecificationExecutor<SavedSearches> {
+
+    /**
+     * Find all saved searches for a user, ordered by name
+     * @param userId User ID
+     * @return List of saved searches
+     */
+    List<SavedSearches> findByUserIdOrderByNameAsc(Long userId);
+
+    /**
+     * Find a user's saved searches that are matched against new transactions
+     * @param userId User ID
+     * @param active Active flag
+     * @return List of saved searches
+     */
+    List<SavedSearches> findByUserIdAndActive(Long userId, Boolean active);
+}
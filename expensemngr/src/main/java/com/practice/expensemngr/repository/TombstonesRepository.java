@@ -0,0 +1,26 @@
+package com.practice.expensemngr.repository;
+
+import com.practice.expensemngr.entity.Tombstones;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.Date;
+import java.util.List;
+
+public interface TombstonesRepository extends JpaRepository<Tombstones, Long>, JpaSpecificationExecutor<Tombstones> {
+
+    /**
+     * Find a user's deletions at or after a point in time, oldest first
+     * @param userId User ID
+     * @param since Start time (inclusive)
+     * @return List of tombstones
+     */
+    List<Tombstones> findByUserIdAndDeletedAtGreaterThanEqualOrderByIdAsc(Long userId, Date since);
+
+    /**
+     * Delete tombstones recorded before a cutoff time
+     * @param cutoff Cutoff time
+     * @return Number of tombstones deleted
+     */
+    long deleteByDeletedAtBefore(Date cutoff);
+}
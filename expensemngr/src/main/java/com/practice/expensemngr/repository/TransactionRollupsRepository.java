@@ -0,0 +1,173 @@
+package com.practice.expensemngr.repository;
+
+import com.practice.expensemngr.dto.CategoryPointTotalDTO;
+import com.practice.expensemngr.dto.CategoryTotalDTO;
+import com.practice.expensemngr.dto.DailyTotalDTO;
+import com.practice.expensemngr.dto.TypeTotalDTO;
+import com.practice.expensemngr.entity.TransactionRollups;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface TransactionRollupsRepository extends JpaRepository<TransactionRollups, Long> {
+
+    /**
+     * Add amount and count to the rollup row for a key, creating it if missing, in one atomic
+     * statement so concurrent first writes for the same key cannot both insert
+     * @param userId User ID
+     * @param accountId Account ID
+     * @param categoryId Category ID
+     * @param type Transaction type
+     * @param status Transaction status
+     * @param rollupDate Day
+     * @param amount Amount to add
+     * @param count Count to add
+     * @return Number of affected rows
+     */
+    @Modifying
+    @Query(value = "MERGE INTO transaction_rollups r USING (SELECT CAST(:userId AS BIGINT) AS user_id, " +
+            "CAST(:accountId AS BIGINT) AS account_id, CAST(:categoryId AS BIGINT) AS category_id, " +
+            "CAST(:type AS VARCHAR) AS type, CAST(:status AS VARCHAR) AS status, " +
+            "CAST(:rollupDate AS DATE) AS rollup_date) k " +
+            "ON r.user_id = k.user_id AND r.account_id = k.account_id AND r.category_id = k.category_id " +
+            "AND r.type = k.type AND r.status = k.status AND r.rollup_date = k.rollup_date " +
+            "WHEN MATCHED THEN UPDATE SET total_amount = r.total_amount + :amount, " +
+            "transaction_count = r.transaction_count + :count, updated_at = CURRENT_TIMESTAMP " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, account_id, category_id, type, status, rollup_date, " +
+            "total_amount, transaction_count, updated_at) VALUES (k.user_id, k.account_id, k.category_id, " +
+            "k.type, k.status, k.rollup_date, :amount, :count, CURRENT_TIMESTAMP)",
+            nativeQuery = true)
+    int upsertDelta(@Param("userId") Long userId, @Param("accountId") Long accountId,
+                    @Param("categoryId") Long categoryId, @Param("type") String type,
+                    @Param("status") String status, @Param("rollupDate") LocalDate rollupDate,
+                    @Param("amount") BigDecimal amount, @Param("count") long count);
+
+    /**
+     * Find all rollup rows for a user in a day range
+     * @param userId User ID
+     * @param startDay First day (inclusive)
+     * @param endDay Last day (inclusive)
+     * @return List of rollup rows
+     */
+    List<TransactionRollups> findByUserIdAndRollupDateBetween(Long userId, LocalDate startDay, LocalDate endDay);
+
+    /**
+     * Delete all rollup rows of a user
+     * @param userId User ID
+     * @return Number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM TransactionRollups r WHERE r.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * Recompute all rollup rows of a user from the raw transactions in one statement.
+     * The user's existing rollup rows must be deleted first.
+     * @param userId User ID
+     * @return Number of inserted rows
+     */
+    @Modifying
+    @Query(value = "INSERT INTO transaction_rollups (user_id, account_id, category_id, type, status, rollup_date, " +
+            "total_amount, transaction_count, updated_at) " +
+            "SELECT user_id, account_id, category_id, type, status, CAST(transaction_date AS DATE), SUM(amount), " +
+            "COUNT(*), CURRENT_TIMESTAMP FROM transactions WHERE user_id = :userId " +
+            "GROUP BY user_id, account_id, category_id, type, status, CAST(transaction_date AS DATE)",
+            nativeQuery = true)
+    int insertAllFromTransactions(@Param("userId") Long userId);
+
+    /**
+     * Sum amounts and counts per transaction type
+     * @param userId User ID
+     * @param accountId Account filter (null for all accounts)
+     * @param status Status filter (null for all statuses)
+     * @param startDay First day (inclusive)
+     * @param endDay Last day (inclusive)
+     * @return One row per type
+     */
+    @Query("SELECT new com.practice.expensemngr.dto.TypeTotalDTO(r.type, SUM(r.totalAmount), SUM(r.transactionCount)) " +
+            "FROM TransactionRollups r " +
+            "WHERE r.userId = :userId AND (:accountId IS NULL OR r.accountId = :accountId) " +
+            "AND (:status IS NULL OR r.status = :status) " +
+            "AND r.rollupDate BETWEEN :startDay AND :endDay " +
+            "GROUP BY r.type")
+    List<TypeTotalDTO> sumByType(@Param("userId") Long userId,
+                                 @Param("accountId") Long accountId,
+                                 @Param("status") String status,
+                                 @Param("startDay") LocalDate startDay,
+                                 @Param("endDay") LocalDate endDay);
+
+    /**
+     * Sum amounts and counts per category for one transaction type
+     * @param userId User ID
+     * @param accountId Account filter (null for all accounts)
+     * @param type Transaction type
+     * @param status Status filter (null for all statuses)
+     * @param startDay First day (inclusive)
+     * @param endDay Last day (inclusive)
+     * @return One row per category
+     */
+    @Query("SELECT new com.practice.expensemngr.dto.CategoryTotalDTO(r.categoryId, SUM(r.totalAmount), SUM(r.transactionCount)) " +
+            "FROM TransactionRollups r " +
+            "WHERE r.userId = :userId AND (:accountId IS NULL OR r.accountId = :accountId) " +
+            "AND r.type = :type AND (:status IS NULL OR r.status = :status) " +
+            "AND r.rollupDate BETWEEN :startDay AND :endDay " +
+            "GROUP BY r.categoryId")
+    List<CategoryTotalDTO> sumByCategory(@Param("userId") Long userId,
+                                         @Param("accountId") Long accountId,
+                                         @Param("type") String type,
+                                         @Param("status") String status,
+                                         @Param("startDay") LocalDate startDay,
+                                         @Param("endDay") LocalDate endDay);
+
+    /**
+     * Sum amounts and counts per day and transaction type, ordered by day
+     * @param userId User ID
+     * @param accountId Account filter (null for all accounts)
+     * @param status Status filter (null for all statuses)
+     * @param startDay First day (inclusive)
+     * @param endDay Last day (inclusive)
+     * @return One row per (day, type)
+     */
+    @Query("SELECT new com.practice.expensemngr.dto.DailyTotalDTO(r.rollupDate, r.type, SUM(r.totalAmount), SUM(r.transactionCount)) " +
+            "FROM TransactionRollups r " +
+            "WHERE r.userId = :userId AND (:accountId IS NULL OR r.accountId = :accountId) " +
+            "AND (:status IS NULL OR r.status = :status) " +
+            "AND r.rollupDate BETWEEN :startDay AND :endDay " +
+            "GROUP BY r.rollupDate, r.type " +
+            "ORDER BY r.rollupDate")
+    List<DailyTotalDTO> sumByDay(@Param("userId") Long userId,
+                                 @Param("accountId") Long accountId,
+                                 @Param("status") String status,
+                                 @Param("startDay") LocalDate startDay,
+                                 @Param("endDay") LocalDate endDay);
+
+    /**
+     * Sum amounts per category and day for a set of categories, ordered by category and day
+     * @param userId User ID
+     * @param categoryIds Categories to include
+     * @param type Transaction type
+     * @param status Transaction status
+     * @param startDay First day (inclusive)
+     * @param endDay Last day (inclusive)
+     * @return One row per (category, day)
+     */
+    @Query("SELECT new com.practice.expensemngr.dto.CategoryPointTotalDTO(r.categoryId, r.rollupDate, SUM(r.totalAmount)) " +
+            "FROM TransactionRollups r " +
+            "WHERE r.userId = :userId AND r.categoryId IN :categoryIds " +
+            "AND r.type = :type AND r.status = :status " +
+            "AND r.rollupDate BETWEEN :startDay AND :endDay " +
+            "GROUP BY r.categoryId, r.rollupDate " +
+            "ORDER BY r.categoryId, r.rollupDate")
+    List<CategoryPointTotalDTO> sumByCategoryAndDay(@Param("userId") Long userId,
+                                                    @Param("categoryIds") Collection<Long> categoryIds,
+                                                    @Param("type") String type,
+                                                    @Param("status") String status,
+                                                    @Param("startDay") LocalDate startDay,
+                                                    @Param("endDay") LocalDate endDay);
+}
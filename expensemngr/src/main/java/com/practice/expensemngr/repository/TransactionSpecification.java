@@ -1,53 +1,291 @@
 package com.practice.expensemngr.repository;
 
+import com.practice.expensemngr.dto.TransactionFilterDTO;
+import com.practice.expensemngr.entity.Merchants;
+import com.practice.expensemngr.entity.TransactionTags;
 import com.practice.expensemngr.entity.Transactions;
+import com.practice.expensemngr.exception.InvalidTagMatchException;
+import com.practice.expensemngr.util.TagMatchEnum;
+import com.practice.expensemngr.util.TransactionCursor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-import java.math.BigDecimal;
+
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 public class TransactionSpecification {
 
-    public static Specification<Transactions> filterTransactions(
-            Long userId,
-            String category,
-            BigDecimal minAmount,
-            BigDecimal maxAmount,
-            Date startDate,
-            Date endDate
-    ) {
+    /**
+     * Search order: newest transaction date first, then newest created, id as the final tie-breaker
+     * so pages never overlap or skip rows
+     */
+    public static final Sort SEARCH_SORT = Sort.by(
+            Sort.Order.desc("transactionDate"),
+            Sort.Order.desc("createdAt"),
+            Sort.Order.desc("id"));
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    /**
+     * Build the search predicate for every field of a transaction filter.
+     * Type and status are stored upper-case, so they are compared against the upper-cased
+     * filter value and the column stays usable by an index.
+     * @param filter Filter criteria (userId required)
+     * @return Specification over Transactions
+     */
+    public static Specification<Transactions> fromFilter(TransactionFilterDTO filter) {
+        return fromFilter(filter, IdRestriction.NONE);
+    }
+
+    /**
+     * Build the search predicate for a transaction filter whose keyword or tag filters were
+     * already resolved to transaction IDs by the in-memory indexes
+     * @param filter Filter criteria (userId required)
+     * @param restriction IDs to include or exclude, and which filters they already cover
+     * @return Specification over Transactions
+     */
+    public static Specification<Transactions> fromFilter(TransactionFilterDTO filter, IdRestriction restriction) {
         return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
             // 1. Always filter by User ID
-            var predicate = criteriaBuilder.equal(root.get("userId"), userId);
+            predicates.add(criteriaBuilder.equal(root.get("userId"), filter.getUserId()));
+
+            // 2. Optional: Date Range (inclusive)
+            if (filter.getStartDate() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("transactionDate"), filter.getStartDate()));
+            }
+            if (filter.getEndDate() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("transactionDate"), filter.getEndDate()));
+            }
+
+            // 3. Optional: Account and Category
+            if (filter.getAccountId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("accountId"), filter.getAccountId()));
+            }
+            if (filter.getCategoryId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("categoryId"), filter.getCategoryId()));
+            }
+
+            // 4. Optional: Type and Status
+            if (hasText(filter.getType())) {
+                predicates.add(criteriaBuilder.equal(root.get("type"), filter.getType().trim().toUpperCase()));
+            }
+            if (hasText(filter.getStatus())) {
+                predicates.add(criteriaBuilder.equal(root.get("status"), filter.getStatus().trim().toUpperCase()));
+            }
 
-            // 2. Optional: Filter by Category
-            if (category != null && !category.isEmpty()) {
-                predicate = criteriaBuilder.and(predicate,
-                        criteriaBuilder.equal(root.get("category"), category));
+            // 5. Optional: Amount Range (inclusive)
+            if (filter.getMinAmount() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("amount"), filter.getMinAmount()));
+            }
+            if (filter.getMaxAmount() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("amount"), filter.getMaxAmount()));
             }
 
-            // 3. Optional: Min Amount
-            if (minAmount != null) {
-                predicate = criteriaBuilder.and(predicate,
-                        criteriaBuilder.greaterThanOrEqualTo(root.get("amount"), minAmount));
+            // 6. Optional: Keyword in description, reference number or merchant name (case-insensitive)
+            if (hasText(filter.getKeyword()) && !restriction.isKeywordResolved()) {
+                String pattern = "%" + escapeLike(filter.getKeyword().toLowerCase()) + "%";
+                Subquery<Long> merchant = query.subquery(Long.class);
+                Root<Merchants> merchantRoot = merchant.from(Merchants.class);
+                merchant.select(merchantRoot.get("id"))
+                        .where(criteriaBuilder.equal(merchantRoot.get("id"), root.get("merchantId")),
+                                criteriaBuilder.like(criteriaBuilder.lower(merchantRoot.get("name")), pattern, LIKE_ESCAPE));
+                predicates.add(criteriaBuilder.or(
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), pattern, LIKE_ESCAPE),
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("referenceNumber")), pattern, LIKE_ESCAPE),
+                        criteriaBuilder.exists(merchant)));
             }
 
-            // 4. Optional: Max Amount
-            if (maxAmount != null) {
-                predicate = criteriaBuilder.and(predicate,
-                        criteriaBuilder.lessThanOrEqualTo(root.get("amount"), maxAmount));
+            // 7. Optional: Tags, each as a correlated EXISTS so a transaction is never returned twice
+            List<Long> tagIds = tagIds(filter);
+            if (!tagIds.isEmpty() && !restriction.isTagsResolved()) {
+                TagMatchEnum match = tagMatch(filter);
+                if (match == TagMatchEnum.ALL) {
+                    for (Long tagId : tagIds) {
+                        predicates.add(criteriaBuilder.exists(taggedWith(query, criteriaBuilder, root, List.of(tagId))));
+                    }
+                } else if (match == TagMatchEnum.ANY) {
+                    predicates.add(criteriaBuilder.exists(taggedWith(query, criteriaBuilder, root, tagIds)));
+                } else {
+                    predicates.add(criteriaBuilder.not(criteriaBuilder.exists(taggedWith(query, criteriaBuilder, root, tagIds))));
+                }
             }
 
-            // 5. Optional: Date Range
-            if (startDate != null) {
-                predicate = criteriaBuilder.and(predicate,
-                        criteriaBuilder.greaterThanOrEqualTo(root.get("transactionDate"), startDate));
+            // 8. Optional: IDs resolved by the in-memory indexes
+            if (restriction.getIncludeIds() != null) {
+                predicates.add(restriction.getIncludeIds().isEmpty()
+                        ? criteriaBuilder.disjunction()
+                        : root.get("id").in(restriction.getIncludeIds()));
             }
-            if (endDate != null) {
-                predicate = criteriaBuilder.and(predicate,
-                        criteriaBuilder.lessThanOrEqualTo(root.get("transactionDate"), endDate));
+            if (restriction.getExcludeIds() != null && !restriction.getExcludeIds().isEmpty()) {
+                predicates.add(criteriaBuilder.not(root.get("id").in(restriction.getExcludeIds())));
             }
 
-            return predicate;
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Seek past a cursor in search order. Forward reads rows after the cursor (older), backward
+     * reads rows before it (newer). The leading range on transactionDate lets a composite
+     * (user_id, transaction_date, created_at, id) index serve the seek; the OR terms only
+     * settle ties on the cursor's own date.
+     * @param cursor Decoded cursor
+     * @return Specification over Transactions
+     */
+    public static Specification<Transactions> seek(TransactionCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            Path<Date> transactionDate = root.get("transactionDate");
+            Path<Date> createdAt = root.get("createdAt");
+            Path<Long> id = root.get("id");
+
+            if (cursor.isForward()) {
+                return criteriaBuilder.and(
+                        criteriaBuilder.lessThanOrEqualTo(transactionDate, cursor.getTransactionDate()),
+                        criteriaBuilder.or(
+                                criteriaBuilder.lessThan(transactionDate, cursor.getTransactionDate()),
+                                criteriaBuilder.lessThan(createdAt, cursor.getCreatedAt()),
+                                criteriaBuilder.and(
+                                        criteriaBuilder.equal(createdAt, cursor.getCreatedAt()),
+                                        criteriaBuilder.lessThan(id, cursor.getId()))));
+            }
+            return criteriaBuilder.and(
+                    criteriaBuilder.greaterThanOrEqualTo(transactionDate, cursor.getTransactionDate()),
+                    criteriaBuilder.or(
+                            criteriaBuilder.greaterThan(transactionDate, cursor.getTransactionDate()),
+                            criteriaBuilder.greaterThan(createdAt, cursor.getCreatedAt()),
+                            criteriaBuilder.and(
+                                    criteriaBuilder.equal(createdAt, cursor.getCreatedAt()),
+                                    criteriaBuilder.greaterThan(id, cursor.getId()))));
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Tags a filter asks for: tagId and tagIds combined, without duplicates
+     * @param filter Filter criteria
+     * @return Tag IDs, empty when the filter has none
+     */
+    public static List<Long> tagIds(TransactionFilterDTO filter) {
+        Set<Long> tagIds = new LinkedHashSet<>();
+        if (filter.getTagId() != null) {
+            tagIds.add(filter.getTagId());
+        }
+        if (filter.getTagIds() != null) {
+            for (Long tagId : filter.getTagIds()) {
+                if (tagId != null) {
+                    tagIds.add(tagId);
+                }
+            }
+        }
+        return new ArrayList<>(tagIds);
+    }
+
+    /**
+     * How a filter's tags combine
+     * @param filter Filter criteria
+     * @return Tag match mode, ANY when not given
+     * @throws InvalidTagMatchException when the mode is not ALL, ANY or NONE
+     */
+    public static TagMatchEnum tagMatch(TransactionFilterDTO filter) {
+        if (!hasText(filter.getTagMatch())) {
+            return TagMatchEnum.ANY;
+        }
+        try {
+            return TagMatchEnum.valueOf(filter.getTagMatch().trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTagMatchException(filter.getTagMatch());
+        }
+    }
+
+    /**
+     * Helper: Subquery for an assignment of one of the tags to the outer transaction
+     */
+    private static Subquery<Long> taggedWith(CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder,
+                                             Root<Transactions> root, Collection<Long> tagIds) {
+        Subquery<Long> tagged = query.subquery(Long.class);
+        Root<TransactionTags> transactionTag = tagged.from(TransactionTags.class);
+        tagged.select(transactionTag.get("transactionId"))
+                .where(criteriaBuilder.equal(transactionTag.get("transactionId"), root.get("id")),
+                        tagIds.size() == 1
+                                ? criteriaBuilder.equal(transactionTag.get("tagId"), tagIds.iterator().next())
+                                : transactionTag.get("tagId").in(tagIds));
+        return tagged;
+    }
+
+    /**
+     * Helper: True when the value has non-whitespace content
+     */
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * Helper: Escape LIKE wildcards so the keyword matches literally
+     */
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Transaction IDs resolved outside the database, and which filter fields they already cover
+     * so the specification does not repeat them in SQL
+     */
+    public static class IdRestriction {
+
+        public static final IdRestriction NONE = new IdRestriction(null, null, false, false);
+
+        private final Collection<Long> includeIds;
+        private final Collection<Long> excludeIds;
+        private final boolean keywordResolved;
+        private final boolean tagsResolved;
+
+        /**
+         * @param includeIds Only these IDs may match (null for no restriction)
+         * @param excludeIds These IDs never match (null for none)
+         * @param keywordResolved The keyword is covered by the IDs
+         * @param tagsResolved The tag filter is covered by the IDs
+         */
+        public IdRestriction(Collection<Long> includeIds, Collection<Long> excludeIds,
+                             boolean keywordResolved, boolean tagsResolved) {
+            this.includeIds = includeIds;
+            this.excludeIds = excludeIds;
+            this.keywordResolved = keywordResolved;
+            this.tagsResolved = tagsResolved;
+        }
+
+        public Collection<Long> getIncludeIds() {
+            return includeIds;
+        }
+
+        public Collection<Long> getExcludeIds() {
+            return excludeIds;
+        }
+
+        public boolean isKeywordResolved() {
+            return keywordResolved;
+        }
+
+        public boolean isTagsResolved() {
+            return tagsResolved;
+        }
+    }
+}
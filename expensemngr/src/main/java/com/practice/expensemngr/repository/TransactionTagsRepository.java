@@ -1,10 +1,14 @@
 package com.practice.expensemngr.repository;
 
+import com.practice.expensemngr.dto.TransactionTagRowDTO;
 import com.practice.expensemngr.entity.TransactionTags;
 import com.practice.expensemngr.entity.TransactionTagsId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TransactionTagsRepository extends JpaRepository<TransactionTags, TransactionTagsId>, JpaSpecificationExecutor<TransactionTags> {
@@ -16,6 +20,24 @@ public interface TransactionTagsRepository extends JpaRepository<TransactionTags
      */
     List<TransactionTags> findByTransactionId(Long transactionId);
 
+    /**
+     * Find all tag assignments for a set of transactions
+     * @param transactionIds Transaction IDs
+     * @return List of transaction tags
+     */
+    List<TransactionTags> findByTransactionIdIn(Collection<Long> transactionIds);
+
+    /**
+     * Find the tags of a set of transactions with their assignments in one query
+     * @param transactionIds Transaction IDs
+     * @return One row per assignment, ordered by tag name within each transaction
+     */
+    @Query("SELECT new com.practice.expensemngr.dto.TransactionTagRowDTO(tt.transactionId, t) " +
+            "FROM TransactionTags tt JOIN Tags t ON t.id = tt.tagId " +
+            "WHERE tt.transactionId IN :transactionIds " +
+            "ORDER BY tt.transactionId, t.name")
+    List<TransactionTagRowDTO> findTagRowsByTransactionIdIn(@Param("transactionIds") Collection<Long> transactionIds);
+
     /**
      * Find all transactions with a specific tag
      * @param tagId Tag ID
@@ -23,6 +45,13 @@ public interface TransactionTagsRepository extends JpaRepository<TransactionTags
      */
     List<TransactionTags> findByTagId(Long tagId);
 
+    /**
+     * Find all assignments of a set of tags
+     * @param tagIds Tag IDs
+     * @return List of transaction tags
+     */
+    List<TransactionTags> findByTagIdIn(Collection<Long> tagIds);
+
     /**
      * Check if a transaction has a specific tag
      * @param transactionId Transaction ID
@@ -1,14 +1,41 @@
 package com.practice.expensemngr.repository;
 
+import com.practice.expensemngr.dto.CategoryPointTotalDTO;
+import com.practice.expensemngr.dto.CategoryTotalDTO;
+import com.practice.expensemngr.dto.DailyTotalDTO;
+import com.practice.expensemngr.dto.InstantTotalDTO;
+import com.practice.expensemngr.dto.TransactionTextDTO;
+import com.practice.expensemngr.dto.TypeTotalDTO;
 import com.practice.expensemngr.entity.Transactions;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Date;
+import java.util.Collection;
 import java.util.List;
 
-public interface TransactionsRepository extends JpaRepository<Transactions, Long>, JpaSpecificationExecutor<Transactions> {
+public interface TransactionsRepository extends JpaRepository<Transactions, Long>, JpaSpecificationExecutor<Transactions>,
+        TransactionsRepositoryCustom {
 
     List<Transactions> findByUserId(Long userId);
+
+    /**
+     * Count a user's transactions
+     * @param userId User ID
+     * @return Number of transactions
+     */
+    long countByUserId(Long userId);
+
+    /**
+     * Find all transactions for a user in one account
+     * @param userId User ID
+     * @param accountId Account ID
+     * @return List of transactions
+     */
+    List<Transactions> findByUserIdAndAccountId(Long userId, Long accountId);
     
     /**
      * Check if account has any transactions
@@ -16,4 +43,162 @@ public interface TransactionsRepository extends JpaRepository<Transactions, Long
      * @return true if transactions exist
      */
     boolean existsByAccountId(Long accountId);
-}
\ No newline at end of file
+
+    /**
+     * Find a page of a user's transactions in a date range
+     * @param userId User ID
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @param pageable Page size and sort order
+     * @return Transactions in the requested page
+     */
+    List<Transactions> findByUserIdAndTransactionDateBetween(Long userId, Date startDate, Date endDate,
+                                                             Pageable pageable);
+
+    /**
+     * Find a page of a user's transactions for one account in a date range
+     * @param userId User ID
+     * @param accountId Account ID
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @param pageable Page size and sort order
+     * @return Transactions in the requested page
+     */
+    List<Transactions> findByUserIdAndAccountIdAndTransactionDateBetween(Long userId, Long accountId,
+                                                                         Date startDate, Date endDate,
+                                                                         Pageable pageable);
+
+    /**
+     * Sum amounts and counts per transaction type
+     * @param userId User ID
+     * @param accountId Account filter (null for all accounts)
+     * @param status Status filter (null for all statuses)
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @return One row per type
+     */
+    @Query("SELECT new com.practice.expensemngr.dto.TypeTotalDTO(t.type, SUM(t.amount), COUNT(t)) " +
+            "FROM Transactions t " +
+            "WHERE t.userId = :userId AND (:accountId IS NULL OR t.accountId = :accountId) " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY t.type")
+    List<TypeTotalDTO> sumByType(@Param("userId") Long userId,
+                                 @Param("accountId") Long accountId,
+                                 @Param("status") String status,
+                                 @Param("startDate") Date startDate,
+                                 @Param("endDate") Date endDate);
+
+    /**
+     * Sum amounts and counts per category for one transaction type
+     * @param userId User ID
+     * @param accountId Account filter (null for all accounts)
+     * @param type Transaction type
+     * @param status Status filter (null for all statuses)
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @return One row per category
+     */
+    @Query("SELECT new com.practice.expensemngr.dto.CategoryTotalDTO(t.categoryId, SUM(t.amount), COUNT(t)) " +
+            "FROM Transactions t " +
+            "WHERE t.userId = :userId AND (:accountId IS NULL OR t.accountId = :accountId) " +
+            "AND t.type = :type AND (:status IS NULL OR t.status = :status) " +
+            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY t.categoryId")
+    List<CategoryTotalDTO> sumByCategory(@Param("userId") Long userId,
+                                         @Param("accountId") Long accountId,
+                                         @Param("type") String type,
+                                         @Param("status") String status,
+                                         @Param("startDate") Date startDate,
+                                         @Param("endDate") Date endDate);
+
+    /**
+     * Sum amounts and counts per day and transaction type, ordered by day
+     * @param userId User ID
+     * @param accountId Account filter (null for all accounts)
+     * @param status Status filter (null for all statuses)
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @return One row per (day, type)
+     */
+    @Query("SELECT new com.practice.expensemngr.dto.DailyTotalDTO(CAST(t.transactionDate AS LocalDate), t.type, SUM(t.amount), COUNT(t)) " +
+            "FROM Transactions t " +
+            "WHERE t.userId = :userId AND (:accountId IS NULL OR t.accountId = :accountId) " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY CAST(t.transactionDate AS LocalDate), t.type " +
+            "ORDER BY CAST(t.transactionDate AS LocalDate)")
+    List<DailyTotalDTO> sumByDay(@Param("userId") Long userId,
+                                 @Param("accountId") Long accountId,
+                                 @Param("status") String status,
+                                 @Param("startDate") Date startDate,
+                                 @Param("endDate") Date endDate);
+
+    /**
+     * Sum amounts and counts per transaction timestamp and type, for bucketing in a client time zone
+     * @param userId User ID
+     * @param accountId Account filter (null for all accounts)
+     * @param status Status filter (null for all statuses)
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @return One row per (timestamp, type)
+     */
+    @Query("SELECT new com.practice.expensemngr.dto.InstantTotalDTO(t.transactionDate, t.type, SUM(t.amount), COUNT(t)) " +
+            "FROM Transactions t " +
+            "WHERE t.userId = :userId AND (:accountId IS NULL OR t.accountId = :accountId) " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY t.transactionDate, t.type")
+    List<InstantTotalDTO> sumByInstant(@Param("userId") Long userId,
+                                       @Param("accountId") Long accountId,
+                                       @Param("status") String status,
+                                       @Param("startDate") Date startDate,
+                                       @Param("endDate") Date endDate);
+
+    /**
+     * Sum amounts per category and transaction timestamp for a set of categories,
+     * ordered by category and timestamp
+     * @param userId User ID
+     * @param categoryIds Categories to include
+     * @param type Transaction type
+     * @param status Transaction status
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @return One row per (category, timestamp)
+     */
+    @Query("SELECT new com.practice.expensemngr.dto.CategoryPointTotalDTO(t.categoryId, t.transactionDate, SUM(t.amount)) " +
+            "FROM Transactions t " +
+            "WHERE t.userId = :userId AND t.categoryId IN :categoryIds " +
+            "AND t.type = :type AND t.status = :status " +
+            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY t.categoryId, t.transactionDate " +
+            "ORDER BY t.categoryId, t.transactionDate")
+    List<CategoryPointTotalDTO> sumByCategoryAndDate(@Param("userId") Long userId,
+                                                     @Param("categoryIds") Collection<Long> categoryIds,
+                                                     @Param("type") String type,
+                                                     @Param("status") String status,
+                                                     @Param("startDate") Date startDate,
+                                                     @Param("endDate") Date endDate);
+
+    /**
+     * Searchable text (description, reference number, merchant name) of all of a user's transactions
+     * @param userId User ID
+     * @return One row per transaction, ordered by ID
+     */
+    @Query("SELECT new com.practice.expensemngr.dto.TransactionTextDTO(t.id, t.description, t.referenceNumber, m.name) " +
+            "FROM Transactions t LEFT JOIN Merchants m ON m.id = t.merchantId " +
+            "WHERE t.userId = :userId " +
+            "ORDER BY t.id")
+    List<TransactionTextDTO> findTextByUserId(@Param("userId") Long userId);
+
+    /**
+     * Searchable text of a set of transactions
+     * @param ids Transaction IDs
+     * @return One row per existing transaction, ordered by ID
+     */
+    @Query("SELECT new com.practice.expensemngr.dto.TransactionTextDTO(t.id, t.description, t.referenceNumber, m.name) " +
+            "FROM Transactions t LEFT JOIN Merchants m ON m.id = t.merchantId " +
+            "WHERE t.id IN :ids " +
+            "ORDER BY t.id")
+    List<TransactionTextDTO> findTextByIdIn(@Param("ids") Collection<Long> ids);
+}
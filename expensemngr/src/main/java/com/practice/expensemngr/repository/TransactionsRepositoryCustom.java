@@ -0,0 +1,42 @@
+package com.practice.expensemngr.repository;
+
+import com.practice.expensemngr.dto.FacetRowDTO;
+import com.practice.expensemngr.dto.TagFacetRowDTO;
+import com.practice.expensemngr.entity.Transactions;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Criteria queries on transactions that derived and @Query methods cannot express
+ */
+public interface TransactionsRepositoryCustom {
+
+    /**
+     * Count and sum the transactions matching a specification per
+     * (category, account, type, status), in one grouped query
+     * @param specification Filter to apply
+     * @return One row per combination present
+     */
+    List<FacetRowDTO> sumFacets(Specification<Transactions> specification);
+
+    /**
+     * Count and sum the transactions matching a specification per assigned tag
+     * @param specification Filter to apply
+     * @return One row per tag present
+     */
+    List<TagFacetRowDTO> sumTagFacets(Specification<Transactions> specification);
+
+    /**
+     * Stream the transactions matching a specification from a server-side cursor. Rows are
+     * read-only and detached as they are read, so the persistence context does not grow with
+     * the result. Must be called inside a transaction and closed after use.
+     * @param specification Filter to apply
+     * @param sort Order of the rows
+     * @param fetchSize Rows fetched from the database per round-trip
+     * @return Stream of transactions
+     */
+    Stream<Transactions> streamAll(Specification<Transactions> specification, Sort sort, int fetchSize);
+}
@@ -0,0 +1,81 @@
+package com.practice.expensemngr.repository;
+
+import com.practice.expensemngr.dto.FacetRowDTO;
+import com.practice.expensemngr.dto.TagFacetRowDTO;
+import com.practice.expensemngr.entity.TransactionTags;
+import com.practice.expensemngr.entity.Transactions;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class TransactionsRepositoryCustomImpl implements TransactionsRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<FacetRowDTO> sumFacets(Specification<Transactions> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FacetRowDTO> query = criteriaBuilder.createQuery(FacetRowDTO.class);
+        Root<Transactions> root = query.from(Transactions.class);
+
+        query.select(criteriaBuilder.construct(FacetRowDTO.class,
+                        root.get("categoryId"), root.get("accountId"), root.get("type"), root.get("status"),
+                        criteriaBuilder.count(root), criteriaBuilder.sum(root.<BigDecimal>get("amount"))))
+                .where(filter(specification, root, query, criteriaBuilder))
+                .groupBy(root.get("categoryId"), root.get("accountId"), root.get("type"), root.get("status"));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<TagFacetRowDTO> sumTagFacets(Specification<Transactions> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TagFacetRowDTO> query = criteriaBuilder.createQuery(TagFacetRowDTO.class);
+        Root<Transactions> root = query.from(Transactions.class);
+        Root<TransactionTags> transactionTag = query.from(TransactionTags.class);
+
+        query.select(criteriaBuilder.construct(TagFacetRowDTO.class,
+                        transactionTag.get("tagId"),
+                        criteriaBuilder.count(root), criteriaBuilder.sum(root.<BigDecimal>get("amount"))))
+                .where(criteriaBuilder.equal(transactionTag.get("transactionId"), root.get("id")),
+                        filter(specification, root, query, criteriaBuilder))
+                .groupBy(transactionTag.get("tagId"));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public Stream<Transactions> streamAll(Specification<Transactions> specification, Sort sort, int fetchSize) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Transactions> query = criteriaBuilder.createQuery(Transactions.class);
+        Root<Transactions> root = query.from(Transactions.class);
+
+        query.select(root)
+                .where(filter(specification, root, query, criteriaBuilder))
+                .orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .peek(entityManager::detach);
+    }
+
+    /**
+     * Helper: Predicate of a specification, matching everything when it has none
+     */
+    private Predicate filter(Specification<Transactions> specification, Root<Transactions> root,
+                             CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        return predicate != null ? predicate : criteriaBuilder.conjunction();
+    }
+}
@@ -10,6 +10,7 @@ import com.practice.expensemngr.exception.AccountNotFoundException;
 import com.practice.expensemngr.repository.AccountsRepository;
 import com.practice.expensemngr.repository.TransactionsRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +28,9 @@ public class AccountsService {
     @Autowired
     private TransactionsRepository transactionsRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Create a new account
      * @param request Account creation data
@@ -48,6 +52,7 @@ public class AccountsService {
                 .build();
 
         account = accountsRepository.save(account);
+        eventPublisher.publishEvent(new DashboardDataChangedEvent(account.getUserId(), "ACCOUNT"));
 
         return toResponseDTO(account);
     }
@@ -118,6 +123,7 @@ public class AccountsService {
         account.setUpdatedAt(new Date());
 
         account = accountsRepository.save(account);
+        eventPublisher.publishEvent(new DashboardDataChangedEvent(account.getUserId(), "ACCOUNT"));
 
         return toResponseDTO(account);
     }
@@ -144,6 +150,7 @@ public class AccountsService {
         account.setArchived(true);
         account.setUpdatedAt(new Date());
         accountsRepository.save(account);
+        eventPublisher.publishEvent(new DashboardDataChangedEvent(account.getUserId(), "ACCOUNT"));
 
         return "Account archived successfully";
     }
@@ -181,5 +188,6 @@ public class AccountsService {
         account.setUpdatedAt(new Date());
 
         accountsRepository.save(account);
+        eventPublisher.publishEvent(new DashboardDataChangedEvent(account.getUserId(), "ACCOUNT"));
     }
 }
\ No newline at end of file
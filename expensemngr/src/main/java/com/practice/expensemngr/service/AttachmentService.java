@@ -35,6 +35,9 @@ public class AttachmentService {
     @Autowired
     private FileStorageService fileStorageService;
 
+    @Autowired
+    private TombstoneService tombstoneService;
+
     @Autowired
     private FileStorageProperties fileStorageProperties;
 
@@ -180,7 +183,8 @@ public class AttachmentService {
         // 3. Delete physical file
         fileStorageService.deleteFile(storedFileName);
 
-        // 4. Delete database record
+        // 4. Delete database record, recording it for delta exports
+        tombstoneService.recordAttachmentDeleted(attachment);
         attachmentsRepository.delete(attachment);
     }
 
@@ -19,6 +19,9 @@ public class AttachmentsService {
     @Autowired
     private AttachmentsRepository attachmentsRepository;
 
+    @Autowired
+    private TombstoneService tombstoneService;
+
     public Long save(AttachmentsVO vO) {
         Attachments bean = new Attachments();
         BeanUtils.copyProperties(vO, bean);
@@ -27,6 +30,7 @@ public class AttachmentsService {
     }
 
     public void delete(Long id) {
+        attachmentsRepository.findById(id).ifPresent(tombstoneService::recordAttachmentDeleted);
         attachmentsRepository.deleteById(id);
     }
 
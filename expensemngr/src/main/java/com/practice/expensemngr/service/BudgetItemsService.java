@@ -3,11 +3,13 @@ package com.practice.expensemngr.service;
 import com.practice.expensemngr.dto.BudgetItemsDTO;
 import com.practice.expensemngr.entity.BudgetItems;
 import com.practice.expensemngr.repository.BudgetItemsRepository;
+import com.practice.expensemngr.repository.BudgetsRepository;
 import com.practice.expensemngr.vo.BudgetItemsQueryVO;
 import com.practice.expensemngr.vo.BudgetItemsUpdateVO;
 import com.practice.expensemngr.vo.BudgetItemsVO;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
@@ -19,21 +21,33 @@ public class BudgetItemsService {
     @Autowired
     private BudgetItemsRepository budgetItemsRepository;
 
+    @Autowired
+    private BudgetsRepository budgetsRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public Long save(BudgetItemsVO vO) {
         BudgetItems bean = new BudgetItems();
         BeanUtils.copyProperties(vO, bean);
         bean = budgetItemsRepository.save(bean);
+        publishBudgetChange(bean.getBudgetId());
         return bean.getId();
     }
 
     public void delete(Long id) {
+        BudgetItems bean = budgetItemsRepository.findById(id).orElse(null);
         budgetItemsRepository.deleteById(id);
+        if (bean != null) {
+            publishBudgetChange(bean.getBudgetId());
+        }
     }
 
     public void update(Long id, BudgetItemsUpdateVO vO) {
         BudgetItems bean = requireOne(id);
         BeanUtils.copyProperties(vO, bean);
         budgetItemsRepository.save(bean);
+        publishBudgetChange(bean.getBudgetId());
     }
 
     public BudgetItemsDTO getById(Long id) {
@@ -51,6 +65,18 @@ public class BudgetItemsService {
         return bean;
     }
 
+    /**
+     * Helper: Budget limits feed budget progress; notify the owner of the budget
+     */
+    private void publishBudgetChange(Long budgetId) {
+        if (budgetId == null) {
+            return;
+        }
+        budgetsRepository.findById(budgetId)
+                .ifPresent(budget -> eventPublisher.publishEvent(
+                        new DashboardDataChangedEvent(budget.getUserId(), "BUDGET")));
+    }
+
     private BudgetItems requireOne(Long id) {
         return budgetItemsRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("Resource not found: " + id));
@@ -12,6 +12,7 @@ import com.practice.expensemngr.repository.BudgetItemsRepository;
 import com.practice.expensemngr.repository.BudgetsRepository;
 import com.practice.expensemngr.repository.CategoriesRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.practice.expensemngr.exception.CategoryNotFoundException;
@@ -32,6 +33,9 @@ public class BudgetsService {
     @Autowired
     private CategoriesRepository categoriesRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Create a new budget with items
      * @param request Budget creation data
@@ -103,6 +107,7 @@ public class BudgetsService {
 
         // 6. Calculate status
         String status = calculateBudgetStatus(budget.getStartDate(), budget.getEndDate());
+        eventPublisher.publishEvent(new DashboardDataChangedEvent(budget.getUserId(), "BUDGET"));
 
         // 7. Build and return response
         return BudgetWithItemsResponseDTO.builder()
@@ -287,6 +292,7 @@ public class BudgetsService {
         budget.setUpdatedAt(new Date());
 
         budget = budgetsRepository.save(budget);
+        eventPublisher.publishEvent(new DashboardDataChangedEvent(budget.getUserId(), "BUDGET"));
 
         // 4. Return updated budget with items
         return getBudgetWithItems(budgetId);
@@ -307,6 +313,7 @@ public class BudgetsService {
 
         // 3. Delete budget
         budgetsRepository.delete(budget);
+        eventPublisher.publishEvent(new DashboardDataChangedEvent(budget.getUserId(), "BUDGET"));
     }
 
     /**
@@ -334,6 +341,7 @@ public class BudgetsService {
                 .build();
 
         item = budgetItemsRepository.save(item);
+        eventPublisher.publishEvent(new DashboardDataChangedEvent(budget.getUserId(), "BUDGET"));
 
         // 4. Return item with category name
         return BudgetItemDTO.builder()
@@ -374,6 +382,7 @@ public class BudgetsService {
         }
 
         item = budgetItemsRepository.save(item);
+        publishBudgetChange(item.getBudgetId());
 
         // 3. Get category name for response
         Categories category = categoriesRepository.findById(item.getCategoryId()).orElse(null);
@@ -400,6 +409,7 @@ public class BudgetsService {
 
         // 2. Delete item
         budgetItemsRepository.delete(item);
+        publishBudgetChange(item.getBudgetId());
     }
 
     /**
@@ -429,4 +439,13 @@ public class BudgetsService {
                 })
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    /**
+     * Helper: Notify listeners that the owner of a budget has changed dashboard data
+     */
+    private void publishBudgetChange(Long budgetId) {
+        budgetsRepository.findById(budgetId)
+                .ifPresent(budget -> eventPublisher.publishEvent(
+                        new DashboardDataChangedEvent(budget.getUserId(), "BUDGET")));
+    }
+}
@@ -8,6 +8,7 @@ import com.practice.expensemngr.vo.CategoriesUpdateVO;
 import com.practice.expensemngr.vo.CategoriesVO;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
@@ -19,21 +20,30 @@ public class CategoriesService {
     @Autowired
     private CategoriesRepository categoriesRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public Long save(CategoriesVO vO) {
         Categories bean = new Categories();
         BeanUtils.copyProperties(vO, bean);
         bean = categoriesRepository.save(bean);
+        publishCategoryChange(bean);
         return bean.getId();
     }
 
     public void delete(Long id) {
+        Categories bean = categoriesRepository.findById(id).orElse(null);
         categoriesRepository.deleteById(id);
+        if (bean != null) {
+            publishCategoryChange(bean);
+        }
     }
 
     public void update(Long id, CategoriesUpdateVO vO) {
         Categories bean = requireOne(id);
         BeanUtils.copyProperties(vO, bean);
         categoriesRepository.save(bean);
+        publishCategoryChange(bean);
     }
 
     public CategoriesDTO getById(Long id) {
@@ -61,6 +71,14 @@ public class CategoriesService {
         return bean;
     }
 
+    /**
+     * Helper: Category names and colors appear in dashboard breakdowns; system categories
+     * (no user) on every user's dashboard
+     */
+    private void publishCategoryChange(Categories category) {
+        eventPublisher.publishEvent(new DashboardDataChangedEvent(category.getUserId(), "CATEGORY"));
+    }
+
     private Categories requireOne(Long id) {
         return categoriesRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("Resource not found: " + id));
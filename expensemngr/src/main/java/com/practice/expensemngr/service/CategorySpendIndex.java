@@ -0,0 +1,83 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.dto.CategoryPointTotalDTO;
+import com.practice.expensemngr.util.Money;
+
+import java.util.*;
+
+/**
+ * Per-category prefix sums over time, built once from aggregated rows and
+ * queried for any number of [from, to] intervals by binary search.
+ * Running totals are kept as long minor units at the largest scale of the rows.
+ * Rows must be ordered by category and point date.
+ */
+class CategorySpendIndex {
+
+    private final Map<Long, long[]> pointsByCategory = new HashMap<>();
+    private final Map<Long, long[]> prefixByCategory = new HashMap<>();
+    private final int scale;
+
+    CategorySpendIndex(List<CategoryPointTotalDTO> rows) {
+        int maxScale = Money.DEFAULT_SCALE;
+        for (CategoryPointTotalDTO row : rows) {
+            if (row.getTotal() != null) {
+                maxScale = Math.max(maxScale, Math.min(row.getTotal().scale(), Money.MAX_SCALE));
+            }
+        }
+        this.scale = maxScale;
+
+        // 1. Split the ordered rows into one run per category
+        int i = 0;
+        while (i < rows.size()) {
+            Long categoryId = rows.get(i).getCategoryId();
+            int end = i;
+            while (end < rows.size() && categoryId.equals(rows.get(end).getCategoryId())) {
+                end++;
+            }
+
+            // 2. Store timestamps and running totals; prefix[k] is the sum of the first k points
+            long[] points = new long[end - i];
+            long[] prefix = new long[end - i + 1];
+            for (int k = i; k < end; k++) {
+                points[k - i] = rows.get(k).getPointDate().getTime();
+                prefix[k - i + 1] = Math.addExact(prefix[k - i], Money.toUnits(rows.get(k).getTotal(), scale));
+            }
+            pointsByCategory.put(categoryId, points);
+            prefixByCategory.put(categoryId, prefix);
+            i = end;
+        }
+    }
+
+    /**
+     * Sum for one category between two instants
+     * @param categoryId Category ID
+     * @param from Start (inclusive, epoch millis)
+     * @param to End (inclusive, epoch millis)
+     * @return Total amount (zero when the category has no points in range)
+     */
+    Money sum(Long categoryId, long from, long to) {
+        long[] points = pointsByCategory.get(categoryId);
+        if (points == null || from > to) {
+            return Money.zero(scale);
+        }
+        long[] prefix = prefixByCategory.get(categoryId);
+        return Money.ofMinor(prefix[upperBound(points, to)] - prefix[upperBound(points, from - 1)], scale);
+    }
+
+    /**
+     * Helper: Number of points less than or equal to the key
+     */
+    private static int upperBound(long[] points, long key) {
+        int low = 0;
+        int high = points.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (points[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,86 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.config.ColumnarExportProperties;
+import com.practice.expensemngr.dto.TransactionExportDTO;
+import com.practice.expensemngr.util.ColumnarExportWriter;
+import com.practice.expensemngr.util.ColumnarFormat.Column;
+import com.practice.expensemngr.util.ColumnarFormat.ColumnType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes transactions in the binary columnar format, for analytics consumers that load exports
+ * column by column. Names are dictionary-encoded, dates delta-encoded and amounts stored as
+ * minor units; see {@link com.practice.expensemngr.util.ColumnarFormat} for the layout and
+ * {@link com.practice.expensemngr.util.ColumnarExportReader} to read it back.
+ */
+@Service
+public class ColumnarExportService {
+
+    private static final List<Column> TRANSACTION_COLUMNS = List.of(
+            new Column("id", ColumnType.INT64),
+            new Column("transactionDate", ColumnType.TIMESTAMP),
+            new Column("type", ColumnType.DICTIONARY),
+            new Column("account", ColumnType.DICTIONARY),
+            new Column("category", ColumnType.DICTIONARY),
+            new Column("amount", ColumnType.DECIMAL),
+            new Column("currency", ColumnType.DICTIONARY),
+            new Column("description", ColumnType.STRING),
+            new Column("referenceNumber", ColumnType.STRING),
+            new Column("status", ColumnType.DICTIONARY),
+            new Column("paymentMethod", ColumnType.DICTIONARY),
+            new Column("merchant", ColumnType.DICTIONARY),
+            new Column("tags", ColumnType.DICTIONARY_LIST),
+            new Column("createdAt", ColumnType.TIMESTAMP)
+    );
+
+    @Autowired
+    private ColumnarExportProperties properties;
+
+    /**
+     * Start a transactions file on a stream, header included. Call
+     * {@link ColumnarExportWriter#finish()} when done; the stream is not closed.
+     * @param out Destination
+     * @return Writer for {@link #writeTransaction}
+     */
+    public ColumnarExportWriter openTransactions(OutputStream out) throws IOException {
+        return new ColumnarExportWriter(out, TRANSACTION_COLUMNS, properties.getRowGroupSize());
+    }
+
+    /**
+     * Write one transaction row
+     * @param writer Writer from {@link #openTransactions}
+     * @param transaction Transaction to write
+     * @param tagNames Names of the transaction's tags
+     */
+    public void writeTransaction(ColumnarExportWriter writer, TransactionExportDTO transaction,
+                                 List<String> tagNames) throws IOException {
+        writer.writeRow(
+                transaction.getId(),
+                transaction.getTransactionDate(),
+                transaction.getType(),
+                emptyToNull(transaction.getAccountName()),
+                emptyToNull(transaction.getCategoryName()),
+                transaction.getAmount(),
+                transaction.getCurrencyCode(),
+                transaction.getDescription(),
+                transaction.getReferenceNumber(),
+                transaction.getStatus(),
+                emptyToNull(transaction.getPaymentMethodName()),
+                emptyToNull(transaction.getMerchantName()),
+                tagNames,
+                transaction.getCreatedAt()
+        );
+    }
+
+    /**
+     * Helper: Unresolved names are exported as blanks elsewhere; store them as absent values here
+     */
+    private String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
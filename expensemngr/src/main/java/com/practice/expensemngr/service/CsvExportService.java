@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
@@ -19,49 +20,31 @@ public class CsvExportService {
     private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd");
     private static final SimpleDateFormat DATETIME_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
 
+    private static final CSVFormat TRANSACTIONS_FORMAT = CSVFormat.DEFAULT.withHeader(
+            "ID",
+            "Date",
+            "Type",
+            "Account",
+            "Category",
+            "Amount",
+            "Currency",
+            "Description",
+            "Reference Number",
+            "Status",
+            "Payment Method",
+            "Merchant",
+            "Tags",
+            "Created At"
+    );
+
     public byte[] exportTransactionsToCsv(List<TransactionExportDTO> transactions) {
         try {
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            OutputStreamWriter writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
 
-            CSVFormat csvFormat = CSVFormat.DEFAULT.withHeader(
-                    "ID",
-                    "Date",
-                    "Type",
-                    "Account",
-                    "Category",
-                    "Amount",
-                    "Currency",
-                    "Description",
-                    "Reference Number",
-                    "Status",
-                    "Payment Method",
-                    "Merchant",
-                    "Tags",
-                    "Created At"
-            );
-
-            CSVPrinter csvPrinter = new CSVPrinter(writer, csvFormat);
+            CSVPrinter csvPrinter = openTransactionsCsv(outputStream);
 
             for (TransactionExportDTO transaction : transactions) {
-                csvPrinter.printRecord(
-                        transaction.getId(),
-                        transaction.getTransactionDate() != null ?
-                                DATE_FORMAT.format(transaction.getTransactionDate()) : "",
-                        transaction.getType(),
-                        transaction.getAccountName(),
-                        transaction.getCategoryName(),
-                        transaction.getAmount(),
-                        transaction.getCurrencyCode(),
-                        transaction.getDescription(),
-                        transaction.getReferenceNumber(),
-                        transaction.getStatus(),
-                        transaction.getPaymentMethodName(),
-                        transaction.getMerchantName(),
-                        transaction.getTags(),
-                        transaction.getCreatedAt() != null ?
-                                DATETIME_FORMAT.format(transaction.getCreatedAt()) : ""
-                );
+                printTransaction(csvPrinter, transaction);
             }
 
             csvPrinter.flush();
@@ -74,6 +57,42 @@ public class CsvExportService {
         }
     }
 
+    /**
+     * Start a transactions CSV on a stream, header row included. Flush the printer rather
+     * than closing it when the stream belongs to the caller.
+     * @param out Destination
+     * @return Printer for {@link #printTransaction}
+     */
+    public CSVPrinter openTransactionsCsv(OutputStream out) throws IOException {
+        return new CSVPrinter(new OutputStreamWriter(out, StandardCharsets.UTF_8), TRANSACTIONS_FORMAT);
+    }
+
+    /**
+     * Write one transaction row
+     * @param csvPrinter Printer from {@link #openTransactionsCsv}
+     * @param transaction Transaction to write
+     */
+    public void printTransaction(CSVPrinter csvPrinter, TransactionExportDTO transaction) throws IOException {
+        csvPrinter.printRecord(
+                transaction.getId(),
+                transaction.getTransactionDate() != null ?
+                        DATE_FORMAT.format(transaction.getTransactionDate()) : "",
+                transaction.getType(),
+                transaction.getAccountName(),
+                transaction.getCategoryName(),
+                transaction.getAmount(),
+                transaction.getCurrencyCode(),
+                transaction.getDescription(),
+                transaction.getReferenceNumber(),
+                transaction.getStatus(),
+                transaction.getPaymentMethodName(),
+                transaction.getMerchantName(),
+                transaction.getTags(),
+                transaction.getCreatedAt() != null ?
+                        DATETIME_FORMAT.format(transaction.getCreatedAt()) : ""
+        );
+    }
+
     public byte[] exportAccountsToCsv(List<AccountExportDTO> accounts) {
         try {
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
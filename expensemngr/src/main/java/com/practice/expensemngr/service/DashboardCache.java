@@ -0,0 +1,272 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.config.DashboardCacheProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded per-user cache of dashboard results.
+ * Entries are keyed by user, widget and normalized request parameters, weighed by their
+ * serialized size, expire after a TTL and are evicted least-recently-used first once the
+ * total weight exceeds the configured bound. All entries of a user are dropped when a
+ * DashboardDataChangedEvent for that user is committed, and all entries when one for shared
+ * data (no user) is.
+ */
+@Component
+public class DashboardCache implements MeterBinder {
+
+    @Autowired
+    private DashboardCacheProperties properties;
+
+    private final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Set<CacheKey>> keysByUser = new HashMap<>();
+    private final Map<Long, Long> generations = new HashMap<>();
+    private long sharedGeneration;
+    private long totalWeight;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Get a cached result or compute and cache it
+     * @param userId User ID
+     * @param widget Widget name
+     * @param params Request parameters (dates and lists are normalized)
+     * @param loader Computes the result on a miss
+     * @return Cached or freshly computed result
+     */
+    public <T> T get(Long userId, String widget, List<?> params, Supplier<T> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        // 1. Look up a live entry
+        CacheKey key = new CacheKey(userId, widget, normalize(params));
+        long generation;
+        long shared;
+        synchronized (this) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt - System.nanoTime() > 0) {
+                    hits.incrementAndGet();
+                    @SuppressWarnings("unchecked")
+                    T value = (T) entry.value;
+                    return value;
+                }
+                remove(key);
+                expirations.incrementAndGet();
+            }
+            misses.incrementAndGet();
+            generation = generations.getOrDefault(userId, 0L);
+            shared = sharedGeneration;
+        }
+
+        // 2. Compute outside the lock
+        T value = loader.get();
+        long weight = weigh(value);
+        if (weight > properties.getMaxWeightBytes()) {
+            return value;
+        }
+
+        // 3. Store unless the user's data changed while computing, then evict down to the bound
+        synchronized (this) {
+            if (generation != generations.getOrDefault(userId, 0L) || shared != sharedGeneration) {
+                return value;
+            }
+            remove(key);
+            long expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(properties.getTtlSeconds());
+            entries.put(key, new CacheEntry(value, weight, expiresAt));
+            keysByUser.computeIfAbsent(userId, id -> new HashSet<>()).add(key);
+            totalWeight += weight;
+
+            Iterator<CacheKey> eldest = entries.keySet().iterator();
+            while (totalWeight > properties.getMaxWeightBytes() && eldest.hasNext()) {
+                CacheKey evicted = eldest.next();
+                totalWeight -= entries.get(evicted).weight;
+                eldest.remove();
+                unindex(evicted);
+                evictions.incrementAndGet();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Drop all cached results of a user once the change is committed; all users' results
+     * when the changed data is shared
+     * @param event Change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardDataChanged(DashboardDataChangedEvent event) {
+        if (event.getUserId() == null) {
+            invalidateAll();
+        } else {
+            invalidateUser(event.getUserId());
+        }
+    }
+
+    /**
+     * Drop all cached results
+     */
+    public synchronized void invalidateAll() {
+        sharedGeneration++;
+        invalidations.addAndGet(entries.size());
+        entries.clear();
+        keysByUser.clear();
+        totalWeight = 0;
+    }
+
+    /**
+     * Drop all cached results of a user
+     * @param userId User ID
+     */
+    public synchronized void invalidateUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        generations.merge(userId, 1L, Long::sum);
+        Set<CacheKey> keys = keysByUser.remove(userId);
+        if (keys != null) {
+            for (CacheKey key : keys) {
+                CacheEntry entry = entries.remove(key);
+                if (entry != null) {
+                    totalWeight -= entry.weight;
+                    invalidations.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("dashboard.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit").description("Dashboard cache hits").register(registry);
+        FunctionCounter.builder("dashboard.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss").description("Dashboard cache misses").register(registry);
+        FunctionCounter.builder("dashboard.cache.removals", evictions, AtomicLong::get)
+                .tag("cause", "size").description("Entries evicted to stay within the weight bound").register(registry);
+        FunctionCounter.builder("dashboard.cache.removals", expirations, AtomicLong::get)
+                .tag("cause", "expired").description("Entries dropped after their TTL").register(registry);
+        FunctionCounter.builder("dashboard.cache.removals", invalidations, AtomicLong::get)
+                .tag("cause", "invalidated").description("Entries dropped by data changes").register(registry);
+        Gauge.builder("dashboard.cache.size", this, cache -> cache.size())
+                .description("Number of cached dashboard results").register(registry);
+        Gauge.builder("dashboard.cache.weight", this, cache -> cache.weight())
+                .baseUnit("bytes").description("Serialized size of cached dashboard results").register(registry);
+    }
+
+    /**
+     * Helper: Current number of entries
+     */
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Helper: Current total weight
+     */
+    private synchronized long weight() {
+        return totalWeight;
+    }
+
+    /**
+     * Helper: Remove an entry and its index record (caller holds the lock)
+     */
+    private void remove(CacheKey key) {
+        CacheEntry entry = entries.remove(key);
+        if (entry != null) {
+            totalWeight -= entry.weight;
+            unindex(key);
+        }
+    }
+
+    /**
+     * Helper: Remove a key from the per-user index (caller holds the lock)
+     */
+    private void unindex(CacheKey key) {
+        Set<CacheKey> keys = keysByUser.get(key.userId());
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysByUser.remove(key.userId());
+            }
+        }
+    }
+
+    /**
+     * Helper: Normalize parameters so equivalent requests share a key. Strings are kept as
+     * given: the service decides which of them are case-insensitive, so folding case here
+     * could serve one request's result for another the service treats differently.
+     */
+    private List<Object> normalize(List<?> params) {
+        List<Object> normalized = new ArrayList<>(params.size());
+        for (Object param : params) {
+            if (param instanceof Date date) {
+                normalized.add(date.getTime());
+            } else if (param instanceof Collection<?> values) {
+                List<Object> items = normalize(new ArrayList<>(values));
+                items.sort(Comparator.comparing(String::valueOf));
+                normalized.add(items);
+            } else {
+                normalized.add(param);
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * Helper: Weigh a result by its serialized size
+     */
+    private long weigh(Object value) {
+        if (!(value instanceof Serializable)) {
+            return 1024;
+        }
+        CountingOutputStream counter = new CountingOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(counter)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            return 1024;
+        }
+        return counter.count;
+    }
+
+    private record CacheKey(Long userId, String widget, List<Object> params) {
+    }
+
+    private record CacheEntry(Object value, long weight, long expiresAt) {
+    }
+
+    /**
+     * Output stream that only counts bytes
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
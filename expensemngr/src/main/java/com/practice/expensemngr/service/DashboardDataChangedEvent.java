@@ -0,0 +1,24 @@
+package com.practice.expensemngr.service;
+
+/**
+ * Event published when a write changes data shown on a user's dashboard. A null user ID
+ * means shared data (e.g. system categories) shown on every user's dashboard.
+ */
+public class DashboardDataChangedEvent {
+
+    private final Long userId;
+    private final String source;
+
+    public DashboardDataChangedEvent(Long userId, String source) {
+        this.userId = userId;
+        this.source = source;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getSource() {
+        return source;
+    }
+}
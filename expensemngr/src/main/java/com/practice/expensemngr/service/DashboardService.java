@@ -2,14 +2,33 @@ package com.practice.expensemngr.service;
 
 import com.practice.expensemngr.dto.*;
 import com.practice.expensemngr.entity.*;
+import com.practice.expensemngr.exception.DashboardComputationException;
+import com.practice.expensemngr.exception.InvalidDashboardWidgetException;
+import com.practice.expensemngr.exception.InvalidDateRangeException;
+import com.practice.expensemngr.exception.InvalidTimeZoneException;
+import com.practice.expensemngr.exception.InvalidTrendGroupingException;
 import com.practice.expensemngr.repository.*;
+import com.practice.expensemngr.util.DashboardWidgetEnum;
+import com.practice.expensemngr.util.Money;
+import com.practice.expensemngr.util.MoneyAccumulator;
+import com.practice.expensemngr.util.PeriodBucketer;
+import com.practice.expensemngr.util.TrendGroupingEnum;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,6 +49,12 @@ public class DashboardService {
     @Autowired
     private BudgetItemsRepository budgetItemsRepository;
 
+    @Autowired
+    private TransactionRollupsRepository transactionRollupsRepository;
+
+    @Autowired
+    private DimensionNameResolver dimensionNameResolver;
+
     /**
      * Get dashboard summary with account balances, totals, and recent transactions
      * @param userId User ID
@@ -68,67 +93,78 @@ public class DashboardService {
             accounts = accountsRepository.findByUserId(userId);
         }
 
-        // 3. Build account summaries
-        List<AccountSummaryDTO> accountSummaries = accounts.stream()
-                .map(account -> AccountSummaryDTO.builder()
-                        .accountId(account.getId())
-                        .accountName(account.getName())
-                        .accountType(account.getType())
-                        .currentBalance(account.getCurrentBalance())
-                        .currencyCode(account.getCurrencyCode())
-                        .archived(account.getArchived())
-                        .build())
-                .collect(Collectors.toList());
-
-        // 4. Calculate total balance (only active accounts)
-        BigDecimal totalBalance = accounts.stream()
-                .filter(a -> !a.getArchived())
-                .map(Accounts::getCurrentBalance)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // 3. Aggregate period totals in the database
+        List<TypeTotalDTO> clearedTotals = sumByType(userId, accountId, "CLEARED", startDate, endDate);
+        List<TypeTotalDTO> allTotals = sumByType(userId, accountId, null, startDate, endDate);
 
-        // 5. Get transactions for the period
-        List<Transactions> transactions;
+        // 4. Get recent transactions (only the requested page is loaded)
+        int recentLimit = (limit != null && limit > 0) ? limit : 10;
+        Pageable recentPage = PageRequest.of(0, recentLimit,
+                Sort.by(Sort.Direction.DESC, "transactionDate", "createdAt"));
+        List<Transactions> recent;
         if (accountId != null) {
-            transactions = getTransactionsByAccountAndDateRange(accountId, startDate, endDate);
+            recent = transactionsRepository.findByUserIdAndAccountIdAndTransactionDateBetween(
+                    userId, accountId, startDate, endDate, recentPage);
         } else {
-            transactions = getTransactionsByUserAndDateRange(userId, startDate, endDate);
+            recent = transactionsRepository.findByUserIdAndTransactionDateBetween(
+                    userId, startDate, endDate, recentPage);
         }
 
-        // 6. Calculate totals
-        BigDecimal totalIncome = transactions.stream()
-                .filter(t -> "INCOME".equals(t.getType()) && "CLEARED".equals(t.getStatus()))
-                .map(Transactions::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // 5. Resolve category and account names of the recent transactions in bulk
+        DimensionLookup lookup = dimensionNameResolver.forTransactions(recent, false);
+
+        // 6. Build and return summary
+        return buildSummary(accounts, clearedTotals, allTotals, recent, lookup::categoryName, lookup::accountName,
+                startDate, endDate);
+    }
 
-        BigDecimal totalExpense = transactions.stream()
-                .filter(t -> "EXPENSE".equals(t.getType()) && "CLEARED".equals(t.getStatus()))
-                .map(Transactions::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    /**
+     * Helper: Assemble the dashboard summary from loaded accounts, aggregates and recent transactions
+     */
+    private DashboardSummaryDTO buildSummary(List<Accounts> accounts, List<TypeTotalDTO> clearedTotals,
+                                             List<TypeTotalDTO> allTotals, List<Transactions> recent,
+                                             Function<Long, String> categoryNames,
+                                             Function<Long, String> accountNames,
+                                             Date startDate, Date endDate) {
+        // 1. Build account summaries
+        List<AccountSummaryDTO> accountSummaries = accounts.stream()
+                .map(this::toAccountSummary)
+                .collect(Collectors.toList());
 
-        BigDecimal netSavings = totalIncome.subtract(totalExpense);
+        // 2. Calculate total balance (only active accounts)
+        MoneyAccumulator totalBalance = new MoneyAccumulator();
+        for (Accounts account : accounts) {
+            if (!account.getArchived()) {
+                totalBalance.add(account.getCurrentBalance());
+            }
+        }
 
-        // 7. Get recent transactions
-        int recentLimit = (limit != null && limit > 0) ? limit : 10;
-        List<RecentTransactionSummaryDTO> recentTransactions = transactions.stream()
-                .sorted(Comparator.comparing(Transactions::getTransactionDate).reversed()
-                        .thenComparing(Comparator.comparing(Transactions::getCreatedAt).reversed()))
-                .limit(recentLimit)
-                .map(this::toRecentTransactionSummary)
+        // 3. Calculate totals
+        Money totalIncome = totalForType(clearedTotals, "INCOME");
+        Money totalExpense = totalForType(clearedTotals, "EXPENSE");
+        Money netSavings = totalIncome.minus(totalExpense);
+        long transactionCount = allTotals.stream()
+                .mapToLong(TypeTotalDTO::getCount)
+                .sum();
+
+        // 4. Convert recent transactions
+        List<RecentTransactionSummaryDTO> recentTransactions = recent.stream()
+                .map(t -> toRecentTransactionSummary(t, categoryNames, accountNames))
                 .collect(Collectors.toList());
 
-        // 8. Generate period description
+        // 5. Generate period description
         SimpleDateFormat monthFormat = new SimpleDateFormat("MMMM yyyy");
         String periodDescription = monthFormat.format(startDate);
 
-        // 9. Build and return summary
+        // 6. Build and return summary
         return DashboardSummaryDTO.builder()
                 .accounts(accountSummaries)
-                .totalBalance(totalBalance)
+                .totalBalance(totalBalance.toBigDecimal())
                 .accountCount(accounts.size())
-                .totalIncome(totalIncome)
-                .totalExpense(totalExpense)
-                .netSavings(netSavings)
-                .transactionCount(transactions.size())
+                .totalIncome(totalIncome.toBigDecimal())
+                .totalExpense(totalExpense.toBigDecimal())
+                .netSavings(netSavings.toBigDecimal())
+                .transactionCount((int) transactionCount)
                 .recentTransactions(recentTransactions)
                 .startDate(startDate)
                 .endDate(endDate)
@@ -154,6 +190,7 @@ public class DashboardService {
             cal.set(Calendar.HOUR_OF_DAY, 0);
             cal.set(Calendar.MINUTE, 0);
             cal.set(Calendar.SECOND, 0);
+            cal.set(Calendar.MILLISECOND, 0);
             startDate = cal.getTime();
 
             cal.set(Calendar.DAY_OF_MONTH, cal.getActualMaximum(Calendar.DAY_OF_MONTH));
@@ -163,75 +200,64 @@ public class DashboardService {
             endDate = cal.getTime();
         }
 
-        // 2. Get transactions for the period and type
-        List<Transactions> transactions;
-        if (accountId != null) {
-            transactions = getTransactionsByAccountAndDateRange(accountId, startDate, endDate);
-        } else {
-            transactions = getTransactionsByUserAndDateRange(userId, startDate, endDate);
-        }
-
-        // 3. Filter by type and status
-        transactions = transactions.stream()
-                .filter(t -> type.equals(t.getType()) && "CLEARED".equals(t.getStatus()))
-                .collect(Collectors.toList());
+        // 2. Aggregate per-category totals for the period, type and status in the database
+        List<CategoryTotalDTO> categoryTotals = sumByCategory(userId, accountId, type, "CLEARED", startDate, endDate);
 
-        // 4. Group by category and sum amounts
-        Map<Long, BigDecimal> categoryAmounts = new HashMap<>();
-        Map<Long, Integer> categoryTransactionCounts = new HashMap<>();
+        // 3. Load all referenced categories in one query
+        Map<Long, Categories> categoriesById = categoriesRepository.findAllById(
+                        categoryTotals.stream().map(CategoryTotalDTO::getCategoryId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Categories::getId, c -> c));
 
-        for (Transactions transaction : transactions) {
-            Long categoryId = transaction.getCategoryId();
-            BigDecimal amount = transaction.getAmount();
+        // 4. Build and return breakdown
+        return buildCategoryBreakdown(type, categoryTotals, categoriesById, startDate, endDate);
+    }
 
-            categoryAmounts.put(categoryId,
-                    categoryAmounts.getOrDefault(categoryId, BigDecimal.ZERO).add(amount));
-            categoryTransactionCounts.put(categoryId,
-                    categoryTransactionCounts.getOrDefault(categoryId, 0) + 1);
+    /**
+     * Helper: Assemble a category breakdown from per-category totals
+     */
+    private CategoryBreakdownDTO buildCategoryBreakdown(String type, List<CategoryTotalDTO> categoryTotals,
+                                                        Map<Long, Categories> categoriesById,
+                                                        Date startDate, Date endDate) {
+        // 1. Calculate total amount and count
+        MoneyAccumulator totalAmount = new MoneyAccumulator();
+        for (CategoryTotalDTO row : categoryTotals) {
+            totalAmount.add(row.getTotal(), row.getCount());
         }
 
-        // 5. Calculate total amount
-        BigDecimal totalAmount = categoryAmounts.values().stream()
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 6. Build category breakdown items
+        // 2. Build category breakdown items
         List<CategoryBreakdownItemDTO> categoryItems = new ArrayList<>();
-        for (Map.Entry<Long, BigDecimal> entry : categoryAmounts.entrySet()) {
-            Long categoryId = entry.getKey();
-            BigDecimal amount = entry.getValue();
+        for (CategoryTotalDTO row : categoryTotals) {
+            Long categoryId = row.getCategoryId();
+            BigDecimal amount = row.getTotal();
 
-            Categories category = categoriesRepository.findById(categoryId).orElse(null);
+            Categories category = categoriesById.get(categoryId);
             if (category == null) continue;
 
             // Calculate percentage
-            double percentage = 0.0;
-            if (totalAmount.compareTo(BigDecimal.ZERO) > 0) {
-                percentage = amount.divide(totalAmount, 4, RoundingMode.HALF_UP)
-                        .multiply(new BigDecimal("100"))
-                        .doubleValue();
-            }
+            double percentage = Money.of(amount).percentageOf(totalAmount.sum());
 
             CategoryBreakdownItemDTO item = CategoryBreakdownItemDTO.builder()
                     .categoryId(categoryId)
                     .categoryName(category.getName())
                     .amount(amount)
                     .percentage(percentage)
-                    .transactionCount(categoryTransactionCounts.get(categoryId))
+                    .transactionCount(row.getCount().intValue())
                     .color(category.getColor())
                     .build();
 
             categoryItems.add(item);
         }
 
-        // 7. Sort by amount descending
+        // 3. Sort by amount descending
         categoryItems.sort(Comparator.comparing(CategoryBreakdownItemDTO::getAmount).reversed());
 
-        // 8. Build and return breakdown
+        // 4. Build and return breakdown
         return CategoryBreakdownDTO.builder()
                 .type(type)
                 .categories(categoryItems)
-                .totalAmount(totalAmount)
-                .totalTransactionCount(transactions.size())
+                .totalAmount(totalAmount.toBigDecimal())
+                .totalTransactionCount((int) totalAmount.getCount())
                 .startDate(startDate)
                 .endDate(endDate)
                 .build();
@@ -251,13 +277,22 @@ public class DashboardService {
         // 1. Get category breakdown
         CategoryBreakdownDTO breakdown = getCategoryBreakdown(userId, startDate, endDate, type, null);
 
-        // 2. Limit to top N
+        // 2. Limit to top N and return
+        return buildTopCategories(breakdown, limit, type, startDate, endDate);
+    }
+
+    /**
+     * Helper: Assemble the top N categories from a category breakdown
+     */
+    private TopCategoryDTO buildTopCategories(CategoryBreakdownDTO breakdown, Integer limit, String type,
+                                              Date startDate, Date endDate) {
+        // 1. Limit to top N
         int topLimit = (limit != null && limit > 0) ? limit : 5;
         List<CategoryBreakdownItemDTO> topCategories = breakdown.getCategories().stream()
                 .limit(topLimit)
                 .collect(Collectors.toList());
 
-        // 3. Build and return
+        // 2. Build and return
         return TopCategoryDTO.builder()
                 .type(type)
                 .topCategories(topCategories)
@@ -277,32 +312,33 @@ public class DashboardService {
         // 1. Get all user accounts
         List<Accounts> accounts = accountsRepository.findByUserId(userId);
 
-        // 2. Build account summaries
+        // 2. Build and return overview
+        return buildAccountBalanceOverview(accounts);
+    }
+
+    /**
+     * Helper: Assemble the account balance overview from loaded accounts
+     */
+    private AccountBalanceOverviewDTO buildAccountBalanceOverview(List<Accounts> accounts) {
+        // 1. Build account summaries
         List<AccountSummaryDTO> accountSummaries = accounts.stream()
-                .map(account -> AccountSummaryDTO.builder()
-                        .accountId(account.getId())
-                        .accountName(account.getName())
-                        .accountType(account.getType())
-                        .currentBalance(account.getCurrentBalance())
-                        .currencyCode(account.getCurrencyCode())
-                        .archived(account.getArchived())
-                        .build())
+                .map(this::toAccountSummary)
                 .collect(Collectors.toList());
 
-        // 3. Calculate totals
-        BigDecimal totalBalance = BigDecimal.ZERO;
+        // 2. Calculate totals
+        MoneyAccumulator totalBalance = new MoneyAccumulator();
         int activeCount = 0;
         int archivedCount = 0;
 
-        BigDecimal cashTotal = BigDecimal.ZERO;
-        BigDecimal bankTotal = BigDecimal.ZERO;
-        BigDecimal creditCardTotal = BigDecimal.ZERO;
-        BigDecimal mobileWalletTotal = BigDecimal.ZERO;
-        BigDecimal otherTotal = BigDecimal.ZERO;
+        MoneyAccumulator cashTotal = new MoneyAccumulator();
+        MoneyAccumulator bankTotal = new MoneyAccumulator();
+        MoneyAccumulator creditCardTotal = new MoneyAccumulator();
+        MoneyAccumulator mobileWalletTotal = new MoneyAccumulator();
+        MoneyAccumulator otherTotal = new MoneyAccumulator();
 
         for (Accounts account : accounts) {
             if (!account.getArchived()) {
-                totalBalance = totalBalance.add(account.getCurrentBalance());
+                totalBalance.add(account.getCurrentBalance());
                 activeCount++;
             } else {
                 archivedCount++;
@@ -311,73 +347,134 @@ public class DashboardService {
             // Group by type
             switch (account.getType()) {
                 case "Cash":
-                    cashTotal = cashTotal.add(account.getCurrentBalance());
+                    cashTotal.add(account.getCurrentBalance());
                     break;
                 case "Bank":
-                    bankTotal = bankTotal.add(account.getCurrentBalance());
+                    bankTotal.add(account.getCurrentBalance());
                     break;
                 case "Credit Card":
-                    creditCardTotal = creditCardTotal.add(account.getCurrentBalance());
+                    creditCardTotal.add(account.getCurrentBalance());
                     break;
                 case "Mobile Wallet":
-                    mobileWalletTotal = mobileWalletTotal.add(account.getCurrentBalance());
+                    mobileWalletTotal.add(account.getCurrentBalance());
                     break;
                 default:
-                    otherTotal = otherTotal.add(account.getCurrentBalance());
+                    otherTotal.add(account.getCurrentBalance());
                     break;
             }
         }
 
-        // 4. Build and return overview
+        // 3. Build and return overview
         return AccountBalanceOverviewDTO.builder()
                 .accounts(accountSummaries)
-                .totalBalance(totalBalance)
+                .totalBalance(totalBalance.toBigDecimal())
                 .totalAccounts(accounts.size())
                 .activeAccounts(activeCount)
                 .archivedAccounts(archivedCount)
-                .cashTotal(cashTotal)
-                .bankTotal(bankTotal)
-                .creditCardTotal(creditCardTotal)
-                .mobileWalletTotal(mobileWalletTotal)
-                .otherTotal(otherTotal)
+                .cashTotal(cashTotal.toBigDecimal())
+                .bankTotal(bankTotal.toBigDecimal())
+                .creditCardTotal(creditCardTotal.toBigDecimal())
+                .mobileWalletTotal(mobileWalletTotal.toBigDecimal())
+                .otherTotal(otherTotal.toBigDecimal())
                 .build();
     }
 
     /**
-     * Helper: Get transactions by user and date range
+     * Helper: Sum amounts per type, from the daily rollups when the range covers whole days
      */
-    private List<Transactions> getTransactionsByUserAndDateRange(Long userId, Date startDate, Date endDate) {
-        return transactionsRepository.findAll().stream()
-                .filter(t -> t.getUserId().equals(userId))
-                .filter(t -> !t.getTransactionDate().before(startDate) && !t.getTransactionDate().after(endDate))
-                .collect(Collectors.toList());
+    private List<TypeTotalDTO> sumByType(Long userId, Long accountId, String status, Date startDate, Date endDate) {
+        if (isWholeDayRange(startDate, endDate)) {
+            return transactionRollupsRepository.sumByType(userId, accountId, status,
+                    TransactionRollupService.toDay(startDate), TransactionRollupService.toDay(endDate));
+        }
+        return transactionsRepository.sumByType(userId, accountId, status, startDate, endDate);
     }
 
     /**
-     * Helper: Get transactions by account and date range
+     * Helper: Sum amounts per category, from the daily rollups when the range covers whole days
      */
-    private List<Transactions> getTransactionsByAccountAndDateRange(Long accountId, Date startDate, Date endDate) {
-        return transactionsRepository.findAll().stream()
-                .filter(t -> t.getAccountId().equals(accountId))
-                .filter(t -> !t.getTransactionDate().before(startDate) && !t.getTransactionDate().after(endDate))
-                .collect(Collectors.toList());
+    private List<CategoryTotalDTO> sumByCategory(Long userId, Long accountId, String type, String status,
+                                                 Date startDate, Date endDate) {
+        if (isWholeDayRange(startDate, endDate)) {
+            return transactionRollupsRepository.sumByCategory(userId, accountId, type, status,
+                    TransactionRollupService.toDay(startDate), TransactionRollupService.toDay(endDate));
+        }
+        return transactionsRepository.sumByCategory(userId, accountId, type, status, startDate, endDate);
+    }
+
+    /**
+     * Helper: Sum amounts per day and type, from the daily rollups when the range covers whole days
+     */
+    private List<DailyTotalDTO> sumByDay(Long userId, Long accountId, String status, Date startDate, Date endDate) {
+        if (isWholeDayRange(startDate, endDate)) {
+            return transactionRollupsRepository.sumByDay(userId, accountId, status,
+                    TransactionRollupService.toDay(startDate), TransactionRollupService.toDay(endDate));
+        }
+        return transactionsRepository.sumByDay(userId, accountId, status, startDate, endDate);
+    }
+
+    /**
+     * Helper: Check whether a range starts at midnight and ends at midnight or at the end of a day.
+     * Such ranges are answered exactly by the day-grain rollups; any other range is
+     * aggregated from the raw transactions with its exact bounds.
+     */
+    private boolean isWholeDayRange(Date startDate, Date endDate) {
+        LocalTime start = Instant.ofEpochMilli(startDate.getTime()).atZone(ZoneId.systemDefault()).toLocalTime();
+        LocalTime end = Instant.ofEpochMilli(endDate.getTime()).atZone(ZoneId.systemDefault()).toLocalTime();
+        return start.equals(LocalTime.MIDNIGHT)
+                && (end.equals(LocalTime.MIDNIGHT) || !end.isBefore(LocalTime.of(23, 59, 59)));
+    }
+
+    /**
+     * Helper: Get the total for one type from aggregated rows
+     */
+    private Money totalForType(List<TypeTotalDTO> totals, String type) {
+        return totals.stream()
+                .filter(row -> type.equals(row.getType()))
+                .map(row -> Money.of(row.getTotal()))
+                .findFirst()
+                .orElse(Money.zero(Money.DEFAULT_SCALE));
+    }
+
+    /**
+     * Helper: Get the transaction count for one type from aggregated rows
+     */
+    private int countForType(List<TypeTotalDTO> totals, String type) {
+        return totals.stream()
+                .filter(row -> type.equals(row.getType()))
+                .mapToInt(row -> row.getCount().intValue())
+                .findFirst()
+                .orElse(0);
     }
 
     /**
-     * Helper: Convert transaction to recent summary
+     * Helper: Convert account to summary
      */
-    private RecentTransactionSummaryDTO toRecentTransactionSummary(Transactions transaction) {
-        Categories category = categoriesRepository.findById(transaction.getCategoryId()).orElse(null);
-        Accounts account = accountsRepository.findById(transaction.getAccountId()).orElse(null);
+    private AccountSummaryDTO toAccountSummary(Accounts account) {
+        return AccountSummaryDTO.builder()
+                .accountId(account.getId())
+                .accountName(account.getName())
+                .accountType(account.getType())
+                .currentBalance(account.getCurrentBalance())
+                .currencyCode(account.getCurrencyCode())
+                .archived(account.getArchived())
+                .build();
+    }
 
+    /**
+     * Helper: Convert transaction to recent summary using pre-loaded name lookups
+     */
+    private RecentTransactionSummaryDTO toRecentTransactionSummary(Transactions transaction,
+                                                                   Function<Long, String> categoryNames,
+                                                                   Function<Long, String> accountNames) {
         return RecentTransactionSummaryDTO.builder()
                 .transactionId(transaction.getId())
                 .type(transaction.getType())
                 .amount(transaction.getAmount())
                 .currencyCode(transaction.getCurrencyCode())
                 .description(transaction.getDescription())
-                .categoryName(category != null ? category.getName() : null)
-                .accountName(account != null ? account.getName() : null)
+                .categoryName(categoryNames.apply(transaction.getCategoryId()))
+                .accountName(accountNames.apply(transaction.getAccountId()))
                 .transactionDate(transaction.getTransactionDate())
                 .status(transaction.getStatus())
                 .build();
@@ -398,6 +495,7 @@ public class DashboardService {
             cal.set(Calendar.HOUR_OF_DAY, 0);
             cal.set(Calendar.MINUTE, 0);
             cal.set(Calendar.SECOND, 0);
+            cal.set(Calendar.MILLISECOND, 0);
             startDate = cal.getTime();
 
             cal.set(Calendar.DAY_OF_MONTH, cal.getActualMaximum(Calendar.DAY_OF_MONTH));
@@ -407,75 +505,70 @@ public class DashboardService {
             endDate = cal.getTime();
         }
 
-        // 2. Get all user budgets
-        List<Budgets> budgets = budgetsRepository.findByUserId(userId);
-
-        // 3. Filter budgets that overlap with the report period
-        final Date finalStartDate = startDate;
-        final Date finalEndDate = endDate;
-        budgets = budgets.stream()
-                .filter(b -> !b.getEndDate().before(finalStartDate) && !b.getStartDate().after(finalEndDate))
-                .collect(Collectors.toList());
+        // 2. Get budgets that overlap with the report period
+        List<Budgets> budgets = budgetsRepository.findOverlapping(userId, startDate, endDate);
+        if (budgets.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        // 4. Build progress for each budget
+        // 3. Load all items and their category names in bulk
+        List<Long> budgetIds = budgets.stream().map(Budgets::getId).collect(Collectors.toList());
+        Map<Long, List<BudgetItems>> itemsByBudget = budgetItemsRepository.findByBudgetIdIn(budgetIds).stream()
+                .collect(Collectors.groupingBy(BudgetItems::getBudgetId));
+        Set<Long> categoryIds = itemsByBudget.values().stream()
+                .flatMap(List::stream)
+                .map(BudgetItems::getCategoryId)
+                .collect(Collectors.toSet());
+        Map<Long, String> categoryNames = categoriesRepository.findAllById(categoryIds).stream()
+                .collect(Collectors.toMap(Categories::getId, Categories::getName));
+
+        // 4. Aggregate expenses once over the union of all budget periods and index them
+        boolean wholeDays = budgets.stream().allMatch(b -> isWholeDayRange(b.getStartDate(), b.getEndDate()));
+        CategorySpendIndex spendIndex = buildSpendIndex(userId, categoryIds, budgets, wholeDays);
+
+        // 5. Build progress for each budget
         List<BudgetProgressDTO> progressList = new ArrayList<>();
         for (Budgets budget : budgets) {
-            // Get budget items
-            List<BudgetItems> items = budgetItemsRepository.findByBudgetId(budget.getId());
+            List<BudgetItems> items = itemsByBudget.getOrDefault(budget.getId(), Collections.emptyList());
+            long from = intervalStart(budget.getStartDate(), wholeDays);
+            long to = intervalEnd(budget.getEndDate(), wholeDays);
 
             // Calculate progress for each item
             List<BudgetItemProgressDTO> itemProgressList = new ArrayList<>();
-            BigDecimal totalBudgeted = BigDecimal.ZERO;
-            BigDecimal totalActual = BigDecimal.ZERO;
+            MoneyAccumulator totalBudgeted = new MoneyAccumulator();
+            MoneyAccumulator totalActual = new MoneyAccumulator();
 
             for (BudgetItems item : items) {
                 // Get actual spending for this category in the budget period
-                BigDecimal actual = calculateActualSpendingForCategory(
-                        userId,
-                        item.getCategoryId(),
-                        budget.getStartDate(),
-                        budget.getEndDate()
-                );
-
-                BigDecimal remaining = item.getLimitAmount().subtract(actual);
-                double percentage = 0.0;
-                if (item.getLimitAmount().compareTo(BigDecimal.ZERO) > 0) {
-                    percentage = actual.divide(item.getLimitAmount(), 4, RoundingMode.HALF_UP)
-                            .multiply(new BigDecimal("100"))
-                            .doubleValue();
-                }
+                Money actual = spendIndex.sum(item.getCategoryId(), from, to);
+                Money limit = Money.of(item.getLimitAmount());
+
+                Money remaining = limit.minus(actual);
+                double percentage = actual.percentageOf(limit);
 
                 // Determine status
                 String status = determineStatus(percentage, item.getWarningPercent());
 
-                // Get category name
-                Categories category = categoriesRepository.findById(item.getCategoryId()).orElse(null);
-
                 BudgetItemProgressDTO itemProgress = BudgetItemProgressDTO.builder()
                         .budgetItemId(item.getId())
                         .categoryId(item.getCategoryId())
-                        .categoryName(category != null ? category.getName() : null)
+                        .categoryName(categoryNames.get(item.getCategoryId()))
                         .budgeted(item.getLimitAmount())
-                        .actual(actual)
-                        .remaining(remaining)
+                        .actual(actual.toBigDecimal())
+                        .remaining(remaining.toBigDecimal())
                         .percentage(percentage)
                         .status(status)
                         .warningPercent(item.getWarningPercent())
                         .build();
 
                 itemProgressList.add(itemProgress);
-                totalBudgeted = totalBudgeted.add(item.getLimitAmount());
-                totalActual = totalActual.add(actual);
+                totalBudgeted.add(limit);
+                totalActual.add(actual);
             }
 
             // Calculate overall budget progress
-            BigDecimal totalRemaining = totalBudgeted.subtract(totalActual);
-            double overallPercentage = 0.0;
-            if (totalBudgeted.compareTo(BigDecimal.ZERO) > 0) {
-                overallPercentage = totalActual.divide(totalBudgeted, 4, RoundingMode.HALF_UP)
-                        .multiply(new BigDecimal("100"))
-                        .doubleValue();
-            }
+            Money totalRemaining = totalBudgeted.sum().minus(totalActual.sum());
+            double overallPercentage = totalActual.percentageOf(totalBudgeted);
 
             String overallStatus = determineStatus(overallPercentage, 80); // Default 80% warning
 
@@ -484,14 +577,14 @@ public class DashboardService {
                     .budgetName(budget.getName())
                     .budgetStartDate(budget.getStartDate())
                     .budgetEndDate(budget.getEndDate())
-                    .totalBudgeted(totalBudgeted)
-                    .totalActual(totalActual)
-                    .totalRemaining(totalRemaining)
+                    .totalBudgeted(totalBudgeted.toBigDecimal())
+                    .totalActual(totalActual.toBigDecimal())
+                    .totalRemaining(totalRemaining.toBigDecimal())
                     .overallPercentage(overallPercentage)
                     .overallStatus(overallStatus)
                     .items(itemProgressList)
-                    .reportStartDate(finalStartDate)
-                    .reportEndDate(finalEndDate)
+                    .reportStartDate(startDate)
+                    .reportEndDate(endDate)
                     .build();
 
             progressList.add(progress);
@@ -505,13 +598,18 @@ public class DashboardService {
      * @param userId User ID
      * @param startDate Start date
      * @param endDate End date
-     * @param groupBy Grouping: DAILY, WEEKLY, MONTHLY
+     * @param groupBy Grouping: DAILY, WEEKLY, MONTHLY, QUARTERLY, YEARLY
      * @param accountId Filter by account (optional)
+     * @param timeZone Time zone that periods are cut in (optional, defaults to the server zone)
      * @return Spending trends
      */
     public SpendingTrendDTO getSpendingTrends(Long userId, Date startDate, Date endDate,
-                                              String groupBy, Long accountId) {
-        // 1. Set default date range if not provided (last 30 days)
+                                              String groupBy, Long accountId, String timeZone) {
+        // 1. Resolve grouping and time zone
+        TrendGroupingEnum grouping = parseGrouping(groupBy);
+        ZoneId zone = parseZone(timeZone);
+
+        // 2. Set default date range if not provided (last 30 days)
         if (startDate == null || endDate == null) {
             Calendar cal = Calendar.getInstance();
             endDate = cal.getTime();
@@ -519,72 +617,100 @@ public class DashboardService {
             cal.add(Calendar.DAY_OF_MONTH, -30);
             startDate = cal.getTime();
         }
-
-        // 2. Set default groupBy if not provided
-        if (groupBy == null || groupBy.isEmpty()) {
-            groupBy = "DAILY";
+        if (endDate.before(startDate)) {
+            throw new InvalidDateRangeException();
         }
-
-        // 3. Get transactions for the period
-        List<Transactions> transactions;
-        if (accountId != null) {
-            transactions = getTransactionsByAccountAndDateRange(accountId, startDate, endDate);
+        PeriodBucketer bucketer = new PeriodBucketer(grouping, zone,
+                toLocalDate(startDate, zone), toLocalDate(endDate, zone));
+
+        // 3. Aggregate CLEARED totals in the database and add them straight into the period arrays.
+        //    Day rows are cut in the server zone, so other zones are bucketed from per-timestamp totals.
+        TrendSeries series = new TrendSeries(bucketer);
+        if (zone.getRules().equals(ZoneId.systemDefault().getRules())) {
+            for (DailyTotalDTO row : sumByDay(userId, accountId, "CLEARED", startDate, endDate)) {
+                series.add(bucketer.indexOf(row.getDay()), row.getType(), row.getTotal(), row.getCount());
+            }
         } else {
-            transactions = getTransactionsByUserAndDateRange(userId, startDate, endDate);
+            for (InstantTotalDTO row : transactionsRepository.sumByInstant(userId, accountId, "CLEARED",
+                    startDate, endDate)) {
+                series.add(bucketer.indexOfInstant(row.getInstant().getTime()), row.getType(), row.getTotal(),
+                        row.getCount());
+            }
         }
 
-        // 4. Filter only CLEARED transactions
-        transactions = transactions.stream()
-                .filter(t -> "CLEARED".equals(t.getStatus()))
-                .collect(Collectors.toList());
-
-        // 5. Group transactions by period
-        Map<String, List<Transactions>> groupedTransactions = new LinkedHashMap<>();
-        SimpleDateFormat dateFormat = getDateFormatForGrouping(groupBy);
+        // 4. Build and return trend
+        return toSpendingTrend(series, bucketer, zone, startDate, endDate);
+    }
 
-        for (Transactions transaction : transactions) {
-            String period = formatPeriod(transaction.getTransactionDate(), groupBy, dateFormat);
-            groupedTransactions.computeIfAbsent(period, k -> new ArrayList<>()).add(transaction);
+    /**
+     * Helper: Assemble spending trends from daily totals cut in the server zone
+     */
+    private SpendingTrendDTO buildSpendingTrends(TrendGroupingEnum grouping, List<DailyTotalDTO> dailyTotals,
+                                                 Date startDate, Date endDate) {
+        // 1. Size the period arrays to the range
+        ZoneId zone = ZoneId.systemDefault();
+        PeriodBucketer bucketer = new PeriodBucketer(grouping, zone,
+                toLocalDate(startDate, zone), toLocalDate(endDate, zone));
+
+        // 2. Add each daily total to its period
+        TrendSeries series = new TrendSeries(bucketer);
+        for (DailyTotalDTO row : dailyTotals) {
+            series.add(bucketer.indexOf(row.getDay()), row.getType(), row.getTotal(), row.getCount());
         }
 
-        // 6. Build data points
-        List<SpendingTrendDataPointDTO> dataPoints = new ArrayList<>();
-        for (Map.Entry<String, List<Transactions>> entry : groupedTransactions.entrySet()) {
-            String period = entry.getKey();
-            List<Transactions> periodTransactions = entry.getValue();
-
-            BigDecimal income = periodTransactions.stream()
-                    .filter(t -> "INCOME".equals(t.getType()))
-                    .map(Transactions::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            BigDecimal expense = periodTransactions.stream()
-                    .filter(t -> "EXPENSE".equals(t.getType()))
-                    .map(Transactions::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            BigDecimal net = income.subtract(expense);
-
-            SpendingTrendDataPointDTO dataPoint = SpendingTrendDataPointDTO.builder()
-                    .period(period)
-                    .income(income)
-                    .expense(expense)
-                    .net(net)
-                    .transactionCount(periodTransactions.size())
-                    .build();
-
-            dataPoints.add(dataPoint);
-        }
+        // 3. Build and return trend
+        return toSpendingTrend(series, bucketer, zone, startDate, endDate);
+    }
 
-        // 7. Build and return trend
+    /**
+     * Helper: Build the trend DTO with one zero-filled data point per period
+     */
+    private SpendingTrendDTO toSpendingTrend(TrendSeries series, PeriodBucketer bucketer, ZoneId zone,
+                                             Date startDate, Date endDate) {
         return SpendingTrendDTO.builder()
-                .groupBy(groupBy)
-                .dataPoints(dataPoints)
+                .groupBy(bucketer.getGrouping().name())
+                .timeZone(zone.getId())
+                .dataPoints(series.toDataPoints())
                 .startDate(startDate)
                 .endDate(endDate)
                 .build();
     }
 
+    /**
+     * Helper: Parse a trend grouping, defaulting to DAILY
+     */
+    private TrendGroupingEnum parseGrouping(String groupBy) {
+        if (groupBy == null || groupBy.isBlank()) {
+            return TrendGroupingEnum.DAILY;
+        }
+        try {
+            return TrendGroupingEnum.valueOf(groupBy.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTrendGroupingException(groupBy);
+        }
+    }
+
+    /**
+     * Helper: Parse a time zone ID, defaulting to the server zone
+     */
+    private ZoneId parseZone(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            return ZoneId.systemDefault();
+        }
+        try {
+            return ZoneId.of(timeZone.trim());
+        } catch (DateTimeException e) {
+            throw new InvalidTimeZoneException(timeZone);
+        }
+    }
+
+    /**
+     * Helper: Calendar day of an instant in a zone
+     */
+    private LocalDate toLocalDate(Date date, ZoneId zone) {
+        return Instant.ofEpochMilli(date.getTime()).atZone(zone).toLocalDate();
+    }
+
     /**
      * Get income vs expense comparison
      * @param userId User ID
@@ -602,6 +728,7 @@ public class DashboardService {
             cal.set(Calendar.HOUR_OF_DAY, 0);
             cal.set(Calendar.MINUTE, 0);
             cal.set(Calendar.SECOND, 0);
+            cal.set(Calendar.MILLISECOND, 0);
             startDate = cal.getTime();
 
             cal.set(Calendar.DAY_OF_MONTH, cal.getActualMaximum(Calendar.DAY_OF_MONTH));
@@ -611,72 +738,52 @@ public class DashboardService {
             endDate = cal.getTime();
         }
 
-        // 2. Get transactions for the period
-        List<Transactions> transactions;
-        if (accountId != null) {
-            transactions = getTransactionsByAccountAndDateRange(accountId, startDate, endDate);
-        } else {
-            transactions = getTransactionsByUserAndDateRange(userId, startDate, endDate);
-        }
-
-        // 3. Filter only CLEARED transactions
-        transactions = transactions.stream()
-                .filter(t -> "CLEARED".equals(t.getStatus()))
-                .collect(Collectors.toList());
-
-        // 4. Calculate income totals
-        List<Transactions> incomeTransactions = transactions.stream()
-                .filter(t -> "INCOME".equals(t.getType()))
-                .collect(Collectors.toList());
+        // 2. Aggregate CLEARED totals per type for the period in the database
+        List<TypeTotalDTO> clearedTotals = sumByType(userId, accountId, "CLEARED", startDate, endDate);
 
-        BigDecimal totalIncome = incomeTransactions.stream()
-                .map(Transactions::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        int incomeCount = incomeTransactions.size();
-
-        // 5. Calculate expense totals
-        List<Transactions> expenseTransactions = transactions.stream()
-                .filter(t -> "EXPENSE".equals(t.getType()))
-                .collect(Collectors.toList());
+        // 3. Build and return comparison
+        return buildIncomeExpenseComparison(clearedTotals, startDate, endDate);
+    }
 
-        BigDecimal totalExpense = expenseTransactions.stream()
-                .map(Transactions::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    /**
+     * Helper: Assemble the income vs expense comparison from per-type totals
+     */
+    private IncomeExpenseComparisonDTO buildIncomeExpenseComparison(List<TypeTotalDTO> clearedTotals,
+                                                                    Date startDate, Date endDate) {
+        // 1. Calculate income totals
+        Money totalIncome = totalForType(clearedTotals, "INCOME");
+        int incomeCount = countForType(clearedTotals, "INCOME");
 
-        int expenseCount = expenseTransactions.size();
+        // 2. Calculate expense totals
+        Money totalExpense = totalForType(clearedTotals, "EXPENSE");
+        int expenseCount = countForType(clearedTotals, "EXPENSE");
 
-        // 6. Calculate net savings
-        BigDecimal netSavings = totalIncome.subtract(totalExpense);
+        // 3. Calculate net savings
+        Money netSavings = totalIncome.minus(totalExpense);
 
-        // 7. Calculate savings rate
-        double savingsRate = 0.0;
-        if (totalIncome.compareTo(BigDecimal.ZERO) > 0) {
-            savingsRate = netSavings.divide(totalIncome, 4, RoundingMode.HALF_UP)
-                    .multiply(new BigDecimal("100"))
-                    .doubleValue();
-        }
+        // 4. Calculate savings rate
+        double savingsRate = netSavings.percentageOf(totalIncome);
 
-        // 8. Calculate averages
+        // 5. Calculate averages
         BigDecimal averageIncome = BigDecimal.ZERO;
         if (incomeCount > 0) {
-            averageIncome = totalIncome.divide(new BigDecimal(incomeCount), 2, RoundingMode.HALF_UP);
+            averageIncome = totalIncome.dividedBy(incomeCount, 2).toBigDecimal();
         }
 
         BigDecimal averageExpense = BigDecimal.ZERO;
         if (expenseCount > 0) {
-            averageExpense = totalExpense.divide(new BigDecimal(expenseCount), 2, RoundingMode.HALF_UP);
+            averageExpense = totalExpense.dividedBy(expenseCount, 2).toBigDecimal();
         }
 
-        // 9. Generate period description
+        // 6. Generate period description
         SimpleDateFormat monthFormat = new SimpleDateFormat("MMMM yyyy");
         String periodDescription = monthFormat.format(startDate);
 
-        // 10. Build and return comparison
+        // 7. Build and return comparison
         return IncomeExpenseComparisonDTO.builder()
-                .totalIncome(totalIncome)
-                .totalExpense(totalExpense)
-                .netSavings(netSavings)
+                .totalIncome(totalIncome.toBigDecimal())
+                .totalExpense(totalExpense.toBigDecimal())
+                .netSavings(netSavings.toBigDecimal())
                 .savingsRate(savingsRate)
                 .incomeTransactionCount(incomeCount)
                 .expenseTransactionCount(expenseCount)
@@ -689,65 +796,235 @@ public class DashboardService {
     }
 
     /**
-     * Helper: Calculate actual spending for a category in a period
+     * Get several dashboard widgets for one period in a single call.
+     * The period data is loaded once into an immutable snapshot and every requested
+     * widget is then computed concurrently, one virtual thread per widget. All widgets but
+     * budget progress are computed from the snapshot; budget progress runs its own queries,
+     * because each budget is measured over its own period, which can extend beyond the
+     * snapshot's, and across all accounts, as a budget's limits are.
+     * @param userId User ID
+     * @param startDate Start date (optional, defaults to current month start)
+     * @param endDate End date (optional, defaults to current month end)
+     * @param accountId Filter by account (optional; not applied to top categories, budget progress and account summary)
+     * @param limit Number of recent transactions in the summary (optional, default 10)
+     * @param groupBy Trend grouping: DAILY, WEEKLY, MONTHLY, QUARTERLY, YEARLY (optional, default DAILY)
+     * @param topLimit Number of top expense categories (optional, default 5)
+     * @param widgets Widgets to compute (optional, defaults to all)
+     * @return Combined dashboard payload
      */
-    private BigDecimal calculateActualSpendingForCategory(Long userId, Long categoryId,
-                                                          Date startDate, Date endDate) {
-        List<Transactions> transactions = getTransactionsByUserAndDateRange(userId, startDate, endDate);
+    public DashboardCompositeDTO getCompositeDashboard(Long userId, Date startDate, Date endDate, Long accountId,
+                                                       Integer limit, String groupBy, Integer topLimit,
+                                                       List<String> widgets) {
+        // 1. Set default date range if not provided (current month)
+        if (startDate == null || endDate == null) {
+            Calendar cal = Calendar.getInstance();
+            cal.set(Calendar.DAY_OF_MONTH, 1);
+            cal.set(Calendar.HOUR_OF_DAY, 0);
+            cal.set(Calendar.MINUTE, 0);
+            cal.set(Calendar.SECOND, 0);
+            cal.set(Calendar.MILLISECOND, 0);
+            startDate = cal.getTime();
 
-        return transactions.stream()
-                .filter(t -> categoryId.equals(t.getCategoryId()))
-                .filter(t -> "EXPENSE".equals(t.getType()))
-                .filter(t -> "CLEARED".equals(t.getStatus()))
-                .map(Transactions::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            cal.set(Calendar.DAY_OF_MONTH, cal.getActualMaximum(Calendar.DAY_OF_MONTH));
+            cal.set(Calendar.HOUR_OF_DAY, 23);
+            cal.set(Calendar.MINUTE, 59);
+            cal.set(Calendar.SECOND, 59);
+            endDate = cal.getTime();
+        }
+        TrendGroupingEnum trendGrouping = parseGrouping(groupBy);
+
+        // 2. Resolve requested widgets
+        Set<DashboardWidgetEnum> requested = parseWidgets(widgets);
+
+        // 3. Load the period data once
+        DashboardSnapshot snapshot = loadSnapshot(userId, startDate, endDate, accountId, limit);
+        Date periodStart = snapshot.getStartDate();
+        Date periodEnd = snapshot.getEndDate();
+
+        // 4. Compute every requested widget concurrently over the shared snapshot
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<DashboardSummaryDTO> summary = fork(executor, requested, DashboardWidgetEnum.SUMMARY,
+                    () -> buildSummary(snapshot.accountsFor(accountId),
+                            snapshot.sumByType(accountId, "CLEARED"), snapshot.sumByType(accountId, null),
+                            snapshot.getRecentTransactions(), snapshot::categoryName, snapshot::accountName,
+                            periodStart, periodEnd));
+            Future<CategoryBreakdownDTO> expenseBreakdown = fork(executor, requested,
+                    DashboardWidgetEnum.CATEGORY_BREAKDOWN,
+                    () -> buildCategoryBreakdown("EXPENSE", snapshot.sumByCategory(accountId, "EXPENSE", "CLEARED"),
+                            snapshot.getCategoriesById(), periodStart, periodEnd));
+            Future<CategoryBreakdownDTO> incomeBreakdown = fork(executor, requested,
+                    DashboardWidgetEnum.CATEGORY_BREAKDOWN,
+                    () -> buildCategoryBreakdown("INCOME", snapshot.sumByCategory(accountId, "INCOME", "CLEARED"),
+                            snapshot.getCategoriesById(), periodStart, periodEnd));
+            // Budgets span their own periods and all accounts, so they are not computed from the snapshot
+            Future<List<BudgetProgressDTO>> budgetProgress = fork(executor, requested,
+                    DashboardWidgetEnum.BUDGET_PROGRESS,
+                    () -> getBudgetProgress(userId, periodStart, periodEnd));
+            Future<SpendingTrendDTO> spendingTrends = fork(executor, requested, DashboardWidgetEnum.SPENDING_TRENDS,
+                    () -> buildSpendingTrends(trendGrouping, snapshot.sumByDay(accountId, "CLEARED"),
+                            periodStart, periodEnd));
+            Future<IncomeExpenseComparisonDTO> comparison = fork(executor, requested,
+                    DashboardWidgetEnum.INCOME_EXPENSE_COMPARISON,
+                    () -> buildIncomeExpenseComparison(snapshot.sumByType(accountId, "CLEARED"),
+                            periodStart, periodEnd));
+            Future<TopCategoryDTO> topCategories = fork(executor, requested, DashboardWidgetEnum.TOP_CATEGORIES,
+                    () -> buildTopCategories(buildCategoryBreakdown("EXPENSE",
+                                    snapshot.sumByCategory(null, "EXPENSE", "CLEARED"),
+                                    snapshot.getCategoriesById(), periodStart, periodEnd),
+                            topLimit, "EXPENSE", periodStart, periodEnd));
+            Future<AccountBalanceOverviewDTO> accountSummary = fork(executor, requested,
+                    DashboardWidgetEnum.ACCOUNT_SUMMARY,
+                    () -> buildAccountBalanceOverview(snapshot.getAccounts()));
+
+            // 5. Join all widgets and build the combined payload
+            return DashboardCompositeDTO.builder()
+                    .summary(join(executor, summary))
+                    .expenseBreakdown(join(executor, expenseBreakdown))
+                    .incomeBreakdown(join(executor, incomeBreakdown))
+                    .budgetProgress(join(executor, budgetProgress))
+                    .spendingTrends(join(executor, spendingTrends))
+                    .incomeExpenseComparison(join(executor, comparison))
+                    .topCategories(join(executor, topCategories))
+                    .accountSummary(join(executor, accountSummary))
+                    .startDate(periodStart)
+                    .endDate(periodEnd)
+                    .widgets(requested.stream().map(Enum::name).collect(Collectors.toList()))
+                    .build();
+        }
     }
 
     /**
-     * Helper: Determine budget status based on percentage
+     * Helper: Load accounts, categories, daily rollups and recent transactions of a period once.
+     * The period is widened to whole days, the grain of the rollups.
      */
-    private String determineStatus(double percentage, Integer warningPercent) {
-        int warning = (warningPercent != null) ? warningPercent : 80;
+    private DashboardSnapshot loadSnapshot(Long userId, Date startDate, Date endDate, Long accountId,
+                                           Integer limit) {
+        LocalDate startDay = TransactionRollupService.toDay(startDate);
+        LocalDate endDay = TransactionRollupService.toDay(endDate);
+        Date periodStart = Date.from(startDay.atStartOfDay(ZoneId.systemDefault()).toInstant());
+        Date periodEnd = Date.from(endDay.atTime(LocalTime.of(23, 59, 59)).atZone(ZoneId.systemDefault()).toInstant());
 
-        if (percentage >= 100.0) {
-            return "OVER_BUDGET";
-        } else if (percentage >= warning) {
-            return "WARNING";
-        } else {
-            return "ON_TRACK";
+        int recentLimit = (limit != null && limit > 0) ? limit : 10;
+        Pageable recentPage = PageRequest.of(0, recentLimit,
+                Sort.by(Sort.Direction.DESC, "transactionDate", "createdAt"));
+        List<Transactions> recent = accountId != null
+                ? transactionsRepository.findByUserIdAndAccountIdAndTransactionDateBetween(
+                        userId, accountId, periodStart, periodEnd, recentPage)
+                : transactionsRepository.findByUserIdAndTransactionDateBetween(
+                        userId, periodStart, periodEnd, recentPage);
+
+        Map<Long, Categories> categoriesById = categoriesRepository.findByUserIdOrUserIdIsNull(userId).stream()
+                .collect(Collectors.toMap(Categories::getId, c -> c));
+
+        return new DashboardSnapshot(periodStart, periodEnd,
+                accountsRepository.findByUserId(userId),
+                categoriesById,
+                transactionRollupsRepository.findByUserIdAndRollupDateBetween(userId, startDay, endDay),
+                recent);
+    }
+
+    /**
+     * Helper: Parse requested widget names; an empty request means all widgets
+     */
+    private Set<DashboardWidgetEnum> parseWidgets(List<String> widgets) {
+        if (widgets == null || widgets.isEmpty()) {
+            return EnumSet.allOf(DashboardWidgetEnum.class);
         }
+        Set<DashboardWidgetEnum> requested = EnumSet.noneOf(DashboardWidgetEnum.class);
+        for (String widget : widgets) {
+            try {
+                requested.add(DashboardWidgetEnum.valueOf(widget.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidDashboardWidgetException(widget);
+            }
+        }
+        return requested;
+    }
+
+    /**
+     * Helper: Start a widget on its own virtual thread if it was requested
+     */
+    private <T> Future<T> fork(ExecutorService executor, Set<DashboardWidgetEnum> requested,
+                               DashboardWidgetEnum widget, Callable<T> task) {
+        return requested.contains(widget) ? executor.submit(task) : null;
     }
 
     /**
-     * Helper: Get date format for grouping
+     * Helper: Wait for a widget; on the first failure the remaining widgets are cancelled
      */
-    private SimpleDateFormat getDateFormatForGrouping(String groupBy) {
-        switch (groupBy) {
-            case "DAILY":
-                return new SimpleDateFormat("yyyy-MM-dd");
-            case "WEEKLY":
-                return new SimpleDateFormat("yyyy-'W'ww");
-            case "MONTHLY":
-                return new SimpleDateFormat("yyyy-MM");
-            default:
-                return new SimpleDateFormat("yyyy-MM-dd");
+    private <T> T join(ExecutorService executor, Future<T> future) {
+        if (future == null) {
+            return null;
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            executor.shutdownNow();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new DashboardComputationException("Failed to compute dashboard widget", e.getCause());
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new DashboardComputationException("Interrupted while computing dashboard widgets", e);
         }
     }
 
     /**
-     * Helper: Format period label
+     * Helper: Aggregate cleared expenses per category over the union of all budget periods.
+     * Whole-day budgets are answered from the daily rollups, others from the raw rows.
      */
-    private String formatPeriod(Date date, String groupBy, SimpleDateFormat dateFormat) {
-        switch (groupBy) {
-            case "DAILY":
-                return dateFormat.format(date); // "2025-12-03"
-            case "WEEKLY":
-                return dateFormat.format(date); // "2025-W49"
-            case "MONTHLY":
-                SimpleDateFormat monthFormat = new SimpleDateFormat("MMM yyyy");
-                return monthFormat.format(date); // "Dec 2025"
-            default:
-                return dateFormat.format(date);
+    private CategorySpendIndex buildSpendIndex(Long userId, Set<Long> categoryIds, List<Budgets> budgets,
+                                               boolean wholeDays) {
+        if (categoryIds.isEmpty()) {
+            return new CategorySpendIndex(Collections.emptyList());
+        }
+        Date unionStart = budgets.stream().map(Budgets::getStartDate).min(Date::compareTo).orElseThrow();
+        Date unionEnd = budgets.stream().map(Budgets::getEndDate).max(Date::compareTo).orElseThrow();
+
+        List<CategoryPointTotalDTO> rows = wholeDays
+                ? transactionRollupsRepository.sumByCategoryAndDay(userId, categoryIds, "EXPENSE", "CLEARED",
+                        TransactionRollupService.toDay(unionStart), TransactionRollupService.toDay(unionEnd))
+                : transactionsRepository.sumByCategoryAndDate(userId, categoryIds, "EXPENSE", "CLEARED",
+                        unionStart, unionEnd);
+        return new CategorySpendIndex(rows);
+    }
+
+    /**
+     * Helper: First instant of a budget interval in the spend index
+     */
+    private long intervalStart(Date startDate, boolean wholeDays) {
+        return wholeDays ? startOfDayMillis(startDate) : startDate.getTime();
+    }
+
+    /**
+     * Helper: Last instant of a budget interval in the spend index; for whole days this is
+     * the start of the end day, which is where its rollup row is keyed
+     */
+    private long intervalEnd(Date endDate, boolean wholeDays) {
+        return wholeDays ? startOfDayMillis(endDate) : endDate.getTime();
+    }
+
+    /**
+     * Helper: Epoch millis at the start of the day containing a date
+     */
+    private long startOfDayMillis(Date date) {
+        return TransactionRollupService.toDay(date).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Helper: Determine budget status based on percentage
+     */
+    private String determineStatus(double percentage, Integer warningPercent) {
+        int warning = (warningPercent != null) ? warningPercent : 80;
+
+        if (percentage >= 100.0) {
+            return "OVER_BUDGET";
+        } else if (percentage >= warning) {
+            return "WARNING";
+        } else {
+            return "ON_TRACK";
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,169 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.dto.CategoryTotalDTO;
+import com.practice.expensemngr.dto.DailyTotalDTO;
+import com.practice.expensemngr.dto.TypeTotalDTO;
+import com.practice.expensemngr.entity.Accounts;
+import com.practice.expensemngr.entity.Categories;
+import com.practice.expensemngr.entity.TransactionRollups;
+import com.practice.expensemngr.entity.Transactions;
+import com.practice.expensemngr.util.MoneyAccumulator;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable view of one user's dashboard data for one whole-day period, loaded once
+ * and shared by all widgets of the composite dashboard. Aggregates are computed in
+ * memory from the daily rollup rows of the period.
+ */
+final class DashboardSnapshot {
+
+    private final Date startDate;
+    private final Date endDate;
+    private final List<Accounts> accounts;
+    private final Map<Long, Accounts> accountsById;
+    private final Map<Long, Categories> categoriesById;
+    private final List<TransactionRollups> rollups;
+    private final List<Transactions> recentTransactions;
+
+    DashboardSnapshot(Date startDate, Date endDate, List<Accounts> accounts,
+                      Map<Long, Categories> categoriesById, List<TransactionRollups> rollups,
+                      List<Transactions> recentTransactions) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.accounts = List.copyOf(accounts);
+        this.accountsById = this.accounts.stream()
+                .collect(Collectors.toUnmodifiableMap(Accounts::getId, a -> a));
+        this.categoriesById = Map.copyOf(categoriesById);
+        this.rollups = List.copyOf(rollups);
+        this.recentTransactions = List.copyOf(recentTransactions);
+    }
+
+    Date getStartDate() {
+        return startDate;
+    }
+
+    Date getEndDate() {
+        return endDate;
+    }
+
+    List<Accounts> getAccounts() {
+        return accounts;
+    }
+
+    Map<Long, Categories> getCategoriesById() {
+        return categoriesById;
+    }
+
+    List<Transactions> getRecentTransactions() {
+        return recentTransactions;
+    }
+
+    /**
+     * Accounts of the snapshot, optionally restricted to one account
+     * @param accountId Account filter (null for all accounts)
+     * @return List of accounts
+     */
+    List<Accounts> accountsFor(Long accountId) {
+        if (accountId == null) {
+            return accounts;
+        }
+        return accounts.stream()
+                .filter(a -> accountId.equals(a.getId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Name of a category in the snapshot
+     * @param categoryId Category ID
+     * @return Category name, or null if unknown
+     */
+    String categoryName(Long categoryId) {
+        Categories category = categoryId != null ? categoriesById.get(categoryId) : null;
+        return category != null ? category.getName() : null;
+    }
+
+    /**
+     * Name of an account in the snapshot
+     * @param accountId Account ID
+     * @return Account name, or null if unknown
+     */
+    String accountName(Long accountId) {
+        Accounts account = accountId != null ? accountsById.get(accountId) : null;
+        return account != null ? account.getName() : null;
+    }
+
+    /**
+     * Sum amounts and counts per transaction type
+     * @param accountId Account filter (null for all accounts)
+     * @param status Status filter (null for all statuses)
+     * @return One row per type
+     */
+    List<TypeTotalDTO> sumByType(Long accountId, String status) {
+        return group(matching(accountId, null, status), TransactionRollups::getType).entrySet().stream()
+                .map(e -> new TypeTotalDTO(e.getKey(), e.getValue().toBigDecimal(), e.getValue().getCount()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sum amounts and counts per category for one transaction type
+     * @param accountId Account filter (null for all accounts)
+     * @param type Transaction type
+     * @param status Status filter (null for all statuses)
+     * @return One row per category
+     */
+    List<CategoryTotalDTO> sumByCategory(Long accountId, String type, String status) {
+        return group(matching(accountId, type, status), TransactionRollups::getCategoryId).entrySet().stream()
+                .map(e -> new CategoryTotalDTO(e.getKey(), e.getValue().toBigDecimal(), e.getValue().getCount()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sum amounts and counts per day and transaction type, ordered by day
+     * @param accountId Account filter (null for all accounts)
+     * @param status Status filter (null for all statuses)
+     * @return One row per (day, type)
+     */
+    List<DailyTotalDTO> sumByDay(Long accountId, String status) {
+        Predicate<TransactionRollups> filter = matching(accountId, null, status);
+        Map<LocalDate, Map<String, MoneyAccumulator>> byDay = new TreeMap<>();
+        for (TransactionRollups row : rollups) {
+            if (filter.test(row)) {
+                byDay.computeIfAbsent(row.getRollupDate(), d -> new LinkedHashMap<>())
+                        .computeIfAbsent(row.getType(), t -> new MoneyAccumulator())
+                        .add(row.getTotalAmount(), row.getTransactionCount());
+            }
+        }
+        List<DailyTotalDTO> result = new ArrayList<>();
+        byDay.forEach((day, byType) -> byType.forEach((type, total) ->
+                result.add(new DailyTotalDTO(day, type, total.toBigDecimal(), total.getCount()))));
+        return result;
+    }
+
+    /**
+     * Helper: Filter rollup rows by optional account, type and status
+     */
+    private Predicate<TransactionRollups> matching(Long accountId, String type, String status) {
+        return row -> (accountId == null || accountId.equals(row.getAccountId()))
+                && (type == null || type.equals(row.getType()))
+                && (status == null || status.equals(row.getStatus()));
+    }
+
+    /**
+     * Helper: Group matching rollup rows by a key, keeping first-seen order
+     */
+    private <K> Map<K, MoneyAccumulator> group(Predicate<TransactionRollups> filter, Function<TransactionRollups, K> key) {
+        Map<K, MoneyAccumulator> totals = new LinkedHashMap<>();
+        for (TransactionRollups row : rollups) {
+            if (filter.test(row)) {
+                totals.computeIfAbsent(key.apply(row), k -> new MoneyAccumulator())
+                        .add(row.getTotalAmount(), row.getTransactionCount());
+            }
+        }
+        return totals;
+    }
+}
@@ -0,0 +1,66 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.entity.Accounts;
+import com.practice.expensemngr.entity.Categories;
+import com.practice.expensemngr.entity.Merchants;
+import com.practice.expensemngr.entity.PaymentMethods;
+import com.practice.expensemngr.entity.Tags;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lookup maps for the dimensions referenced by a batch of rows, built by DimensionNameResolver.
+ * Missing IDs resolve to null (or an empty tag list).
+ */
+public class DimensionLookup {
+
+    private final Map<Long, Accounts> accounts;
+    private final Map<Long, Categories> categories;
+    private final Map<Long, PaymentMethods> paymentMethods;
+    private final Map<Long, Merchants> merchants;
+    private final Map<Long, List<Tags>> tagsByTransaction;
+
+    DimensionLookup(Map<Long, Accounts> accounts, Map<Long, Categories> categories,
+                    Map<Long, PaymentMethods> paymentMethods, Map<Long, Merchants> merchants,
+                    Map<Long, List<Tags>> tagsByTransaction) {
+        this.accounts = accounts;
+        this.categories = categories;
+        this.paymentMethods = paymentMethods;
+        this.merchants = merchants;
+        this.tagsByTransaction = tagsByTransaction;
+    }
+
+    public Accounts account(Long accountId) {
+        return accountId != null ? accounts.get(accountId) : null;
+    }
+
+    public String accountName(Long accountId) {
+        Accounts account = account(accountId);
+        return account != null ? account.getName() : null;
+    }
+
+    public Categories category(Long categoryId) {
+        return categoryId != null ? categories.get(categoryId) : null;
+    }
+
+    public String categoryName(Long categoryId) {
+        Categories category = category(categoryId);
+        return category != null ? category.getName() : null;
+    }
+
+    public String paymentMethodName(Long paymentMethodId) {
+        PaymentMethods paymentMethod = paymentMethodId != null ? paymentMethods.get(paymentMethodId) : null;
+        return paymentMethod != null ? paymentMethod.getName() : null;
+    }
+
+    public String merchantName(Long merchantId) {
+        Merchants merchant = merchantId != null ? merchants.get(merchantId) : null;
+        return merchant != null ? merchant.getName() : null;
+    }
+
+    public List<Tags> tags(Long transactionId) {
+        return tagsByTransaction.getOrDefault(transactionId, Collections.emptyList());
+    }
+}
@@ -0,0 +1,125 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.dto.TransactionTagRowDTO;
+import com.practice.expensemngr.entity.*;
+import com.practice.expensemngr.repository.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the accounts, categories, payment methods, merchants and tags referenced by a
+ * batch of rows with one query per dimension, instead of one lookup per row.
+ */
+@Component
+public class DimensionNameResolver {
+
+    @Autowired
+    private AccountsRepository accountsRepository;
+
+    @Autowired
+    private CategoriesRepository categoriesRepository;
+
+    @Autowired
+    private PaymentMethodsRepository paymentMethodsRepository;
+
+    @Autowired
+    private MerchantsRepository merchantsRepository;
+
+    @Autowired
+    private TransactionTagsRepository transactionTagsRepository;
+
+    /**
+     * Resolve the dimensions referenced by a batch of transactions
+     * @param transactions Transactions to resolve
+     * @param includeTags Whether to load tags per transaction
+     * @return Lookup maps
+     */
+    public DimensionLookup forTransactions(Collection<Transactions> transactions, boolean includeTags) {
+        Set<Long> transactionIds = includeTags
+                ? collectIds(transactions, Transactions::getId)
+                : Collections.emptySet();
+        return load(
+                collectIds(transactions, Transactions::getAccountId),
+                collectIds(transactions, Transactions::getCategoryId),
+                collectIds(transactions, Transactions::getPaymentMethodId),
+                collectIds(transactions, Transactions::getMerchantId),
+                transactionIds);
+    }
+
+    /**
+     * Resolve the dimensions referenced by a batch of recurring rules
+     * @param rules Recurring rules to resolve
+     * @return Lookup maps
+     */
+    public DimensionLookup forRecurringRules(Collection<RecurringRules> rules) {
+        return load(
+                collectIds(rules, RecurringRules::getAccountId),
+                collectIds(rules, RecurringRules::getCategoryId),
+                collectIds(rules, RecurringRules::getPaymentMethodId),
+                collectIds(rules, RecurringRules::getMerchantId),
+                Collections.emptySet());
+    }
+
+    /**
+     * Resolve a set of accounts and categories by ID
+     * @param accountIds Account IDs
+     * @param categoryIds Category IDs
+     * @return Lookup maps
+     */
+    public DimensionLookup forIds(Set<Long> accountIds, Set<Long> categoryIds) {
+        return load(accountIds, categoryIds, Collections.emptySet(), Collections.emptySet(),
+                Collections.emptySet());
+    }
+
+    /**
+     * Helper: Fetch each dimension once
+     */
+    private DimensionLookup load(Set<Long> accountIds, Set<Long> categoryIds, Set<Long> paymentMethodIds,
+                                 Set<Long> merchantIds, Set<Long> transactionIds) {
+        return new DimensionLookup(
+                fetch(accountIds, accountsRepository::findAllById, Accounts::getId),
+                fetch(categoryIds, categoriesRepository::findAllById, Categories::getId),
+                fetch(paymentMethodIds, paymentMethodsRepository::findAllById, PaymentMethods::getId),
+                fetch(merchantIds, merchantsRepository::findAllById, Merchants::getId),
+                fetchTags(transactionIds));
+    }
+
+    /**
+     * Helper: Load tags for a set of transactions in one join query, keyed by transaction ID
+     */
+    private Map<Long, List<Tags>> fetchTags(Set<Long> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, List<Tags>> tagsByTransaction = new HashMap<>();
+        for (TransactionTagRowDTO row : transactionTagsRepository.findTagRowsByTransactionIdIn(transactionIds)) {
+            tagsByTransaction.computeIfAbsent(row.getTransactionId(), id -> new ArrayList<>()).add(row.getTag());
+        }
+        return tagsByTransaction;
+    }
+
+    /**
+     * Helper: Fetch entities by ID in one query and index them
+     */
+    private <E> Map<Long, E> fetch(Set<Long> ids, Function<Set<Long>, List<E>> finder, Function<E, Long> idOf) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return finder.apply(ids).stream()
+                .collect(Collectors.toMap(idOf, e -> e));
+    }
+
+    /**
+     * Helper: Collect the non-null IDs a batch references
+     */
+    private <T> Set<Long> collectIds(Collection<T> rows, Function<T, Long> idOf) {
+        return rows.stream()
+                .map(idOf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+}
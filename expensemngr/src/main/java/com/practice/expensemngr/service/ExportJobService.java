@@ -0,0 +1,429 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.config.ExportJobProperties;
+import com.practice.expensemngr.dto.ExportJobDTO;
+import com.practice.expensemngr.dto.ExportRequestDTO;
+import com.practice.expensemngr.entity.ExportJobs;
+import com.practice.expensemngr.exception.ExportJobExpiredException;
+import com.practice.expensemngr.exception.ExportJobLimitExceededException;
+import com.practice.expensemngr.exception.ExportJobNotFoundException;
+import com.practice.expensemngr.exception.ExportJobNotReadyException;
+import com.practice.expensemngr.exception.FileUploadException;
+import com.practice.expensemngr.repository.ExportJobsRepository;
+import com.practice.expensemngr.util.ExportDataTypeEnum;
+import com.practice.expensemngr.util.ExportFormatEnum;
+import com.practice.expensemngr.util.ExportJobStatusEnum;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs exports in the background so large files don't hold a request thread and a database
+ * connection for minutes. Each job gets a virtual thread, and a semaphore caps how many write
+ * at once; the rest wait their turn. Files are written to their own directory, apart from
+ * uploaded attachments, downloadable (with HTTP range requests) until they expire, then deleted.
+ * Job rows don't survive a restart, so files left from before it are deleted on startup.
+ */
+@Service
+public class ExportJobService {
+
+    private static final List<String> ACTIVE_STATUSES = List.of(
+            ExportJobStatusEnum.QUEUED.name(), ExportJobStatusEnum.RUNNING.name());
+
+    @Autowired
+    private ExportJobsRepository exportJobsRepository;
+
+    @Autowired
+    private ExportService exportService;
+
+    private final ExportJobProperties properties;
+    private final Path jobFileLocation;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore workerSlots;
+
+    // Live progress of running jobs; persisted when the job finishes
+    private final Map<Long, JobProgress> runningJobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ExportJobService(ExportJobProperties properties) {
+        this.properties = properties;
+        this.workerSlots = new Semaphore(Math.max(1, properties.getMaxConcurrent()), true);
+        this.jobFileLocation = Paths.get(properties.getDir()).toAbsolutePath().normalize();
+
+        try {
+            Files.createDirectories(this.jobFileLocation);
+        } catch (IOException ex) {
+            throw new FileUploadException("Could not create the directory where export files will be stored.", ex);
+        }
+    }
+
+    /**
+     * Delete files in the job directory that no job refers to, e.g. left behind by a restart
+     */
+    @PostConstruct
+    public void deleteOrphanedFiles() {
+        try (Stream<Path> files = Files.list(jobFileLocation)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file)
+                        && !exportJobsRepository.existsByStoredFileName(file.getFileName().toString())) {
+                    deleteQuietly(file.getFileName().toString());
+                }
+            }
+        } catch (IOException ex) {
+            throw new FileUploadException("Could not list export files in " + jobFileLocation, ex);
+        }
+    }
+
+    /**
+     * Queue an export to be written in the background
+     * @param request Export request with data type set
+     * @return Queued job
+     */
+    public ExportJobDTO submitJob(ExportRequestDTO request) {
+        // 1. Reject formats the data type can't be exported in, and enforce the per-user limit
+        exportService.validateFormat(request);
+        long active = exportJobsRepository.countByUserIdAndStatusIn(request.getUserId(), ACTIVE_STATUSES);
+        if (active >= properties.getMaxActivePerUser()) {
+            throw new ExportJobLimitExceededException(properties.getMaxActivePerUser());
+        }
+
+        // 2. Record the job
+        ExportJobs job = ExportJobs.builder()
+                .userId(request.getUserId())
+                .dataType(request.getDataType())
+                .format(request.getFormat())
+                .status(ExportJobStatusEnum.QUEUED.name())
+                .rowsWritten(0L)
+                .bytesWritten(0L)
+                .createdAt(new Date())
+                .build();
+        job = exportJobsRepository.save(job);
+
+        // 3. Hand it to a worker
+        Long jobId = job.getId();
+        executor.submit(() -> runJob(jobId, request));
+
+        return toJobDTO(job);
+    }
+
+    /**
+     * Get the status and progress of a job
+     * @param jobId Job ID
+     * @return Job details
+     */
+    public ExportJobDTO getJob(Long jobId) {
+        return toJobDTO(findJob(jobId));
+    }
+
+    /**
+     * Get a user's jobs, newest first
+     * @param userId User ID
+     * @return List of jobs
+     */
+    public List<ExportJobDTO> getJobsByUser(Long userId) {
+        return exportJobsRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .map(this::toJobDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get a job whose file can be downloaded
+     * @param jobId Job ID
+     * @return Completed job
+     */
+    public ExportJobs getDownloadableJob(Long jobId) {
+        ExportJobs job = findJob(jobId);
+
+        if (ExportJobStatusEnum.EXPIRED.name().equals(job.getStatus())) {
+            throw new ExportJobExpiredException(jobId);
+        }
+        if (!ExportJobStatusEnum.COMPLETED.name().equals(job.getStatus())) {
+            throw new ExportJobNotReadyException(jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Load a completed job's file as Resource
+     * @param job Completed job
+     * @return File resource
+     */
+    public Resource loadJobFileAsResource(ExportJobs job) {
+        try {
+            Resource resource = new UrlResource(resolveJobFile(job.getStoredFileName()).toUri());
+
+            if (resource.exists()) {
+                return resource;
+            } else {
+                throw new FileUploadException("File not found: " + job.getStoredFileName());
+            }
+        } catch (MalformedURLException ex) {
+            throw new FileUploadException("File not found: " + job.getStoredFileName(), ex);
+        }
+    }
+
+    /**
+     * Delete the files of jobs past their expiry and mark the jobs expired
+     */
+    @Scheduled(fixedDelayString = "${export.jobs.cleanup-interval-ms:60000}")
+    public void deleteExpiredFiles() {
+        List<ExportJobs> expired = exportJobsRepository.findByStatusAndExpiresAtBefore(
+                ExportJobStatusEnum.COMPLETED.name(), new Date());
+
+        for (ExportJobs job : expired) {
+            deleteJobFile(job.getStoredFileName());
+            job.setStatus(ExportJobStatusEnum.EXPIRED.name());
+            job.setStoredFileName(null);
+            exportJobsRepository.save(job);
+        }
+    }
+
+    /**
+     * Stop the workers on shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Helper: Run one job on its worker thread once a slot is free
+     */
+    private void runJob(Long jobId, ExportRequestDTO request) {
+        // 1. Wait for a worker slot
+        try {
+            workerSlots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markFailed(jobId, null, "Export was interrupted before it started");
+            return;
+        }
+
+        JobProgress progress = new JobProgress();
+        String storedFileName = null;
+        try {
+            // 2. Mark running
+            ExportJobs job = findJob(jobId);
+            job.setStatus(ExportJobStatusEnum.RUNNING.name());
+            job.setStartedAt(new Date());
+            job = exportJobsRepository.save(job);
+            runningJobs.put(jobId, progress);
+
+            // 3. Write the file
+            ExportFormatEnum format = ExportFormatEnum.valueOf(request.getFormat());
+            storedFileName = UUID.randomUUID() + format.getExtension();
+            try (OutputStream out = new CountingOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(resolveJobFile(storedFileName))), progress)) {
+                exportService.writeExport(request, out, progress);
+            }
+
+            // 4. Record the result and start the expiry clock
+            Date now = new Date();
+            job.setStatus(ExportJobStatusEnum.COMPLETED.name());
+            job.setStoredFileName(storedFileName);
+            job.setDownloadFileName(buildDownloadFileName(request, format, job.getCreatedAt()));
+            job.setTotalRows(progress.getTotalRows());
+            job.setRowsWritten(progress.getRowsWritten());
+            job.setBytesWritten(Files.size(resolveJobFile(storedFileName)));
+            job.setCompletedAt(now);
+            job.setExpiresAt(new Date(now.getTime() + properties.getTtlMinutes() * 60_000L));
+            exportJobsRepository.save(job);
+
+        } catch (IOException | RuntimeException e) {
+            if (storedFileName != null) {
+                deleteQuietly(storedFileName);
+            }
+            markFailed(jobId, progress, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            runningJobs.remove(jobId);
+            workerSlots.release();
+        }
+    }
+
+    /**
+     * Helper: Record a failure with the progress reached
+     */
+    private void markFailed(Long jobId, JobProgress progress, String errorMessage) {
+        exportJobsRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(ExportJobStatusEnum.FAILED.name());
+            job.setErrorMessage(errorMessage.length() > 1000 ? errorMessage.substring(0, 1000) : errorMessage);
+            job.setCompletedAt(new Date());
+            if (progress != null) {
+                job.setTotalRows(progress.getTotalRows());
+                job.setRowsWritten(progress.getRowsWritten());
+                job.setBytesWritten(progress.getBytesWritten());
+            }
+            exportJobsRepository.save(job);
+        });
+    }
+
+    /**
+     * Helper: Delete a file without failing the caller, e.g. a partial file without masking
+     * the original failure
+     */
+    private void deleteQuietly(String storedFileName) {
+        try {
+            deleteJobFile(storedFileName);
+        } catch (RuntimeException e) {
+            // A file left behind is deleted on the next startup
+        }
+    }
+
+    /**
+     * Helper: Delete a file from the job directory
+     */
+    private void deleteJobFile(String storedFileName) {
+        try {
+            Files.deleteIfExists(resolveJobFile(storedFileName));
+        } catch (IOException ex) {
+            throw new FileUploadException("Could not delete file: " + storedFileName, ex);
+        }
+    }
+
+    /**
+     * Helper: Path of a file in the job directory
+     */
+    private Path resolveJobFile(String storedFileName) {
+        return jobFileLocation.resolve(storedFileName).normalize();
+    }
+
+    /**
+     * Helper: Find a job or fail
+     */
+    private ExportJobs findJob(Long jobId) {
+        return exportJobsRepository.findById(jobId)
+                .orElseThrow(() -> new ExportJobNotFoundException(jobId));
+    }
+
+    /**
+     * Helper: File name offered to the client, named after the data type and submission time
+     */
+    private String buildDownloadFileName(ExportRequestDTO request, ExportFormatEnum format, Date createdAt) {
+        String dataType = ExportDataTypeEnum.ALL.name().equals(request.getDataType())
+                ? "all_data" : request.getDataType().toLowerCase();
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(createdAt);
+        return dataType + "_export_" + timestamp + format.getExtension();
+    }
+
+    /**
+     * Convert job entity to DTO, overlaying live progress while it runs
+     */
+    private ExportJobDTO toJobDTO(ExportJobs job) {
+        Long totalRows = job.getTotalRows();
+        Long rowsWritten = job.getRowsWritten();
+        Long bytesWritten = job.getBytesWritten();
+
+        JobProgress progress = runningJobs.get(job.getId());
+        if (progress != null) {
+            totalRows = progress.getTotalRows();
+            rowsWritten = progress.getRowsWritten();
+            bytesWritten = progress.getBytesWritten();
+        }
+
+        boolean completed = ExportJobStatusEnum.COMPLETED.name().equals(job.getStatus());
+        Double percentComplete = null;
+        if (completed) {
+            percentComplete = 100.0;
+        } else if (totalRows != null && totalRows > 0 && rowsWritten != null) {
+            percentComplete = Math.min(100.0, Math.round(rowsWritten * 1000.0 / totalRows) / 10.0);
+        }
+
+        return ExportJobDTO.builder()
+                .id(job.getId())
+                .userId(job.getUserId())
+                .dataType(job.getDataType())
+                .format(job.getFormat())
+                .status(job.getStatus())
+                .totalRows(totalRows)
+                .rowsWritten(rowsWritten)
+                .percentComplete(percentComplete)
+                .bytesWritten(bytesWritten)
+                .fileName(job.getDownloadFileName())
+                .downloadUrl(completed ? "/export/jobs/" + job.getId() + "/download" : null)
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .expiresAt(job.getExpiresAt())
+                .build();
+    }
+
+    /**
+     * Progress of a running job, updated by its worker and read by status requests
+     */
+    private static final class JobProgress implements ExportProgress {
+
+        private volatile Long totalRows;
+        private final AtomicLong rowsWritten = new AtomicLong();
+        private final AtomicLong bytesWritten = new AtomicLong();
+
+        @Override
+        public void totalRows(long totalRows) {
+            this.totalRows = totalRows;
+        }
+
+        @Override
+        public void rowsWritten(long rows) {
+            rowsWritten.addAndGet(rows);
+        }
+
+        Long getTotalRows() {
+            return totalRows;
+        }
+
+        long getRowsWritten() {
+            return rowsWritten.get();
+        }
+
+        long getBytesWritten() {
+            return bytesWritten.get();
+        }
+    }
+
+    /**
+     * Counts the bytes written through it into the job's progress
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private final JobProgress progress;
+
+        CountingOutputStream(OutputStream out, JobProgress progress) {
+            super(out);
+            this.progress = progress;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            progress.bytesWritten.incrementAndGet();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            progress.bytesWritten.addAndGet(len);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.practice.expensemngr.service;
+
+/**
+ * Receives progress of an export as it is written, in records
+ */
+public interface ExportProgress {
+
+    /**
+     * Progress listener that ignores all updates
+     */
+    ExportProgress NONE = new ExportProgress() {
+    };
+
+    /**
+     * Number of records the export will contain, reported once before writing starts
+     * @param totalRows Total records
+     */
+    default void totalRows(long totalRows) {
+    }
+
+    /**
+     * Records just written
+     * @param rows Number of records
+     */
+    default void rowsWritten(long rows) {
+    }
+}
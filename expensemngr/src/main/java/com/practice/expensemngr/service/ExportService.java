@@ -1,16 +1,35 @@
 package com.practice.expensemngr.service;
 
+import com.practice.expensemngr.config.DeltaExportProperties;
+import com.practice.expensemngr.config.ExportCompressionProperties;
 import com.practice.expensemngr.dto.*;
 import com.practice.expensemngr.entity.*;
+import com.practice.expensemngr.exception.ExportException;
+import com.practice.expensemngr.exception.InvalidResumeTokenException;
 import com.practice.expensemngr.exception.NoDataToExportException;
+import com.practice.expensemngr.exception.ResumePointExpiredException;
+import com.practice.expensemngr.exception.UnsupportedDeltaExportException;
+import com.practice.expensemngr.exception.UnsupportedExportFormatException;
 import com.practice.expensemngr.repository.*;
+import com.practice.expensemngr.util.ColumnarExportWriter;
+import com.practice.expensemngr.util.ExportDataTypeEnum;
+import com.practice.expensemngr.util.ExportFormatEnum;
+import org.apache.commons.csv.CSVPrinter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
  * Main export service - orchestrates data fetching and export generation
@@ -34,10 +53,7 @@ public class ExportService {
     private CategoriesRepository categoriesRepository;
 
     @Autowired
-    private TransactionTagsRepository transactionTagsRepository;
-
-    @Autowired
-    private TagsRepository tagsRepository;
+    private DimensionNameResolver dimensionNameResolver;
 
     @Autowired
     private CsvExportService csvExportService;
@@ -45,35 +61,76 @@ public class ExportService {
     @Autowired
     private JsonExportService jsonExportService;
 
+    @Autowired
+    private TransactionStreamer transactionStreamer;
+
+    @Autowired
+    private ColumnarExportService columnarExportService;
+
+    @Autowired
+    private TombstoneService tombstoneService;
+
+    @Autowired
+    private ExportCompressionProperties compressionProperties;
+
+    @Autowired
+    private DeltaExportProperties deltaProperties;
+
     private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd");
+    private static final String RESUME_TOKEN_PREFIX = "v1:";
 
     /**
-     * Export transactions based on request
+     * Export transactions based on request. Rows are streamed from a database cursor in chunks,
+     * so memory use does not grow with the number of rows and the first rows are sent at once.
+     * With a since time or resume token only the changes from that point are exported, together
+     * with the deletions since then and a token to resume from next time.
      * @param request Export request
-     * @return Export file as byte array
+     * @return Body writing the export file to the response
+     */
+    public StreamingResponseBody exportTransactions(ExportRequestDTO request) {
+        return exportTransactions(request, ExportProgress.NONE);
+    }
+
+    /**
+     * Export transactions based on request, reporting rows to a progress listener as they are written
+     * @param request Export request
+     * @param progress Progress listener
+     * @return Body writing the export file
      */
-    public byte[] exportTransactions(ExportRequestDTO request) {
-        // 1. Fetch transactions with filters
-        List<Transactions> transactions = fetchTransactions(request);
+    public StreamingResponseBody exportTransactions(ExportRequestDTO request, ExportProgress progress) {
+        // 1. Build filters; the next delta resumes from before any row is read
+        ExportFormatEnum format = validateFormat(request);
+        Date asOf = new Date();
+        Date since = resolveSince(request);
+        Specification<Transactions> spec = buildTransactionSpecification(request, since);
+
+        if (since != null) {
+            return exportTransactionDelta(request, format, spec, since, asOf, progress);
+        }
 
-        if (transactions.isEmpty()) {
+        // 2. Fail before the response starts if nothing matches
+        if (!transactionsRepository.exists(spec)) {
             String dateRange = buildDateRangeString(request.getStartDate(), request.getEndDate());
             throw new NoDataToExportException("transactions", dateRange);
         }
 
-        // 2. Convert to export DTOs
-        List<TransactionExportDTO> exportDTOs = transactions.stream()
-                .map(this::convertToTransactionExportDTO)
-                .collect(Collectors.toList());
-
-        // 3. Generate metadata
-        ExportMetadataDTO metadata = buildMetadata(request, exportDTOs.size());
-
-        // 4. Generate file based on format
-        if ("CSV".equals(request.getFormat())) {
-            return csvExportService.exportTransactionsToCsv(exportDTOs);
-        } else if ("JSON".equals(request.getFormat())) {
-            return jsonExportService.exportTransactionsToJson(exportDTOs, metadata);
+        // 3. Generate file based on format, writing (and compressing) rows as they are read
+        if (format.getContentFormat() == ExportFormatEnum.CSV) {
+            if (progress != ExportProgress.NONE) {
+                progress.totalRows(transactionsRepository.count(spec));
+            }
+            return compress(format, out -> writeTransactionsCsv(spec, out, progress));
+        } else if (format.getContentFormat() == ExportFormatEnum.JSON) {
+            long recordCount = transactionsRepository.count(spec);
+            progress.totalRows(recordCount);
+            ExportMetadataDTO metadata = buildMetadata(request, Math.toIntExact(recordCount));
+            return compress(format, out -> jsonExportService.writeTransactionsToJson(out, isPretty(request), metadata,
+                    recordCount, transactionRows(spec, progress)));
+        } else if (format == ExportFormatEnum.COLUMNAR) {
+            if (progress != ExportProgress.NONE) {
+                progress.totalRows(transactionsRepository.count(spec));
+            }
+            return out -> writeTransactionsColumnar(spec, out, progress);
         } else {
             throw new UnsupportedOperationException("Format not yet implemented: " + request.getFormat());
         }
@@ -101,10 +158,11 @@ public class ExportService {
         ExportMetadataDTO metadata = buildMetadata(request, exportDTOs.size());
 
         // 4. Generate file based on format
-        if ("CSV".equals(request.getFormat())) {
-            return csvExportService.exportAccountsToCsv(exportDTOs);
-        } else if ("JSON".equals(request.getFormat())) {
-            return jsonExportService.exportAccountsToJson(exportDTOs, metadata);
+        ExportFormatEnum format = validateFormat(request);
+        if (format.getContentFormat() == ExportFormatEnum.CSV) {
+            return compress(format, csvExportService.exportAccountsToCsv(exportDTOs));
+        } else if (format.getContentFormat() == ExportFormatEnum.JSON) {
+            return compress(format, jsonExportService.exportAccountsToJson(exportDTOs, metadata));
         } else {
             throw new UnsupportedOperationException("Format not yet implemented: " + request.getFormat());
         }
@@ -132,10 +190,11 @@ public class ExportService {
         ExportMetadataDTO metadata = buildMetadata(request, exportDTOs.size());
 
         // 4. Generate file based on format
-        if ("CSV".equals(request.getFormat())) {
-            return csvExportService.exportBudgetsToCsv(exportDTOs);
-        } else if ("JSON".equals(request.getFormat())) {
-            return jsonExportService.exportBudgetsToJson(exportDTOs, metadata);
+        ExportFormatEnum format = validateFormat(request);
+        if (format.getContentFormat() == ExportFormatEnum.CSV) {
+            return compress(format, csvExportService.exportBudgetsToCsv(exportDTOs));
+        } else if (format.getContentFormat() == ExportFormatEnum.JSON) {
+            return compress(format, jsonExportService.exportBudgetsToJson(exportDTOs, metadata));
         } else {
             throw new UnsupportedOperationException("Format not yet implemented: " + request.getFormat());
         }
@@ -163,37 +222,43 @@ public class ExportService {
         ExportMetadataDTO metadata = buildMetadata(request, exportDTOs.size());
 
         // 4. Generate file based on format
-        if ("CSV".equals(request.getFormat())) {
-            return csvExportService.exportCategoriesToCsv(exportDTOs);
-        } else if ("JSON".equals(request.getFormat())) {
-            return jsonExportService.exportCategoriesToJson(exportDTOs, metadata);
+        ExportFormatEnum format = validateFormat(request);
+        if (format.getContentFormat() == ExportFormatEnum.CSV) {
+            return compress(format, csvExportService.exportCategoriesToCsv(exportDTOs));
+        } else if (format.getContentFormat() == ExportFormatEnum.JSON) {
+            return compress(format, jsonExportService.exportCategoriesToJson(exportDTOs, metadata));
         } else {
             throw new UnsupportedOperationException("Format not yet implemented: " + request.getFormat());
         }
     }
 
     /**
-     * Export all data (complete backup)
+     * Export all data (complete backup). Transactions are streamed from a database cursor
+     * while writing; accounts, budgets and categories are loaded up front.
      * @param request Export request
-     * @return Export file as byte array
+     * @return Body writing the export file to the response
      */
-    public byte[] exportAllData(ExportRequestDTO request) {
-        // Only JSON format supported for all data
-        if (!"JSON".equals(request.getFormat())) {
-            throw new UnsupportedOperationException("ALL data export only supports JSON format");
-        }
+    public StreamingResponseBody exportAllData(ExportRequestDTO request) {
+        return exportAllData(request, ExportProgress.NONE);
+    }
 
-        // 1. Fetch all data types
-        List<Transactions> transactions = fetchTransactions(request);
+    /**
+     * Export all data (complete backup), reporting records to a progress listener as they are written
+     * @param request Export request
+     * @param progress Progress listener
+     * @return Body writing the export file
+     */
+    public StreamingResponseBody exportAllData(ExportRequestDTO request, ExportProgress progress) {
+        ExportFormatEnum format = validateFormat(request);
+
+        // 1. Count transactions and fetch the remaining data types
+        Specification<Transactions> spec = buildTransactionSpecification(request, null);
+        long transactionCount = transactionsRepository.count(spec);
         List<Accounts> accounts = accountsRepository.findByUserId(request.getUserId());
         List<Budgets> budgets = budgetsRepository.findByUserId(request.getUserId());
         List<Categories> categories = categoriesRepository.findByUserIdOrUserIdIsNull(request.getUserId());
 
         // 2. Convert to export DTOs
-        List<TransactionExportDTO> transactionDTOs = transactions.stream()
-                .map(this::convertToTransactionExportDTO)
-                .collect(Collectors.toList());
-
         List<AccountExportDTO> accountDTOs = accounts.stream()
                 .map(this::convertToAccountExportDTO)
                 .collect(Collectors.toList());
@@ -206,22 +271,288 @@ public class ExportService {
                 .map(this::convertToCategoryExportDTO)
                 .collect(Collectors.toList());
 
-        // 3. Calculate total records
-        int totalRecords = transactionDTOs.size() + accountDTOs.size() +
-                budgetDTOs.size() + categoryDTOs.size();
+        // 3. Calculate record counts
+        Map<String, Long> recordCounts = new LinkedHashMap<>();
+        recordCounts.put("transactions", transactionCount);
+        recordCounts.put("accounts", (long) accountDTOs.size());
+        recordCounts.put("budgets", (long) budgetDTOs.size());
+        recordCounts.put("categories", (long) categoryDTOs.size());
+        long totalRecords = recordCounts.values().stream().mapToLong(Long::longValue).sum();
 
         // 4. Generate metadata
-        ExportMetadataDTO metadata = buildMetadata(request, totalRecords);
+        ExportMetadataDTO metadata = buildMetadata(request, Math.toIntExact(totalRecords));
+        progress.totalRows(totalRecords);
+
+        // 5. Stream a ZIP of per-type CSV files, or one JSON document
+        if (format == ExportFormatEnum.ZIP) {
+            return out -> {
+                writeAllDataZip(out, spec, progress, accountDTOs, budgetDTOs, categoryDTOs);
+                progress.rowsWritten(totalRecords - transactionCount);
+            };
+        }
+        return compress(format, out -> {
+            jsonExportService.writeAllDataToJson(out, isPretty(request), metadata, recordCounts,
+                    transactionRows(spec, progress), accountDTOs, budgetDTOs, categoryDTOs);
+            progress.rowsWritten(totalRecords - transactionCount);
+        });
+    }
+
+    /**
+     * Check the request's format, and its delta options if any, can be used for its data type,
+     * so an unsupported combination is rejected before any data is read or a job is queued
+     * @param request Export request with data type set
+     * @return Requested format
+     */
+    public ExportFormatEnum validateFormat(ExportRequestDTO request) {
+        ExportFormatEnum format = ExportFormatEnum.valueOf(request.getFormat());
+        ExportDataTypeEnum dataType = ExportDataTypeEnum.valueOf(request.getDataType());
+        if (dataType == ExportDataTypeEnum.ALL) {
+            // Only JSON (optionally gzipped) and the ZIP bundle are supported for all data
+            if (format != ExportFormatEnum.ZIP && format.getContentFormat() != ExportFormatEnum.JSON) {
+                throw new UnsupportedExportFormatException("ALL data export only supports JSON, JSON_GZIP or ZIP format");
+            }
+        } else if (format == ExportFormatEnum.ZIP) {
+            throw new UnsupportedExportFormatException("ZIP format is only supported for ALL data export");
+        } else if (format == ExportFormatEnum.COLUMNAR && dataType != ExportDataTypeEnum.TRANSACTIONS) {
+            throw new UnsupportedExportFormatException("COLUMNAR format is only supported for transactions export");
+        }
+
+        if (request.getSince() != null || request.getResumeToken() != null) {
+            if (dataType != ExportDataTypeEnum.TRANSACTIONS) {
+                throw new UnsupportedDeltaExportException("Delta exports are only supported for transactions");
+            }
+            // Deletions and the resume token only fit in the JSON document
+            if (format.getContentFormat() != ExportFormatEnum.JSON) {
+                throw new UnsupportedDeltaExportException("Delta exports only support JSON or JSON_GZIP format");
+            }
+        }
+        return format;
+    }
+
+    /**
+     * Write an export of the request's data type to a stream; the engine behind export jobs
+     * @param request Export request with data type set
+     * @param out Destination; not closed
+     * @param progress Progress listener
+     */
+    public void writeExport(ExportRequestDTO request, OutputStream out, ExportProgress progress) throws IOException {
+        switch (ExportDataTypeEnum.valueOf(request.getDataType())) {
+            case TRANSACTIONS:
+                exportTransactions(request, progress).writeTo(out);
+                break;
+            case ACCOUNTS:
+                out.write(exportAccounts(request));
+                break;
+            case BUDGETS:
+                out.write(exportBudgets(request));
+                break;
+            case CATEGORIES:
+                out.write(exportCategories(request));
+                break;
+            default:
+                exportAllData(request, progress).writeTo(out);
+        }
+    }
+
+    /**
+     * Helper: Export the transactions changed since a point in time, with the deletions since
+     * then; an empty delta is a valid result rather than an error
+     */
+    private StreamingResponseBody exportTransactionDelta(ExportRequestDTO request, ExportFormatEnum format,
+                                                         Specification<Transactions> spec, Date since, Date asOf,
+                                                         ExportProgress progress) {
+        long recordCount = transactionsRepository.count(spec);
+        List<TombstoneExportDTO> deleted = tombstoneService.getTombstonesSince(request.getUserId(), since);
+        progress.totalRows(recordCount);
+        ExportMetadataDTO metadata = buildMetadata(request, Math.toIntExact(recordCount));
+        String resumeToken = encodeResumeToken(asOf);
+        return compress(format, out -> jsonExportService.writeTransactionDeltaToJson(out, isPretty(request), metadata,
+                since, resumeToken, recordCount, transactionRows(spec, progress), deleted));
+    }
+
+    /**
+     * Helper: Start of a delta export from its resume token or since time; null for a full export
+     */
+    private Date resolveSince(ExportRequestDTO request) {
+        Date since;
+        if (request.getResumeToken() != null) {
+            since = decodeResumeToken(request.getResumeToken());
+        } else if (request.getSince() != null) {
+            since = request.getSince();
+        } else {
+            return null;
+        }
+
+        // Deletions before the retained history are gone, so the delta would be incomplete
+        if (since.before(tombstoneService.getRetainedSince())) {
+            throw new ResumePointExpiredException(deltaProperties.getTombstoneRetentionDays());
+        }
+        return since;
+    }
+
+    /**
+     * Helper: Opaque token for the point the next delta starts from. Rows are stamped with
+     * updatedAt before their transaction commits, so a write stamped just before the export
+     * may only become visible after it; the token points back by the configured lag so such
+     * rows are picked up next time. Rows and deletions inside the lag are exported twice,
+     * which consumers applying deltas as upserts absorb.
+     */
+    private String encodeResumeToken(Date asOf) {
+        String token = RESUME_TOKEN_PREFIX + (asOf.getTime() - deltaProperties.getResumeLagMs());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Helper: Point in time of a resume token
+     */
+    private Date decodeResumeToken(String resumeToken) {
+        try {
+            String token = new String(Base64.getUrlDecoder().decode(resumeToken), StandardCharsets.UTF_8);
+            if (!token.startsWith(RESUME_TOKEN_PREFIX)) {
+                throw new InvalidResumeTokenException();
+            }
+            return new Date(Long.parseLong(token.substring(RESUME_TOKEN_PREFIX.length())));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidResumeTokenException();
+        }
+    }
+
+    /**
+     * Helper: Write matching transactions as CSV, flushing after every chunk
+     */
+    private void writeTransactionsCsv(Specification<Transactions> spec, OutputStream out,
+                                      ExportProgress progress) throws IOException {
+        CSVPrinter csvPrinter = csvExportService.openTransactionsCsv(out);
+
+        transactionStreamer.forEachChunk(spec, true, (chunk, lookup) -> {
+            for (Transactions transaction : chunk) {
+                csvExportService.printTransaction(csvPrinter, convertToTransactionExportDTO(transaction, lookup));
+            }
+            csvPrinter.flush();
+            progress.rowsWritten(chunk.size());
+        });
+
+        csvPrinter.flush();
+    }
+
+    /**
+     * Helper: Write matching transactions in the columnar format, one row group at a time
+     */
+    private void writeTransactionsColumnar(Specification<Transactions> spec, OutputStream out,
+                                           ExportProgress progress) throws IOException {
+        ColumnarExportWriter writer = columnarExportService.openTransactions(out);
+
+        transactionStreamer.forEachChunk(spec, true, (chunk, lookup) -> {
+            for (Transactions transaction : chunk) {
+                columnarExportService.writeTransaction(writer, convertToTransactionExportDTO(transaction, lookup),
+                        tagNames(transaction, lookup));
+            }
+            progress.rowsWritten(chunk.size());
+        });
+
+        writer.finish();
+    }
+
+    /**
+     * Helper: Write one CSV entry per data type into a ZIP stream, transactions straight from the cursor
+     */
+    private void writeAllDataZip(OutputStream out, Specification<Transactions> spec, ExportProgress progress,
+                                 List<AccountExportDTO> accounts, List<BudgetExportDTO> budgets,
+                                 List<CategoryExportDTO> categories) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        zip.setLevel(compressionProperties.getLevel());
+
+        zip.putNextEntry(new ZipEntry("transactions.csv"));
+        writeTransactionsCsv(spec, zip, progress);
+        zip.closeEntry();
+
+        zip.putNextEntry(new ZipEntry("accounts.csv"));
+        zip.write(csvExportService.exportAccountsToCsv(accounts));
+        zip.closeEntry();
+
+        zip.putNextEntry(new ZipEntry("budgets.csv"));
+        zip.write(csvExportService.exportBudgetsToCsv(budgets));
+        zip.closeEntry();
+
+        zip.putNextEntry(new ZipEntry("categories.csv"));
+        zip.write(csvExportService.exportCategoriesToCsv(categories));
+        zip.closeEntry();
+
+        // Write the central directory without closing the caller's stream
+        zip.finish();
+        zip.flush();
+    }
+
+    /**
+     * Helper: Gzip a streamed body on the fly when the format is compressed. The gzip stream
+     * sync-flushes, so every chunk the body flushes still reaches the client right away.
+     */
+    private StreamingResponseBody compress(ExportFormatEnum format, StreamingResponseBody body) {
+        if (!format.isGzipped()) {
+            return body;
+        }
+        return out -> {
+            GZIPOutputStream gzip = openGzip(out);
+            body.writeTo(gzip);
+            gzip.finish();
+            gzip.flush();
+        };
+    }
+
+    /**
+     * Helper: Gzip an in-memory file when the format is compressed
+     */
+    private byte[] compress(ExportFormatEnum format, byte[] content) {
+        if (!format.isGzipped()) {
+            return content;
+        }
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            GZIPOutputStream gzip = openGzip(buffer);
+            gzip.write(content);
+            gzip.finish();
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new ExportException("Failed to compress export", e);
+        }
+    }
+
+    /**
+     * Helper: Gzip stream at the configured level, flushing compressed output whenever it is flushed
+     */
+    private GZIPOutputStream openGzip(OutputStream out) throws IOException {
+        int level = compressionProperties.getLevel();
+        return new GZIPOutputStream(out, compressionProperties.getBufferSize(), true) {
+            {
+                def.setLevel(level);
+            }
+        };
+    }
+
+    /**
+     * Helper: Matching transactions as export rows, read from a cursor one chunk at a time
+     */
+    private JsonExportService.RowSource<TransactionExportDTO> transactionRows(Specification<Transactions> spec,
+                                                                              ExportProgress progress) {
+        return sink -> transactionStreamer.forEachChunk(spec, true, (chunk, lookup) -> {
+            for (Transactions transaction : chunk) {
+                sink.accept(convertToTransactionExportDTO(transaction, lookup));
+            }
+            progress.rowsWritten(chunk.size());
+        });
+    }
 
-        // 5. Generate JSON
-        return jsonExportService.exportAllDataToJson(
-                transactionDTOs, accountDTOs, budgetDTOs, categoryDTOs, metadata);
+    /**
+     * Helper: Whether JSON output should be indented; defaults to true
+     */
+    private boolean isPretty(ExportRequestDTO request) {
+        return request.getPretty() == null || request.getPretty();
     }
 
     /**
-     * Fetch transactions with filters
+     * Build the transaction filter of an export request
      */
-    private List<Transactions> fetchTransactions(ExportRequestDTO request) {
+    private Specification<Transactions> buildTransactionSpecification(ExportRequestDTO request, Date since) {
         // Start with user filter (required)
         Specification<Transactions> spec = (root, query, cb) ->
                 cb.equal(root.get("userId"), request.getUserId());
@@ -260,35 +591,27 @@ public class ExportService {
                     cb.equal(root.get("status"), request.getStatus()));
         }
 
-        return transactionsRepository.findAll(spec);
+        // Changed-since filter (delta exports); creation sets updatedAt too
+        if (since != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.greaterThanOrEqualTo(root.get("updatedAt"), since));
+        }
+
+        return spec;
     }
 
     /**
      * Convert Transaction entity to export DTO
      */
-    private TransactionExportDTO convertToTransactionExportDTO(Transactions transaction) {
-        // Fetch related entities
-        String accountName = accountsRepository.findById(transaction.getAccountId())
-                .map(Accounts::getName)
-                .orElse("");
-
-        String categoryName = categoriesRepository.findById(transaction.getCategoryId())
-                .map(Categories::getName)
-                .orElse("");
-
-        String paymentMethodName = transaction.getPaymentMethodId() != null ?
-                "" : ""; // Payment methods not fully implemented
-
-        String merchantName = transaction.getMerchantId() != null ?
-                "" : ""; // Merchants not fully implemented
-
-        // Fetch tags
-        String tags = transactionTagsRepository.findByTransactionId(transaction.getId()).stream()
-                .map(tt -> tagsRepository.findById(tt.getTagId())
-                        .map(Tags::getName)
-                        .orElse(""))
-                .filter(name -> !name.isEmpty())
-                .collect(Collectors.joining(","));
+    private TransactionExportDTO convertToTransactionExportDTO(Transactions transaction, DimensionLookup lookup) {
+        // Resolve related names from the pre-loaded lookup
+        String accountName = Objects.toString(lookup.accountName(transaction.getAccountId()), "");
+        String categoryName = Objects.toString(lookup.categoryName(transaction.getCategoryId()), "");
+        String paymentMethodName = Objects.toString(lookup.paymentMethodName(transaction.getPaymentMethodId()), "");
+        String merchantName = Objects.toString(lookup.merchantName(transaction.getMerchantId()), "");
+
+        // Join tag names
+        String tags = String.join(",", tagNames(transaction, lookup));
 
         return TransactionExportDTO.builder()
                 .id(transaction.getId())
@@ -308,6 +631,16 @@ public class ExportService {
                 .build();
     }
 
+    /**
+     * Helper: Non-empty names of a transaction's tags from the pre-loaded lookup
+     */
+    private List<String> tagNames(Transactions transaction, DimensionLookup lookup) {
+        return lookup.tags(transaction.getId()).stream()
+                .map(Tags::getName)
+                .filter(name -> name != null && !name.isEmpty())
+                .collect(Collectors.toList());
+    }
+
     /**
      * Convert Account entity to export DTO
      */
@@ -420,7 +753,7 @@ public class ExportService {
     private String buildFileName(ExportRequestDTO request) {
         String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
         String dataType = request.getDataType().toLowerCase();
-        String extension = request.getFormat().equalsIgnoreCase("CSV") ? ".csv" : ".json";
+        String extension = ExportFormatEnum.valueOf(request.getFormat()).getExtension();
 
         return dataType + "_export_" + timestamp + extension;
     }
@@ -1,12 +1,16 @@
 package com.practice.expensemngr.service;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.practice.expensemngr.dto.*;
 import com.practice.expensemngr.exception.ExportException;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
@@ -21,38 +25,75 @@ public class JsonExportService {
 
     private final ObjectMapper objectMapper;
 
+    // Writes single values into a streaming generator, which decides on indentation itself
+    private final ObjectWriter rowWriter;
+
     public JsonExportService() {
         this.objectMapper = new ObjectMapper();
         // Enable pretty printing
         this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
         // Include dates in ISO format
         this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.rowWriter = objectMapper.writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     /**
-     * Export transactions to JSON
-     * @param transactions List of transactions
+     * Write a transactions export to a stream, pulling rows from the source while writing
+     * @param out Destination; not closed
+     * @param pretty Whether to indent the output
      * @param metadata Export metadata
-     * @return JSON content as byte array
+     * @param recordCount Number of transactions the source will produce
+     * @param transactions Source of the transaction rows
      */
-    public byte[] exportTransactionsToJson(List<TransactionExportDTO> transactions,
-                                           ExportMetadataDTO metadata) {
-        try {
-            Map<String, Object> exportData = new HashMap<>();
-            exportData.put("metadata", metadata);
-            exportData.put("dataType", "TRANSACTIONS");
-            exportData.put("exportDate", new Date());
-            exportData.put("recordCount", transactions.size());
-            exportData.put("data", transactions);
-
-            String json = objectMapper.writeValueAsString(exportData);
-            return json.getBytes(StandardCharsets.UTF_8);
+    public void writeTransactionsToJson(OutputStream out, boolean pretty, ExportMetadataDTO metadata,
+                                        long recordCount, RowSource<TransactionExportDTO> transactions) {
+        try (JsonGenerator generator = openGenerator(out, pretty)) {
+            generator.writeStartObject();
+            writeHeader(generator, metadata, "TRANSACTIONS");
+            generator.writeNumberField("recordCount", recordCount);
+            writeSection(generator, "data", transactions);
+            generator.writeEndObject();
 
         } catch (IOException e) {
             throw new ExportException("Failed to generate JSON for transactions", e);
         }
     }
 
+    /**
+     * Write a delta export of transactions to a stream: the rows changed since the start
+     * point, the deletions since then, and the token to resume from next time
+     * @param out Destination; not closed
+     * @param pretty Whether to indent the output
+     * @param metadata Export metadata
+     * @param since Start of the delta (inclusive)
+     * @param resumeToken Token for the next delta export
+     * @param recordCount Number of transactions the source will produce
+     * @param transactions Source of the changed transaction rows
+     * @param deleted Deletions since the start of the delta
+     */
+    public void writeTransactionDeltaToJson(OutputStream out, boolean pretty, ExportMetadataDTO metadata,
+                                            Date since, String resumeToken, long recordCount,
+                                            RowSource<TransactionExportDTO> transactions,
+                                            List<TombstoneExportDTO> deleted) {
+        try (JsonGenerator generator = openGenerator(out, pretty)) {
+            generator.writeStartObject();
+            writeHeader(generator, metadata, "TRANSACTIONS");
+            generator.writeFieldName("since");
+            rowWriter.writeValue(generator, since);
+            generator.writeStringField("resumeToken", resumeToken);
+            generator.writeNumberField("recordCount", recordCount);
+            generator.writeNumberField("deletedCount", deleted.size());
+            writeSection(generator, "data", transactions);
+            writeSection(generator, "deleted", listRows(deleted));
+            generator.writeEndObject();
+
+        } catch (IOException e) {
+            throw new ExportException("Failed to generate JSON for transaction changes", e);
+        }
+    }
+
     /**
      * Export accounts to JSON
      * @param accounts List of accounts
@@ -126,46 +167,100 @@ public class JsonExportService {
     }
 
     /**
-     * Export all data to JSON (complete backup)
-     * @param transactions List of transactions
+     * Write a complete backup to a stream: the metadata header first, then each section, with
+     * transaction rows pulled from the source while writing so they are never all in memory
+     * @param out Destination; not closed
+     * @param pretty Whether to indent the output
+     * @param metadata Export metadata
+     * @param recordCounts Number of records per section
+     * @param transactions Source of the transaction rows
      * @param accounts List of accounts
      * @param budgets List of budgets
      * @param categories List of categories
-     * @param metadata Export metadata
-     * @return JSON content as byte array
      */
-    public byte[] exportAllDataToJson(List<TransactionExportDTO> transactions,
-                                      List<AccountExportDTO> accounts,
-                                      List<BudgetExportDTO> budgets,
-                                      List<CategoryExportDTO> categories,
-                                      ExportMetadataDTO metadata) {
-        try {
-            Map<String, Object> exportData = new HashMap<>();
-            exportData.put("metadata", metadata);
-            exportData.put("dataType", "ALL");
-            exportData.put("exportDate", new Date());
+    public void writeAllDataToJson(OutputStream out, boolean pretty, ExportMetadataDTO metadata,
+                                   Map<String, Long> recordCounts,
+                                   RowSource<TransactionExportDTO> transactions,
+                                   List<AccountExportDTO> accounts,
+                                   List<BudgetExportDTO> budgets,
+                                   List<CategoryExportDTO> categories) {
+        try (JsonGenerator generator = openGenerator(out, pretty)) {
+            generator.writeStartObject();
+            writeHeader(generator, metadata, "ALL");
+            generator.writeFieldName("recordCounts");
+            rowWriter.writeValue(generator, recordCounts);
 
-            // Add counts
-            Map<String, Integer> counts = new HashMap<>();
-            counts.put("transactions", transactions.size());
-            counts.put("accounts", accounts.size());
-            counts.put("budgets", budgets.size());
-            counts.put("categories", categories.size());
-            exportData.put("recordCounts", counts);
-
-            // Add data
-            Map<String, Object> data = new HashMap<>();
-            data.put("transactions", transactions);
-            data.put("accounts", accounts);
-            data.put("budgets", budgets);
-            data.put("categories", categories);
-            exportData.put("data", data);
+            // Data sections, largest first
+            generator.writeObjectFieldStart("data");
+            writeSection(generator, "transactions", transactions);
+            writeSection(generator, "accounts", listRows(accounts));
+            writeSection(generator, "budgets", listRows(budgets));
+            writeSection(generator, "categories", listRows(categories));
+            generator.writeEndObject();
 
-            String json = objectMapper.writeValueAsString(exportData);
-            return json.getBytes(StandardCharsets.UTF_8);
+            generator.writeEndObject();
 
         } catch (IOException e) {
             throw new ExportException("Failed to generate JSON for all data", e);
         }
     }
+
+    /**
+     * Helper: Generator over a caller-owned stream; closing it flushes but leaves the stream open
+     */
+    private JsonGenerator openGenerator(OutputStream out, boolean pretty) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (pretty) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
+    /**
+     * Helper: Write the metadata, data type and export date fields
+     */
+    private void writeHeader(JsonGenerator generator, ExportMetadataDTO metadata, String dataType) throws IOException {
+        generator.writeFieldName("metadata");
+        rowWriter.writeValue(generator, metadata);
+        generator.writeStringField("dataType", dataType);
+        generator.writeFieldName("exportDate");
+        rowWriter.writeValue(generator, new Date());
+    }
+
+    /**
+     * Helper: Write a named array, one element per row produced by the source
+     */
+    private <T> void writeSection(JsonGenerator generator, String name, RowSource<T> rows) throws IOException {
+        generator.writeArrayFieldStart(name);
+        rows.forEach(row -> rowWriter.writeValue(generator, row));
+        generator.writeEndArray();
+    }
+
+    /**
+     * Helper: Row source over an in-memory list
+     */
+    private <T> RowSource<T> listRows(List<T> rows) {
+        return sink -> {
+            for (T row : rows) {
+                sink.accept(row);
+            }
+        };
+    }
+
+    /**
+     * Produces export rows on demand, handing each to the sink as it is read
+     */
+    @FunctionalInterface
+    public interface RowSource<T> {
+        void forEach(RowSink<T> sink) throws IOException;
+    }
+
+    /**
+     * Receives one export row
+     */
+    @FunctionalInterface
+    public interface RowSink<T> {
+        void accept(T row) throws IOException;
+    }
 }
\ No newline at end of file
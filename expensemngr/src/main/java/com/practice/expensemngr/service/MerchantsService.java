@@ -19,6 +19,9 @@ public class MerchantsService {
     @Autowired
     private MerchantsRepository merchantsRepository;
 
+    @Autowired
+    private TransactionTextIndex transactionTextIndex;
+
     public Long save(MerchantsVO vO) {
         Merchants bean = new Merchants();
         BeanUtils.copyProperties(vO, bean);
@@ -27,13 +30,20 @@ public class MerchantsService {
     }
 
     public void delete(Long id) {
+        Long userId = merchantsRepository.findById(id).map(Merchants::getUserId).orElse(null);
         merchantsRepository.deleteById(id);
+        if (userId != null) {
+            // Merchant names are part of the keyword index
+            transactionTextIndex.invalidateUser(userId);
+        }
     }
 
     public void update(Long id, MerchantsUpdateVO vO) {
         Merchants bean = requireOne(id);
         BeanUtils.copyProperties(vO, bean);
         merchantsRepository.save(bean);
+        // Merchant names are part of the keyword index
+        transactionTextIndex.invalidateUser(bean.getUserId());
     }
 
     public MerchantsDTO getById(Long id) {
@@ -28,10 +28,7 @@ public class RecurringRulesService {
     private CategoriesRepository categoriesRepository;
 
     @Autowired
-    private PaymentMethodsRepository paymentMethodsRepository;
-
-    @Autowired
-    private MerchantsRepository merchantsRepository;
+    private DimensionNameResolver dimensionNameResolver;
 
     /**
      * Create a new recurring rule
@@ -115,7 +112,7 @@ public class RecurringRulesService {
         rule = recurringRulesRepository.save(rule);
 
         // 10. Build and return response
-        return toResponseDTO(rule, account, category);
+        return toResponseDTO(rule);
     }
 
     /**
@@ -138,9 +135,7 @@ public class RecurringRulesService {
             rules = recurringRulesRepository.findByUserIdOrderByNextRunDateAsc(userId);
         }
 
-        return rules.stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return toResponseDTOs(rules);
     }
 
     /**
@@ -163,9 +158,7 @@ public class RecurringRulesService {
     public List<RecurringRuleResponseDTO> getRecurringRulesByAccount(Long accountId) {
         List<RecurringRules> rules = recurringRulesRepository.findByAccountId(accountId);
 
-        return rules.stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return toResponseDTOs(rules);
     }
 
     /**
@@ -195,25 +188,9 @@ public class RecurringRulesService {
     }
 
     /**
-     * Convert entity to response DTO with related entity names
+     * Convert entity to response DTO with related entity names from a pre-loaded lookup
      */
-    private RecurringRuleResponseDTO toResponseDTO(RecurringRules rule, Accounts account, Categories category) {
-        // Get payment method name if present
-        String paymentMethodName = null;
-        if (rule.getPaymentMethodId() != null) {
-            paymentMethodName = paymentMethodsRepository.findById(rule.getPaymentMethodId())
-                    .map(PaymentMethods::getName)
-                    .orElse(null);
-        }
-
-        // Get merchant name if present
-        String merchantName = null;
-        if (rule.getMerchantId() != null) {
-            merchantName = merchantsRepository.findById(rule.getMerchantId())
-                    .map(Merchants::getName)
-                    .orElse(null);
-        }
-
+    private RecurringRuleResponseDTO toResponseDTO(RecurringRules rule, DimensionLookup lookup) {
         // Generate frequency description
         String frequencyDescription = RecurringDateCalculator.generateFrequencyDescription(
                 rule.getFrequency(),
@@ -232,13 +209,13 @@ public class RecurringRulesService {
                 .id(rule.getId())
                 .userId(rule.getUserId())
                 .accountId(rule.getAccountId())
-                .accountName(account.getName())
+                .accountName(lookup.accountName(rule.getAccountId()))
                 .categoryId(rule.getCategoryId())
-                .categoryName(category.getName())
+                .categoryName(lookup.categoryName(rule.getCategoryId()))
                 .paymentMethodId(rule.getPaymentMethodId())
-                .paymentMethodName(paymentMethodName)
+                .paymentMethodName(lookup.paymentMethodName(rule.getPaymentMethodId()))
                 .merchantId(rule.getMerchantId())
-                .merchantName(merchantName)
+                .merchantName(lookup.merchantName(rule.getMerchantId()))
                 .type(rule.getType())
                 .amount(rule.getAmount())
                 .currencyCode(rule.getCurrencyCode())
@@ -262,10 +239,17 @@ public class RecurringRulesService {
      * Convert entity to response DTO (fetch related entities)
      */
     private RecurringRuleResponseDTO toResponseDTO(RecurringRules rule) {
-        Accounts account = accountsRepository.findById(rule.getAccountId()).orElse(null);
-        Categories category = categoriesRepository.findById(rule.getCategoryId()).orElse(null);
+        return toResponseDTO(rule, dimensionNameResolver.forRecurringRules(List.of(rule)));
+    }
 
-        return toResponseDTO(rule, account, category);
+    /**
+     * Convert a list of entities to response DTOs, resolving related entities once for the list
+     */
+    private List<RecurringRuleResponseDTO> toResponseDTOs(List<RecurringRules> rules) {
+        DimensionLookup lookup = dimensionNameResolver.forRecurringRules(rules);
+        return rules.stream()
+                .map(rule -> toResponseDTO(rule, lookup))
+                .collect(Collectors.toList());
     }
 
     /**
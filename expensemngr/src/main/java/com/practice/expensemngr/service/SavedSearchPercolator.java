@@ -0,0 +1,202 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.config.SavedSearchProperties;
+import com.practice.expensemngr.entity.SavedSearches;
+import com.practice.expensemngr.entity.Transactions;
+import com.practice.expensemngr.repository.SavedSearchesRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Matches transactions against users' saved searches without running any of them as a query.
+ * Each user's active saved searches are compiled into an inverted index: a search is filed
+ * under its most selective equality criterion (account, then category, then type, else a
+ * catch-all list) and each list is sorted by minimum amount. A transaction only visits the
+ * lists for its own account, category and type plus the catch-all, and stops in each list at
+ * the first search whose minimum amount is above its own; the survivors are verified in full.
+ * Compiled users are evicted least-recently-used first beyond the configured bound.
+ */
+@Component
+public class SavedSearchPercolator {
+
+    private static final Comparator<CompiledSearch> BY_MIN_AMOUNT = Comparator.comparing(
+            search -> search.minAmount, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    @Autowired
+    private SavedSearchProperties properties;
+
+    @Autowired
+    private SavedSearchesRepository savedSearchesRepository;
+
+    private final LinkedHashMap<Long, UserSearches> users = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Long> generations = new HashMap<>();
+
+    /**
+     * Find the saved searches a transaction matches
+     * @param transaction Transaction
+     * @param merchantName Merchant name of the transaction, for keyword criteria (may be null)
+     * @return Matching saved search IDs
+     */
+    public List<Long> match(Transactions transaction, String merchantName) {
+        UserSearches searches = getOrCompile(transaction.getUserId());
+        return searches.match(transaction, merchantName);
+    }
+
+    /**
+     * Drop a user's compiled searches once a change to them is committed
+     * @param event Change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSavedSearchesChanged(SavedSearchesChangedEvent event) {
+        generations.merge(event.getUserId(), 1L, Long::sum);
+        users.remove(event.getUserId());
+    }
+
+    /**
+     * Helper: Get a user's compiled searches, compiling them from the database on a miss
+     */
+    private UserSearches getOrCompile(Long userId) {
+        // 1. Look up compiled searches
+        long generation;
+        synchronized (this) {
+            UserSearches searches = users.get(userId);
+            if (searches != null) {
+                return searches;
+            }
+            generation = generations.getOrDefault(userId, 0L);
+        }
+
+        // 2. Compile outside the lock
+        UserSearches compiled = new UserSearches(savedSearchesRepository.findByUserIdAndActive(userId, true));
+
+        // 3. Keep them unless the user's searches changed meanwhile; use them for this call either way
+        synchronized (this) {
+            if (generation == generations.getOrDefault(userId, 0L)) {
+                users.put(userId, compiled);
+                Iterator<Long> eldest = users.keySet().iterator();
+                while (users.size() > properties.getMaxCachedUsers() && eldest.hasNext()) {
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * One user's saved searches filed by their most selective criterion
+     */
+    private static final class UserSearches {
+
+        private final Map<Long, List<CompiledSearch>> byAccount = new HashMap<>();
+        private final Map<Long, List<CompiledSearch>> byCategory = new HashMap<>();
+        private final Map<String, List<CompiledSearch>> byType = new HashMap<>();
+        private final List<CompiledSearch> unkeyed = new ArrayList<>();
+
+        UserSearches(List<SavedSearches> savedSearches) {
+            for (SavedSearches savedSearch : savedSearches) {
+                CompiledSearch search = new CompiledSearch(savedSearch);
+                if (search.accountId != null) {
+                    byAccount.computeIfAbsent(search.accountId, id -> new ArrayList<>()).add(search);
+                } else if (search.categoryId != null) {
+                    byCategory.computeIfAbsent(search.categoryId, id -> new ArrayList<>()).add(search);
+                } else if (search.type != null) {
+                    byType.computeIfAbsent(search.type, type -> new ArrayList<>()).add(search);
+                } else {
+                    unkeyed.add(search);
+                }
+            }
+            byAccount.values().forEach(list -> list.sort(BY_MIN_AMOUNT));
+            byCategory.values().forEach(list -> list.sort(BY_MIN_AMOUNT));
+            byType.values().forEach(list -> list.sort(BY_MIN_AMOUNT));
+            unkeyed.sort(BY_MIN_AMOUNT);
+        }
+
+        List<Long> match(Transactions transaction, String merchantName) {
+            List<Long> matches = new ArrayList<>();
+            String text = searchableText(transaction, merchantName);
+            matchInto(byAccount.get(transaction.getAccountId()), transaction, text, matches);
+            matchInto(byCategory.get(transaction.getCategoryId()), transaction, text, matches);
+            matchInto(byType.get(transaction.getType()), transaction, text, matches);
+            matchInto(unkeyed, transaction, text, matches);
+            return matches;
+        }
+
+        /**
+         * Helper: Verify the searches of one list, stopping at the first minimum amount above the transaction's
+         */
+        private void matchInto(List<CompiledSearch> searches, Transactions transaction, String text, List<Long> matches) {
+            if (searches == null) {
+                return;
+            }
+            for (CompiledSearch search : searches) {
+                if (search.minAmount != null && search.minAmount.compareTo(transaction.getAmount()) > 0) {
+                    return;
+                }
+                if (search.matches(transaction, text)) {
+                    matches.add(search.id);
+                }
+            }
+        }
+    }
+
+    /**
+     * A saved search reduced to the fields a transaction is checked against
+     */
+    private static final class CompiledSearch {
+
+        private final long id;
+        private final Long accountId;
+        private final Long categoryId;
+        private final String type;
+        private final String status;
+        private final BigDecimal minAmount;
+        private final BigDecimal maxAmount;
+        private final String keyword;
+        private final Date startDate;
+        private final Date endDate;
+
+        CompiledSearch(SavedSearches savedSearch) {
+            this.id = savedSearch.getId();
+            this.accountId = savedSearch.getAccountId();
+            this.categoryId = savedSearch.getCategoryId();
+            this.type = savedSearch.getType();
+            this.status = savedSearch.getStatus();
+            this.minAmount = savedSearch.getMinAmount();
+            this.maxAmount = savedSearch.getMaxAmount();
+            this.keyword = savedSearch.getKeyword() == null ? null : savedSearch.getKeyword().toLowerCase(Locale.ROOT);
+            this.startDate = savedSearch.getStartDate();
+            this.endDate = savedSearch.getEndDate();
+        }
+
+        /**
+         * Same semantics as the search filter: equality on IDs, type and status, inclusive
+         * amount and date bounds, and a case-insensitive substring for the keyword
+         */
+        boolean matches(Transactions transaction, String text) {
+            return (accountId == null || accountId.equals(transaction.getAccountId()))
+                    && (categoryId == null || categoryId.equals(transaction.getCategoryId()))
+                    && (type == null || type.equals(transaction.getType()))
+                    && (status == null || status.equals(transaction.getStatus()))
+                    && (minAmount == null || minAmount.compareTo(transaction.getAmount()) <= 0)
+                    && (maxAmount == null || maxAmount.compareTo(transaction.getAmount()) >= 0)
+                    && (startDate == null || !transaction.getTransactionDate().before(startDate))
+                    && (endDate == null || !transaction.getTransactionDate().after(endDate))
+                    && (keyword == null || text.contains(keyword));
+        }
+    }
+
+    /**
+     * Helper: Lower-cased description, reference number and merchant name, separated so a
+     * keyword cannot match across two fields
+     */
+    private static String searchableText(Transactions transaction, String merchantName) {
+        return Objects.toString(transaction.getDescription(), "").toLowerCase(Locale.ROOT) + '\u0000'
+                + Objects.toString(transaction.getReferenceNumber(), "").toLowerCase(Locale.ROOT) + '\u0000'
+                + Objects.toString(merchantName, "").toLowerCase(Locale.ROOT);
+    }
+}
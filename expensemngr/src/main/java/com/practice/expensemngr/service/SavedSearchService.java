@@ -0,0 +1,279 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.dto.SavedSearchCreateRequestDTO;
+import com.practice.expensemngr.dto.SavedSearchDTO;
+import com.practice.expensemngr.dto.SavedSearchMatchDTO;
+import com.practice.expensemngr.dto.TransactionFilterDTO;
+import com.practice.expensemngr.entity.SavedSearchMatches;
+import com.practice.expensemngr.entity.SavedSearches;
+import com.practice.expensemngr.entity.Transactions;
+import com.practice.expensemngr.exception.*;
+import com.practice.expensemngr.repository.SavedSearchMatchesRepository;
+import com.practice.expensemngr.repository.SavedSearchesRepository;
+import com.practice.expensemngr.repository.TransactionsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class SavedSearchService {
+
+    @Autowired
+    private SavedSearchesRepository savedSearchesRepository;
+
+    @Autowired
+    private SavedSearchMatchesRepository savedSearchMatchesRepository;
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired
+    private SavedSearchPercolator savedSearchPercolator;
+
+    @Autowired
+    private DimensionNameResolver dimensionNameResolver;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Save a transaction filter; new transactions matching it are recorded from now on
+     * @param request Saved search data
+     * @return Created saved search
+     */
+    @Transactional
+    public SavedSearchDTO createSavedSearch(SavedSearchCreateRequestDTO request) {
+        // 1. Validate the filter
+        TransactionFilterDTO filter = request.getFilter();
+        validateFilter(filter);
+
+        // 2. Create saved search entity with normalized criteria
+        Date now = new Date();
+        SavedSearches savedSearch = SavedSearches.builder()
+                .userId(request.getUserId())
+                .name(request.getName())
+                .accountId(filter.getAccountId())
+                .categoryId(filter.getCategoryId())
+                .type(normalize(filter.getType()))
+                .status(normalize(filter.getStatus()))
+                .minAmount(filter.getMinAmount())
+                .maxAmount(filter.getMaxAmount())
+                .keyword(hasText(filter.getKeyword()) ? filter.getKeyword() : null)
+                .startDate(filter.getStartDate())
+                .endDate(filter.getEndDate())
+                .active(true)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        savedSearch = savedSearchesRepository.save(savedSearch);
+        eventPublisher.publishEvent(new SavedSearchesChangedEvent(savedSearch.getUserId()));
+
+        // 3. Return DTO
+        return toSavedSearchDTO(savedSearch);
+    }
+
+    /**
+     * Get all saved searches for a user
+     * @param userId User ID
+     * @return List of saved searches
+     */
+    public List<SavedSearchDTO> getSavedSearchesByUser(Long userId) {
+        return savedSearchesRepository.findByUserIdOrderByNameAsc(userId).stream()
+                .map(this::toSavedSearchDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Pause or resume matching of a saved search
+     * @param id Saved search ID
+     * @param active Whether new transactions are matched against it
+     * @return Updated saved search
+     */
+    @Transactional
+    public SavedSearchDTO setActive(Long id, boolean active) {
+        SavedSearches savedSearch = savedSearchesRepository.findById(id)
+                .orElseThrow(() -> new SavedSearchNotFoundException(id));
+
+        savedSearch.setActive(active);
+        savedSearch.setUpdatedAt(new Date());
+        savedSearch = savedSearchesRepository.save(savedSearch);
+        eventPublisher.publishEvent(new SavedSearchesChangedEvent(savedSearch.getUserId()));
+
+        return toSavedSearchDTO(savedSearch);
+    }
+
+    /**
+     * Delete a saved search and its recorded matches
+     * @param id Saved search ID
+     */
+    @Transactional
+    public void deleteSavedSearch(Long id) {
+        SavedSearches savedSearch = savedSearchesRepository.findById(id)
+                .orElseThrow(() -> new SavedSearchNotFoundException(id));
+
+        savedSearchMatchesRepository.deleteBySavedSearchId(id);
+        savedSearchesRepository.delete(savedSearch);
+        eventPublisher.publishEvent(new SavedSearchesChangedEvent(savedSearch.getUserId()));
+    }
+
+    /**
+     * Get the transactions that matched a user's saved searches, newest first
+     * @param userId User ID
+     * @param unreadOnly Only matches not yet marked as read
+     * @return List of matches
+     */
+    public List<SavedSearchMatchDTO> getMatches(Long userId, boolean unreadOnly) {
+        // 1. Get matches
+        List<SavedSearchMatches> matches = unreadOnly
+                ? savedSearchMatchesRepository.findByUserIdAndReadOrderByMatchedAtDesc(userId, false)
+                : savedSearchMatchesRepository.findByUserIdOrderByMatchedAtDesc(userId);
+
+        // 2. Load the saved searches and transactions they refer to in one query each
+        Map<Long, SavedSearches> searchesById = savedSearchesRepository.findAllById(
+                        matches.stream().map(SavedSearchMatches::getSavedSearchId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(SavedSearches::getId, Function.identity()));
+        Map<Long, Transactions> transactionsById = transactionsRepository.findAllById(
+                        matches.stream().map(SavedSearchMatches::getTransactionId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Transactions::getId, Function.identity()));
+
+        // 3. Convert to DTOs
+        return matches.stream()
+                .map(match -> toMatchDTO(match, searchesById.get(match.getSavedSearchId()),
+                        transactionsById.get(match.getTransactionId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Mark a match as read
+     * @param matchId Match ID
+     */
+    @Transactional
+    public void markMatchRead(Long matchId) {
+        SavedSearchMatches match = savedSearchMatchesRepository.findById(matchId)
+                .orElseThrow(() -> new SavedSearchMatchNotFoundException(matchId));
+
+        match.setRead(true);
+        savedSearchMatchesRepository.save(match);
+    }
+
+    /**
+     * Match created or updated transactions against their user's saved searches once the change
+     * is committed, recording each new match
+     * @param event Change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        // 1. Load the changed transactions and their merchant names
+        List<Transactions> transactions = transactionsRepository.findAllById(event.getTransactionIds());
+        DimensionLookup lookup = dimensionNameResolver.forTransactions(transactions, false);
+
+        // 2. Percolate each transaction and record matches not seen before
+        Date now = new Date();
+        for (Transactions transaction : transactions) {
+            String merchantName = lookup.merchantName(transaction.getMerchantId());
+            for (Long savedSearchId : savedSearchPercolator.match(transaction, merchantName)) {
+                if (savedSearchMatchesRepository.existsBySavedSearchIdAndTransactionId(savedSearchId, transaction.getId())) {
+                    continue;
+                }
+                savedSearchMatchesRepository.save(SavedSearchMatches.builder()
+                        .savedSearchId(savedSearchId)
+                        .userId(transaction.getUserId())
+                        .transactionId(transaction.getId())
+                        .matchedAt(now)
+                        .read(false)
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * Helper: Reject filters that cannot be checked against a single new transaction
+     */
+    private void validateFilter(TransactionFilterDTO filter) {
+        // Tags are assigned after a transaction is saved, so they never match at save time
+        if (filter.getTagId() != null || (filter.getTagIds() != null && !filter.getTagIds().isEmpty())) {
+            throw new InvalidSavedSearchException("Saved searches cannot filter by tag");
+        }
+
+        // Validate date range
+        if (filter.getStartDate() != null && filter.getEndDate() != null
+                && filter.getEndDate().before(filter.getStartDate())) {
+            throw new InvalidDateRangeException();
+        }
+
+        // Validate amount range
+        if (filter.getMinAmount() != null && filter.getMaxAmount() != null
+                && filter.getMaxAmount().compareTo(filter.getMinAmount()) < 0) {
+            throw new InvalidAmountRangeException();
+        }
+    }
+
+    /**
+     * Convert saved search entity to DTO
+     */
+    private SavedSearchDTO toSavedSearchDTO(SavedSearches savedSearch) {
+        TransactionFilterDTO filter = TransactionFilterDTO.builder()
+                .userId(savedSearch.getUserId())
+                .accountId(savedSearch.getAccountId())
+                .categoryId(savedSearch.getCategoryId())
+                .type(savedSearch.getType())
+                .status(savedSearch.getStatus())
+                .minAmount(savedSearch.getMinAmount())
+                .maxAmount(savedSearch.getMaxAmount())
+                .keyword(savedSearch.getKeyword())
+                .startDate(savedSearch.getStartDate())
+                .endDate(savedSearch.getEndDate())
+                .build();
+
+        return SavedSearchDTO.builder()
+                .id(savedSearch.getId())
+                .userId(savedSearch.getUserId())
+                .name(savedSearch.getName())
+                .filter(filter)
+                .active(savedSearch.getActive())
+                .createdAt(savedSearch.getCreatedAt())
+                .updatedAt(savedSearch.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Convert match entity to DTO
+     */
+    private SavedSearchMatchDTO toMatchDTO(SavedSearchMatches match, SavedSearches savedSearch, Transactions transaction) {
+        return SavedSearchMatchDTO.builder()
+                .id(match.getId())
+                .savedSearchId(match.getSavedSearchId())
+                .savedSearchName(savedSearch != null ? savedSearch.getName() : null)
+                .transactionId(match.getTransactionId())
+                .description(transaction != null ? transaction.getDescription() : null)
+                .amount(transaction != null ? transaction.getAmount() : null)
+                .currencyCode(transaction != null ? transaction.getCurrencyCode() : null)
+                .transactionDate(transaction != null ? transaction.getTransactionDate() : null)
+                .matchedAt(match.getMatchedAt())
+                .read(match.getRead())
+                .build();
+    }
+
+    /**
+     * Helper: Trim and upper-case an optional criterion, treating blank as absent
+     */
+    private String normalize(String value) {
+        return hasText(value) ? value.trim().toUpperCase() : null;
+    }
+
+    /**
+     * Helper: Whether an optional string criterion is set
+     */
+    private boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,17 @@
+package com.practice.expensemngr.service;
+
+/**
+ * Event published when a user's saved searches are created, changed or deleted
+ */
+public class SavedSearchesChangedEvent {
+
+    private final Long userId;
+
+    public SavedSearchesChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
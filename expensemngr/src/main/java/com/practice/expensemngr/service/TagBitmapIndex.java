@@ -0,0 +1,117 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.config.TransactionTagIndexProperties;
+import com.practice.expensemngr.entity.TransactionTags;
+import com.practice.expensemngr.repository.TransactionTagsRepository;
+import com.practice.expensemngr.util.IdBitmap;
+import com.practice.expensemngr.util.TagMatchEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * In-memory bitmap of transaction IDs per tag, so multi-tag filters are answered with bitmap
+ * AND / OR / AND NOT before any transaction row is loaded.
+ * Bitmaps are loaded from the database on first use, kept current by TransactionTagsChangedEvent
+ * and evicted least-recently-used first beyond the configured number of tags.
+ */
+@Component
+public class TagBitmapIndex {
+
+    @Autowired
+    private TransactionTagIndexProperties properties;
+
+    @Autowired
+    private TransactionTagsRepository transactionTagsRepository;
+
+    private final LinkedHashMap<Long, IdBitmap> bitmaps = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Long> generations = new HashMap<>();
+
+    /**
+     * Combine the bitmaps of a set of tags
+     * @param tagIds Tag IDs
+     * @param match ALL intersects the tags; ANY and NONE unite them (for NONE the result is
+     *              the set of transactions to exclude)
+     * @return Transaction IDs, or null when the index cannot serve the request
+     */
+    public IdBitmap match(Collection<Long> tagIds, TagMatchEnum match) {
+        if (!properties.isEnabled() || tagIds.isEmpty() || tagIds.size() > properties.getMaxTags()) {
+            return null;
+        }
+
+        // 1. Load bitmaps of tags not in memory yet, in one query
+        Map<Long, Long> startGenerations = new HashMap<>();
+        synchronized (this) {
+            for (Long tagId : tagIds) {
+                if (!bitmaps.containsKey(tagId)) {
+                    startGenerations.put(tagId, generations.getOrDefault(tagId, 0L));
+                }
+            }
+        }
+        Map<Long, IdBitmap> loaded = new HashMap<>();
+        if (!startGenerations.isEmpty()) {
+            for (Long tagId : startGenerations.keySet()) {
+                loaded.put(tagId, new IdBitmap());
+            }
+            for (TransactionTags transactionTag : transactionTagsRepository.findByTagIdIn(startGenerations.keySet())) {
+                loaded.get(transactionTag.getTagId()).add(transactionTag.getTransactionId());
+            }
+        }
+
+        // 2. Combine under the lock, keeping loaded bitmaps unless their tag changed meanwhile
+        synchronized (this) {
+            IdBitmap result = null;
+            for (Long tagId : tagIds) {
+                IdBitmap bitmap = bitmaps.get(tagId);
+                if (bitmap == null) {
+                    bitmap = loaded.get(tagId);
+                    if (bitmap == null || !startGenerations.get(tagId).equals(generations.getOrDefault(tagId, 0L))) {
+                        return null;
+                    }
+                    bitmaps.put(tagId, bitmap);
+                }
+                if (result == null) {
+                    result = bitmap.copy();
+                } else {
+                    result = match == TagMatchEnum.ALL ? result.and(bitmap) : result.or(bitmap);
+                }
+            }
+            evictToBound();
+            return result;
+        }
+    }
+
+    /**
+     * Apply a tag assignment change once it is committed
+     * @param event Change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTransactionTagsChanged(TransactionTagsChangedEvent event) {
+        generations.merge(event.getTagId(), 1L, Long::sum);
+        if (event.getTransactionId() == null) {
+            bitmaps.remove(event.getTagId());
+            return;
+        }
+        IdBitmap bitmap = bitmaps.get(event.getTagId());
+        if (bitmap != null) {
+            if (event.isAssigned()) {
+                bitmap.add(event.getTransactionId());
+            } else {
+                bitmap.remove(event.getTransactionId());
+            }
+        }
+    }
+
+    /**
+     * Helper: Evict least-recently-used tag bitmaps beyond the configured bound
+     */
+    private void evictToBound() {
+        Iterator<Long> eldest = bitmaps.keySet().iterator();
+        while (bitmaps.size() > properties.getMaxTags() && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+}
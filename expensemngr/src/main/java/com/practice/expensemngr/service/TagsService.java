@@ -15,11 +15,13 @@ import com.practice.expensemngr.repository.TagsRepository;
 import com.practice.expensemngr.repository.TransactionTagsRepository;
 import com.practice.expensemngr.repository.TransactionsRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,6 +36,12 @@ public class TagsService {
     @Autowired
     private TransactionsRepository transactionsRepository;
 
+    @Autowired
+    private TombstoneService tombstoneService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Create a new tag
      * @param request Tag creation data
@@ -124,11 +132,13 @@ public class TagsService {
         Tags tag = tagsRepository.findById(tagId)
                 .orElseThrow(() -> new TagNotFoundException(tagId));
 
-        // 2. Delete all transaction tag assignments
+        // 2. Delete all transaction tag assignments, recording them for delta exports
+        tombstoneService.recordTagsRemoved(transactionTagsRepository.findByTagId(tagId));
         transactionTagsRepository.deleteByTagId(tagId);
 
         // 3. Delete the tag
         tagsRepository.delete(tag);
+        eventPublisher.publishEvent(TransactionTagsChangedEvent.tagDeleted(tagId));
     }
 
     /**
@@ -164,6 +174,8 @@ public class TagsService {
                 .build();
 
         transactionTagsRepository.save(transactionTag);
+        tombstoneService.recordTagAssigned(transactionId);
+        eventPublisher.publishEvent(new TransactionTagsChangedEvent(request.getTagId(), transactionId, true));
     }
 
     /**
@@ -185,8 +197,11 @@ public class TagsService {
         TransactionTagsId id = new TransactionTagsId(transactionId, tagId);
 
         // 4. Delete if exists
-        if (transactionTagsRepository.existsById(id)) {
+        Optional<TransactionTags> link = transactionTagsRepository.findById(id);
+        if (link.isPresent()) {
+            tombstoneService.recordTagsRemoved(List.of(link.get()));
             transactionTagsRepository.deleteById(id);
+            eventPublisher.publishEvent(new TransactionTagsChangedEvent(tagId, transactionId, false));
         }
     }
 
@@ -200,14 +215,9 @@ public class TagsService {
         transactionsRepository.findById(transactionId)
                 .orElseThrow(() -> new TransactionNotFoundException(transactionId));
 
-        // 2. Get all tag assignments for this transaction
-        List<TransactionTags> transactionTags = transactionTagsRepository.findByTransactionId(transactionId);
-
-        // 3. Fetch tag details
-        return transactionTags.stream()
-                .map(tt -> tagsRepository.findById(tt.getTagId()))
-                .filter(optional -> optional.isPresent())
-                .map(optional -> toTagDTO(optional.get()))
+        // 2. Fetch the assigned tags in one query
+        return transactionTagsRepository.findTagRowsByTransactionIdIn(List.of(transactionId)).stream()
+                .map(row -> toTagDTO(row.getTag()))
                 .collect(Collectors.toList());
     }
 
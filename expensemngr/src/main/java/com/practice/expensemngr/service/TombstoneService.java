@@ -0,0 +1,151 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.config.DeltaExportProperties;
+import com.practice.expensemngr.dto.TombstoneExportDTO;
+import com.practice.expensemngr.entity.Attachments;
+import com.practice.expensemngr.entity.Tombstones;
+import com.practice.expensemngr.entity.TransactionTags;
+import com.practice.expensemngr.entity.Transactions;
+import com.practice.expensemngr.repository.TombstonesRepository;
+import com.practice.expensemngr.repository.TransactionsRepository;
+import com.practice.expensemngr.util.TombstoneTypeEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the change history delta exports are built from. Changed transactions are found by
+ * their updatedAt, so tag changes bump it; deletions leave no row behind, so they are recorded
+ * here as tombstones and kept for the configured retention period.
+ */
+@Service
+public class TombstoneService {
+
+    @Autowired
+    private TombstonesRepository tombstonesRepository;
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired
+    private DeltaExportProperties properties;
+
+    /**
+     * Record removed tag assignments and mark their transactions changed, so a delta export
+     * carries both the tombstones and the transactions' new tag lists
+     * @param removed Assignments being removed
+     */
+    @Transactional
+    public void recordTagsRemoved(Collection<TransactionTags> removed) {
+        if (removed.isEmpty()) {
+            return;
+        }
+
+        // 1. Touch the transactions, keeping them for their user IDs
+        Map<Long, Transactions> transactions = touch(removed.stream()
+                .map(TransactionTags::getTransactionId)
+                .collect(Collectors.toSet()));
+
+        // 2. One tombstone per assignment
+        Date now = new Date();
+        List<Tombstones> tombstones = new ArrayList<>(removed.size());
+        for (TransactionTags link : removed) {
+            Transactions transaction = transactions.get(link.getTransactionId());
+            if (transaction == null) {
+                continue;
+            }
+            tombstones.add(Tombstones.builder()
+                    .userId(transaction.getUserId())
+                    .entityType(TombstoneTypeEnum.TRANSACTION_TAG.name())
+                    .transactionId(link.getTransactionId())
+                    .tagId(link.getTagId())
+                    .deletedAt(now)
+                    .build());
+        }
+        tombstonesRepository.saveAll(tombstones);
+    }
+
+    /**
+     * Mark a transaction changed after a tag was assigned to it
+     * @param transactionId Transaction ID
+     */
+    @Transactional
+    public void recordTagAssigned(Long transactionId) {
+        touch(Set.of(transactionId));
+    }
+
+    /**
+     * Record a deleted attachment
+     * @param attachment Attachment being deleted
+     */
+    @Transactional
+    public void recordAttachmentDeleted(Attachments attachment) {
+        transactionsRepository.findById(attachment.getTransactionId()).ifPresent(transaction ->
+                tombstonesRepository.save(Tombstones.builder()
+                        .userId(transaction.getUserId())
+                        .entityType(TombstoneTypeEnum.ATTACHMENT.name())
+                        .transactionId(transaction.getId())
+                        .attachmentId(attachment.getId())
+                        .deletedAt(new Date())
+                        .build()));
+    }
+
+    /**
+     * Get a user's deletions at or after a point in time, oldest first
+     * @param userId User ID
+     * @param since Start time (inclusive)
+     * @return List of tombstones
+     */
+    public List<TombstoneExportDTO> getTombstonesSince(Long userId, Date since) {
+        return tombstonesRepository.findByUserIdAndDeletedAtGreaterThanEqualOrderByIdAsc(userId, since).stream()
+                .map(this::toTombstoneExportDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Earliest point a delta export can start from without missing deletions
+     * @return Start of the retained history
+     */
+    public Date getRetainedSince() {
+        return new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(properties.getTombstoneRetentionDays()));
+    }
+
+    /**
+     * Delete tombstones older than the retention period
+     */
+    @Scheduled(fixedDelayString = "${export.delta.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        tombstonesRepository.deleteByDeletedAtBefore(getRetainedSince());
+    }
+
+    /**
+     * Helper: Set updatedAt on transactions so the next delta export picks them up again
+     */
+    private Map<Long, Transactions> touch(Set<Long> transactionIds) {
+        Date now = new Date();
+        List<Transactions> transactions = transactionsRepository.findAllById(transactionIds);
+        transactions.forEach(transaction -> transaction.setUpdatedAt(now));
+        return transactionsRepository.saveAll(transactions).stream()
+                .collect(Collectors.toMap(Transactions::getId, Function.identity()));
+    }
+
+    /**
+     * Convert tombstone entity to export DTO
+     */
+    private TombstoneExportDTO toTombstoneExportDTO(Tombstones tombstone) {
+        return TombstoneExportDTO.builder()
+                .entityType(tombstone.getEntityType())
+                .transactionId(tombstone.getTransactionId())
+                .tagId(tombstone.getTagId())
+                .attachmentId(tombstone.getAttachmentId())
+                .deletedAt(tombstone.getDeletedAt())
+                .build();
+    }
+}
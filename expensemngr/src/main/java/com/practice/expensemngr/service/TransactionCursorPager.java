@@ -0,0 +1,102 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.entity.Transactions;
+import com.practice.expensemngr.repository.TransactionSpecification;
+import com.practice.expensemngr.repository.TransactionsRepository;
+import com.practice.expensemngr.util.TransactionCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keyset (seek) pagination over transactions in search order. Each page is one LIMIT query
+ * that starts right after the cursor row, so its cost does not grow with the page depth and
+ * rows inserted meanwhile never shift the pages that follow.
+ */
+@Component
+public class TransactionCursorPager {
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    /**
+     * Fetch one page of transactions matching a specification
+     * @param specification Filter to apply
+     * @param cursorToken Cursor from a previous page; null or blank for the first page
+     * @param size Page size
+     * @return Page rows in search order with the cursors around them
+     */
+    public CursorPage fetch(Specification<Transactions> specification, String cursorToken, int size) {
+        // 1. Decode the cursor; no cursor means the first page, read forward
+        TransactionCursor cursor = cursorToken == null || cursorToken.isBlank()
+                ? null
+                : TransactionCursor.decode(cursorToken.trim());
+        boolean forward = cursor == null || cursor.isForward();
+
+        // 2. Seek past the cursor; backward pages read in reverse order
+        Specification<Transactions> seek = cursor == null
+                ? specification
+                : specification.and(TransactionSpecification.seek(cursor));
+        Sort sort = forward ? TransactionSpecification.SEARCH_SORT : TransactionSpecification.SEARCH_SORT.ascending();
+
+        // 3. Fetch one extra row to learn whether more rows exist in the read direction
+        List<Transactions> rows = new ArrayList<>(transactionsRepository.findBy(seek,
+                query -> query.sortBy(sort).limit(size + 1).all()));
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows.remove(size);
+        }
+        if (!forward) {
+            Collections.reverse(rows);
+        }
+
+        // 4. Build cursors: a page reached from a cursor always has rows on the side it came from
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!rows.isEmpty()) {
+            Transactions first = rows.get(0);
+            Transactions last = rows.get(rows.size() - 1);
+            if (hasMore || !forward) {
+                nextCursor = TransactionCursor.after(last).encode();
+            }
+            if (forward ? cursor != null : hasMore) {
+                prevCursor = TransactionCursor.before(first).encode();
+            }
+        }
+
+        return new CursorPage(rows, nextCursor, prevCursor);
+    }
+
+    /**
+     * One page of transactions with the cursors to its neighbours (null at either end)
+     */
+    public static class CursorPage {
+
+        private final List<Transactions> transactions;
+        private final String nextCursor;
+        private final String prevCursor;
+
+        CursorPage(List<Transactions> transactions, String nextCursor, String prevCursor) {
+            this.transactions = transactions;
+            this.nextCursor = nextCursor;
+            this.prevCursor = prevCursor;
+        }
+
+        public List<Transactions> getTransactions() {
+            return transactions;
+        }
+
+        public String getNextCursor() {
+            return nextCursor;
+        }
+
+        public String getPrevCursor() {
+            return prevCursor;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.dto.FacetCountDTO;
+import com.practice.expensemngr.dto.FacetRowDTO;
+import com.practice.expensemngr.dto.TagFacetRowDTO;
+import com.practice.expensemngr.entity.Tags;
+import com.practice.expensemngr.entity.Transactions;
+import com.practice.expensemngr.exception.InvalidFacetException;
+import com.practice.expensemngr.repository.TagsRepository;
+import com.practice.expensemngr.repository.TransactionsRepository;
+import com.practice.expensemngr.util.MoneyAccumulator;
+import com.practice.expensemngr.util.SearchFacetEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class TransactionFacetService {
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired
+    private TagsRepository tagsRepository;
+
+    @Autowired
+    private DimensionNameResolver dimensionNameResolver;
+
+    /**
+     * Parse requested facet names
+     * @param facets Facet names, case-insensitive (null or empty for none)
+     * @return Facets in declaration order
+     * @throws InvalidFacetException when a name is unknown
+     */
+    public Set<SearchFacetEnum> parseFacets(Collection<String> facets) {
+        Set<SearchFacetEnum> parsed = EnumSet.noneOf(SearchFacetEnum.class);
+        if (facets == null) {
+            return parsed;
+        }
+        for (String facet : facets) {
+            if (facet == null || facet.isBlank()) {
+                continue;
+            }
+            try {
+                parsed.add(SearchFacetEnum.valueOf(facet.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidFacetException(facet);
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Count and sum the transactions matching a filter per value of each requested facet.
+     * Category, account, type and status come from one grouped query; tags need a second one
+     * because a transaction can carry several tags.
+     * @param specification Filter of the current search
+     * @param facets Facets to compute
+     * @return Facet values keyed by lower-case facet name, largest count first
+     */
+    public Map<String, List<FacetCountDTO>> computeFacets(Specification<Transactions> specification,
+                                                          Set<SearchFacetEnum> facets) {
+        Map<String, List<FacetCountDTO>> result = new LinkedHashMap<>();
+
+        // 1. One grouped pass for the per-transaction fields, rolled up per facet in memory
+        EnumSet<SearchFacetEnum> columnFacets = EnumSet.copyOf(facets);
+        columnFacets.remove(SearchFacetEnum.TAG);
+        if (!columnFacets.isEmpty()) {
+            List<FacetRowDTO> rows = transactionsRepository.sumFacets(specification);
+            DimensionLookup lookup = dimensionNameResolver.forIds(
+                    collect(rows, FacetRowDTO::getAccountId),
+                    collect(rows, FacetRowDTO::getCategoryId));
+
+            for (SearchFacetEnum facet : columnFacets) {
+                Map<String, MoneyAccumulator> totals = new HashMap<>();
+                for (FacetRowDTO row : rows) {
+                    totals.computeIfAbsent(valueOf(facet, row), value -> new MoneyAccumulator())
+                            .add(row.getTotal(), row.getCount());
+                }
+                result.put(key(facet), toFacetCounts(totals, value -> labelOf(facet, value, lookup)));
+            }
+        }
+
+        // 2. Tags in a second grouped query over the assignments
+        if (facets.contains(SearchFacetEnum.TAG)) {
+            List<TagFacetRowDTO> rows = transactionsRepository.sumTagFacets(specification);
+            Map<Long, String> tagNames = tagsRepository.findAllById(collect(rows, TagFacetRowDTO::getTagId)).stream()
+                    .collect(Collectors.toMap(Tags::getId, Tags::getName));
+
+            Map<String, MoneyAccumulator> totals = new HashMap<>();
+            for (TagFacetRowDTO row : rows) {
+                totals.computeIfAbsent(String.valueOf(row.getTagId()), value -> new MoneyAccumulator())
+                        .add(row.getTotal(), row.getCount());
+            }
+            result.put(key(SearchFacetEnum.TAG), toFacetCounts(totals, value -> tagNames.get(Long.valueOf(value))));
+        }
+
+        return result;
+    }
+
+    /**
+     * Helper: Facet value of a grouped row
+     */
+    private String valueOf(SearchFacetEnum facet, FacetRowDTO row) {
+        switch (facet) {
+            case CATEGORY:
+                return String.valueOf(row.getCategoryId());
+            case ACCOUNT:
+                return String.valueOf(row.getAccountId());
+            case TYPE:
+                return row.getType();
+            default:
+                return row.getStatus();
+        }
+    }
+
+    /**
+     * Helper: Display label of a facet value
+     */
+    private String labelOf(SearchFacetEnum facet, String value, DimensionLookup lookup) {
+        switch (facet) {
+            case CATEGORY:
+                return lookup.categoryName(Long.valueOf(value));
+            case ACCOUNT:
+                return lookup.accountName(Long.valueOf(value));
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * Helper: Facet values sorted by count descending, then value
+     */
+    private List<FacetCountDTO> toFacetCounts(Map<String, MoneyAccumulator> totals, Function<String, String> labeler) {
+        return totals.entrySet().stream()
+                .map(entry -> FacetCountDTO.builder()
+                        .value(entry.getKey())
+                        .label(labeler.apply(entry.getKey()))
+                        .count(entry.getValue().getCount())
+                        .total(entry.getValue().toBigDecimal())
+                        .build())
+                .sorted(Comparator.comparing(FacetCountDTO::getCount).reversed()
+                        .thenComparing(FacetCountDTO::getValue))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Helper: Response key of a facet
+     */
+    private String key(SearchFacetEnum facet) {
+        return facet.name().toLowerCase();
+    }
+
+    /**
+     * Helper: Collect the non-null IDs of grouped rows
+     */
+    private <T> Set<Long> collect(List<T> rows, Function<T, Long> idOf) {
+        return rows.stream()
+                .map(idOf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,82 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.entity.Transactions;
+import com.practice.expensemngr.repository.TransactionRollupsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * Maintains the daily transaction rollups that back the dashboard aggregates.
+ * Every write joins the caller's transaction so rollups never diverge from the raw rows.
+ */
+@Service
+public class TransactionRollupService {
+
+    @Autowired
+    private TransactionRollupsRepository transactionRollupsRepository;
+
+    /**
+     * Add a newly saved transaction to its rollup row
+     * @param transaction Saved transaction
+     */
+    @Transactional
+    public void recordTransaction(Transactions transaction) {
+        applyDelta(transaction, transaction.getStatus(), transaction.getAmount(), 1L);
+    }
+
+    /**
+     * Move a transaction between rollup rows after a status change
+     * @param transaction Transaction with its new status already set
+     * @param previousStatus Status before the change
+     */
+    @Transactional
+    public void recordStatusChange(Transactions transaction, String previousStatus) {
+        if (previousStatus.equals(transaction.getStatus())) {
+            return;
+        }
+        applyDelta(transaction, previousStatus, transaction.getAmount().negate(), -1L);
+        applyDelta(transaction, transaction.getStatus(), transaction.getAmount(), 1L);
+    }
+
+    /**
+     * Rebuild all rollup rows of a user from the raw transactions, e.g. after bulk loads
+     * that bypass the per-transaction bookkeeping
+     * @param userId User ID
+     */
+    @Transactional
+    public void rebuildForUser(Long userId) {
+        transactionRollupsRepository.deleteAllByUserId(userId);
+        transactionRollupsRepository.insertAllFromTransactions(userId);
+    }
+
+    /**
+     * Convert a transaction timestamp to its rollup day
+     * @param date Transaction date
+     * @return Day in the server time zone
+     */
+    public static LocalDate toDay(Date date) {
+        return Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    /**
+     * Helper: Add amount and count to the rollup row, creating it if missing, as one upsert
+     */
+    private void applyDelta(Transactions transaction, String status, BigDecimal amount, long count) {
+        transactionRollupsRepository.upsertDelta(
+                transaction.getUserId(),
+                transaction.getAccountId(),
+                transaction.getCategoryId(),
+                transaction.getType(),
+                status,
+                toDay(transaction.getTransactionDate()),
+                amount,
+                count);
+    }
+}
@@ -1,14 +1,21 @@
 package com.practice.expensemngr.service;
 
+import com.practice.expensemngr.config.TransactionSearchProperties;
 import com.practice.expensemngr.dto.*;
 import com.practice.expensemngr.entity.*;
 import com.practice.expensemngr.exception.InvalidAmountRangeException;
 import com.practice.expensemngr.exception.InvalidDateRangeException;
 import com.practice.expensemngr.repository.*;
+import com.practice.expensemngr.util.IdBitmap;
+import com.practice.expensemngr.util.SearchFacetEnum;
+import com.practice.expensemngr.util.TagMatchEnum;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigDecimal;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -19,16 +26,25 @@ public class TransactionSearchService {
     private TransactionsRepository transactionsRepository;
 
     @Autowired
-    private AccountsRepository accountsRepository;
+    private DimensionNameResolver dimensionNameResolver;
 
     @Autowired
-    private CategoriesRepository categoriesRepository;
+    private TransactionCursorPager transactionCursorPager;
 
     @Autowired
-    private TransactionTagsRepository transactionTagsRepository;
+    private TransactionTextIndex transactionTextIndex;
 
     @Autowired
-    private TagsRepository tagsRepository;
+    private TagBitmapIndex tagBitmapIndex;
+
+    @Autowired
+    private TransactionSearchProperties transactionSearchProperties;
+
+    @Autowired
+    private TransactionFacetService transactionFacetService;
+
+    @Autowired
+    private TransactionStreamer transactionStreamer;
 
     /**
      * Search and filter transactions with pagination
@@ -38,6 +54,7 @@ public class TransactionSearchService {
     public TransactionSearchResponseDTO searchTransactions(TransactionFilterDTO filter) {
         // 1. Validate filter criteria
         validateFilters(filter);
+        Set<SearchFacetEnum> facets = transactionFacetService.parseFacets(filter.getFacets());
 
         // 2. Set defaults
         if (filter.getPage() == null || filter.getPage() < 0) {
@@ -47,206 +64,172 @@ public class TransactionSearchService {
             filter.setSize(20);
         }
 
-        // 3. Get all user transactions
-        List<Transactions> allTransactions = transactionsRepository.findAll().stream()
-                .filter(t -> t.getUserId().equals(filter.getUserId()))
-                .collect(Collectors.toList());
-
-        // 4. Apply filters
-        List<Transactions> filteredTransactions = applyFilters(allTransactions, filter);
-
-        // 5. Sort by date descending (newest first), then by created date
-        filteredTransactions.sort(Comparator
-                .comparing(Transactions::getTransactionDate).reversed()
-                .thenComparing(Comparator.comparing(Transactions::getCreatedAt).reversed()));
+        // 3. Resolve keyword and tags to transaction IDs through the in-memory indexes
+        Specification<Transactions> specification =
+                TransactionSpecification.fromFilter(filter, resolveWithIndexes(filter));
 
-        // 6. Calculate pagination
-        int totalElements = filteredTransactions.size();
-        int totalPages = (int) Math.ceil((double) totalElements / filter.getSize());
-        int startIndex = filter.getPage() * filter.getSize();
-        int endIndex = Math.min(startIndex + filter.getSize(), totalElements);
+        // 4. Cursor mode: seek past the cursor instead of counting and offsetting
+        if (filter.getCursor() != null) {
+            TransactionSearchResponseDTO response = searchByCursor(filter, specification);
+            response.setFacets(computeFacets(specification, facets));
+            return response;
+        }
 
-        // 7. Get page subset
-        List<Transactions> pageTransactions = filteredTransactions.subList(
-                Math.min(startIndex, totalElements),
-                Math.min(endIndex, totalElements)
-        );
+        // 5. Filter, sort and page in the database
+        Page<Transactions> page = transactionsRepository.findAll(
+                specification,
+                PageRequest.of(filter.getPage(), filter.getSize(), TransactionSpecification.SEARCH_SORT));
+        List<Transactions> pageTransactions = page.getContent();
 
-        // 8. Convert to DTOs
+        // 6. Resolve account, category and tag names for the page, then convert to DTOs
+        DimensionLookup lookup = dimensionNameResolver.forTransactions(pageTransactions, true);
         List<TransactionSearchItemDTO> transactionDTOs = pageTransactions.stream()
-                .map(this::toSearchItemDTO)
+                .map(t -> toSearchItemDTO(t, lookup))
                 .collect(Collectors.toList());
 
-        // 9. Build and return response
+        // 7. Build and return response, with facet counts over every match when requested
         return TransactionSearchResponseDTO.builder()
                 .transactions(transactionDTOs)
-                .totalElements((long) totalElements)
-                .totalPages(totalPages)
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
                 .currentPage(filter.getPage())
                 .pageSize(filter.getSize())
                 .appliedFilters(filter)
+                .facets(computeFacets(specification, facets))
                 .build();
     }
 
     /**
-     * Validate filter criteria
+     * Stream every transaction matching a filter as NDJSON, in search order.
+     * Validation runs before any output, so invalid filters are still reported as errors.
+     * @param filter Filter criteria (paging, cursor and facets are ignored)
+     * @return Response body that writes one search item per line
      */
-    private void validateFilters(TransactionFilterDTO filter) {
-        // Validate date range
-        if (filter.getStartDate() != null && filter.getEndDate() != null) {
-            if (filter.getEndDate().before(filter.getStartDate())) {
-                throw new InvalidDateRangeException();
-            }
-        }
+    public StreamingResponseBody streamSearchResults(TransactionFilterDTO filter) {
+        validateFilters(filter);
+        Specification<Transactions> specification = TransactionSpecification.fromFilter(filter);
 
-        // Validate amount range
-        if (filter.getMinAmount() != null && filter.getMaxAmount() != null) {
-            if (filter.getMaxAmount().compareTo(filter.getMinAmount()) < 0) {
-                throw new InvalidAmountRangeException();
-            }
-        }
+        return out -> transactionStreamer.writeNdjson(specification, true, this::toSearchItemDTO, out);
     }
 
     /**
-     * Apply all filters to transaction list
+     * Helper: Facet counts for the whole filtered set, only when the request asked for them
      */
-    private List<Transactions> applyFilters(List<Transactions> transactions, TransactionFilterDTO filter) {
-        return transactions.stream()
-                .filter(t -> applyDateFilter(t, filter))
-                .filter(t -> applyAccountFilter(t, filter))
-                .filter(t -> applyCategoryFilter(t, filter))
-                .filter(t -> applyTypeFilter(t, filter))
-                .filter(t -> applyAmountFilter(t, filter))
-                .filter(t -> applyKeywordFilter(t, filter))
-                .filter(t -> applyStatusFilter(t, filter))
-                .filter(t -> applyTagFilter(t, filter))
-                .collect(Collectors.toList());
+    private Map<String, List<FacetCountDTO>> computeFacets(Specification<Transactions> specification,
+                                                           Set<SearchFacetEnum> facets) {
+        return facets.isEmpty() ? null : transactionFacetService.computeFacets(specification, facets);
     }
 
     /**
-     * Filter by date range
+     * Helper: Evaluate the keyword and tag filters on the in-memory indexes before any row is
+     * loaded: keyword matches AND tag bitmaps (ALL = AND, ANY = OR, NONE = AND NOT). Parts an
+     * index cannot serve, or results too large for an IN list, are left to SQL predicates.
      */
-    private boolean applyDateFilter(Transactions transaction, TransactionFilterDTO filter) {
-        if (filter.getStartDate() != null && transaction.getTransactionDate().before(filter.getStartDate())) {
-            return false;
-        }
-        if (filter.getEndDate() != null && transaction.getTransactionDate().after(filter.getEndDate())) {
-            return false;
+    private TransactionSpecification.IdRestriction resolveWithIndexes(TransactionFilterDTO filter) {
+        IdBitmap include = null;
+        IdBitmap exclude = null;
+        boolean keywordResolved = false;
+        boolean tagsResolved = false;
+
+        // 1. Keyword matches from the text index
+        if (filter.getKeyword() != null && !filter.getKeyword().isBlank()) {
+            List<Long> ids = transactionTextIndex.search(filter.getUserId(), filter.getKeyword());
+            if (ids != null) {
+                include = IdBitmap.of(ids);
+                keywordResolved = true;
+            }
         }
-        return true;
-    }
 
-    /**
-     * Filter by account
-     */
-    private boolean applyAccountFilter(Transactions transaction, TransactionFilterDTO filter) {
-        if (filter.getAccountId() == null) {
-            return true;
+        // 2. Tag bitmaps
+        List<Long> tagIds = TransactionSpecification.tagIds(filter);
+        if (!tagIds.isEmpty()) {
+            TagMatchEnum match = TransactionSpecification.tagMatch(filter);
+            IdBitmap tagged = tagBitmapIndex.match(tagIds, match);
+            if (tagged != null) {
+                tagsResolved = true;
+                if (match != TagMatchEnum.NONE) {
+                    include = include == null ? tagged : include.and(tagged);
+                } else if (include != null) {
+                    include = include.andNot(tagged);
+                } else {
+                    exclude = tagged;
+                }
+            }
         }
-        return transaction.getAccountId().equals(filter.getAccountId());
-    }
 
-    /**
-     * Filter by category
-     */
-    private boolean applyCategoryFilter(Transactions transaction, TransactionFilterDTO filter) {
-        if (filter.getCategoryId() == null) {
-            return true;
+        // 3. Large ID sets are cheaper as SQL predicates than as IN lists
+        int maxIds = transactionSearchProperties.getMaxInListIds();
+        if (include != null && include.cardinality() > maxIds) {
+            return TransactionSpecification.IdRestriction.NONE;
         }
-        return transaction.getCategoryId().equals(filter.getCategoryId());
-    }
-
-    /**
-     * Filter by transaction type
-     */
-    private boolean applyTypeFilter(Transactions transaction, TransactionFilterDTO filter) {
-        if (filter.getType() == null || filter.getType().isEmpty()) {
-            return true;
+        if (exclude != null && exclude.cardinality() > maxIds) {
+            exclude = null;
+            tagsResolved = false;
         }
-        return transaction.getType().equalsIgnoreCase(filter.getType());
+        return new TransactionSpecification.IdRestriction(
+                include == null ? null : include.toList(),
+                exclude == null ? null : exclude.toList(),
+                keywordResolved, tagsResolved);
     }
 
     /**
-     * Filter by amount range
+     * Helper: Search one keyset page; totals and page numbers are not computed in this mode
      */
-    private boolean applyAmountFilter(Transactions transaction, TransactionFilterDTO filter) {
-        BigDecimal amount = transaction.getAmount();
+    private TransactionSearchResponseDTO searchByCursor(TransactionFilterDTO filter,
+                                                        Specification<Transactions> specification) {
+        TransactionCursorPager.CursorPage page = transactionCursorPager.fetch(
+                specification, filter.getCursor(), filter.getSize());
+
+        DimensionLookup lookup = dimensionNameResolver.forTransactions(page.getTransactions(), true);
+        List<TransactionSearchItemDTO> transactionDTOs = page.getTransactions().stream()
+                .map(t -> toSearchItemDTO(t, lookup))
+                .collect(Collectors.toList());
 
-        if (filter.getMinAmount() != null && amount.compareTo(filter.getMinAmount()) < 0) {
-            return false;
-        }
-        if (filter.getMaxAmount() != null && amount.compareTo(filter.getMaxAmount()) > 0) {
-            return false;
-        }
-        return true;
+        return TransactionSearchResponseDTO.builder()
+                .transactions(transactionDTOs)
+                .pageSize(filter.getSize())
+                .appliedFilters(filter)
+                .nextCursor(page.getNextCursor())
+                .prevCursor(page.getPrevCursor())
+                .build();
     }
 
     /**
-     * Filter by keyword (searches description and reference number)
+     * Validate filter criteria
      */
-    private boolean applyKeywordFilter(Transactions transaction, TransactionFilterDTO filter) {
-        if (filter.getKeyword() == null || filter.getKeyword().isEmpty()) {
-            return true;
-        }
-
-        String keyword = filter.getKeyword().toLowerCase();
-
-        // Search in description
-        if (transaction.getDescription() != null &&
-                transaction.getDescription().toLowerCase().contains(keyword)) {
-            return true;
-        }
-
-        // Search in reference number
-        if (transaction.getReferenceNumber() != null &&
-                transaction.getReferenceNumber().toLowerCase().contains(keyword)) {
-            return true;
+    private void validateFilters(TransactionFilterDTO filter) {
+        // Validate date range
+        if (filter.getStartDate() != null && filter.getEndDate() != null) {
+            if (filter.getEndDate().before(filter.getStartDate())) {
+                throw new InvalidDateRangeException();
+            }
         }
 
-        return false;
-    }
-
-    /**
-     * Filter by status
-     */
-    private boolean applyStatusFilter(Transactions transaction, TransactionFilterDTO filter) {
-        if (filter.getStatus() == null || filter.getStatus().isEmpty()) {
-            return true;
-        }
-        return transaction.getStatus().equalsIgnoreCase(filter.getStatus());
-    }
+        // Validate tag match mode
+        TransactionSpecification.tagMatch(filter);
 
-    /**
-     * Filter by tag
-     */
-    private boolean applyTagFilter(Transactions transaction, TransactionFilterDTO filter) {
-        if (filter.getTagId() == null) {
-            return true;
+        // Validate amount range
+        if (filter.getMinAmount() != null && filter.getMaxAmount() != null) {
+            if (filter.getMaxAmount().compareTo(filter.getMinAmount()) < 0) {
+                throw new InvalidAmountRangeException();
+            }
         }
-
-        // Check if transaction has this tag
-        return transactionTagsRepository.existsByTransactionIdAndTagId(
-                transaction.getId(),
-                filter.getTagId()
-        );
     }
 
     /**
      * Convert transaction entity to search item DTO
      */
-    private TransactionSearchItemDTO toSearchItemDTO(Transactions transaction) {
-        // Get account name
-        String accountName = accountsRepository.findById(transaction.getAccountId())
-                .map(Accounts::getName)
-                .orElse(null);
-
-        // Get category name
-        String categoryName = categoriesRepository.findById(transaction.getCategoryId())
-                .map(Categories::getName)
-                .orElse(null);
-
+    private TransactionSearchItemDTO toSearchItemDTO(Transactions transaction, DimensionLookup lookup) {
         // Get tags for this transaction
-        List<TagDTO> tags = getTagsForTransaction(transaction.getId());
+        List<TagDTO> tags = lookup.tags(transaction.getId()).stream()
+                .map(tag -> TagDTO.builder()
+                        .id(tag.getId())
+                        .userId(tag.getUserId())
+                        .name(tag.getName())
+                        .color(tag.getColor())
+                        .createdAt(tag.getCreatedAt())
+                        .build())
+                .collect(Collectors.toList());
 
         return TransactionSearchItemDTO.builder()
                 .id(transaction.getId())
@@ -258,31 +241,11 @@ public class TransactionSearchService {
                 .transactionDate(transaction.getTransactionDate())
                 .status(transaction.getStatus())
                 .accountId(transaction.getAccountId())
-                .accountName(accountName)
+                .accountName(lookup.accountName(transaction.getAccountId()))
                 .categoryId(transaction.getCategoryId())
-                .categoryName(categoryName)
+                .categoryName(lookup.categoryName(transaction.getCategoryId()))
                 .tags(tags)
                 .createdAt(transaction.getCreatedAt())
                 .build();
     }
-
-    /**
-     * Get tags for a transaction
-     */
-    private List<TagDTO> getTagsForTransaction(Long transactionId) {
-        List<TransactionTags> transactionTags = transactionTagsRepository.findByTransactionId(transactionId);
-
-        return transactionTags.stream()
-                .map(tt -> tagsRepository.findById(tt.getTagId()))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .map(tag -> TagDTO.builder()
-                        .id(tag.getId())
-                        .userId(tag.getUserId())
-                        .name(tag.getName())
-                        .color(tag.getColor())
-                        .createdAt(tag.getCreatedAt())
-                        .build())
-                .collect(Collectors.toList());
-    }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.practice.expensemngr.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.practice.expensemngr.config.StreamingProperties;
+import com.practice.expensemngr.entity.Transactions;
+import com.practice.expensemngr.repository.TransactionSpecification;
+import com.practice.expensemngr.repository.TransactionsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * Writes transactions matching a filter as newline-delimited JSON, one object per line, or
+ * hands them to a caller-supplied writer for other formats. Rows come from a database cursor
+ * in search order and are resolved and written in chunks, flushing after each, so memory
+ * stays constant however many rows match and the client receives the first rows right away.
+ */
+@Component
+public class TransactionStreamer {
+
+    private static final byte[] NEWLINE = {'\n'};
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired
+    private DimensionNameResolver dimensionNameResolver;
+
+    @Autowired
+    private StreamingProperties streamingProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Stream matching transactions as NDJSON
+     * @param specification Filter to apply
+     * @param includeTags Whether to resolve tags for each chunk
+     * @param mapper Converts a transaction and its chunk's lookup into the object written per line
+     * @param out Destination; flushed after every chunk but not closed
+     * @return Number of rows written
+     */
+    @Transactional(readOnly = true)
+    public <T> long writeNdjson(Specification<Transactions> specification, boolean includeTags,
+                                BiFunction<Transactions, DimensionLookup, T> mapper,
+                                OutputStream out) throws IOException {
+        long written = streamChunks(specification, includeTags, (chunk, lookup) -> {
+            for (Transactions transaction : chunk) {
+                out.write(objectMapper.writeValueAsBytes(mapper.apply(transaction, lookup)));
+                out.write(NEWLINE);
+            }
+            out.flush();
+        });
+        out.flush();
+        return written;
+    }
+
+    /**
+     * Stream matching transactions to a writer one resolved chunk at a time, for output
+     * formats other than NDJSON
+     * @param specification Filter to apply
+     * @param includeTags Whether to resolve tags for each chunk
+     * @param writer Receives each chunk with its lookup; expected to flush its output
+     * @return Number of rows streamed
+     */
+    @Transactional(readOnly = true)
+    public long forEachChunk(Specification<Transactions> specification, boolean includeTags,
+                             ChunkWriter writer) throws IOException {
+        return streamChunks(specification, includeTags, writer);
+    }
+
+    /**
+     * Helper: Read rows from a cursor in search order and hand them on in resolved chunks
+     */
+    private long streamChunks(Specification<Transactions> specification, boolean includeTags,
+                              ChunkWriter writer) throws IOException {
+        int chunkSize = Math.max(1, streamingProperties.getFlushRows());
+        List<Transactions> chunk = new ArrayList<>(chunkSize);
+        long written = 0;
+
+        try (Stream<Transactions> rows = transactionsRepository.streamAll(
+                specification, TransactionSpecification.SEARCH_SORT, streamingProperties.getFetchSize())) {
+            Iterator<Transactions> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                    writer.write(chunk, dimensionNameResolver.forTransactions(chunk, includeTags));
+                    written += chunk.size();
+                    chunk.clear();
+                }
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Writes one chunk of transactions, with their names resolved, to the output
+     */
+    @FunctionalInterface
+    public interface ChunkWriter {
+        void write(List<Transactions> chunk, DimensionLookup lookup) throws IOException;
+    }
+}
@@ -0,0 +1,41 @@
+package com.practice.expensemngr.service;
+
+/**
+ * Event published when a tag is assigned to or removed from a transaction, or a tag is deleted
+ */
+public class TransactionTagsChangedEvent {
+
+    private final Long tagId;
+    private final Long transactionId;
+    private final boolean assigned;
+
+    public TransactionTagsChangedEvent(Long tagId, Long transactionId, boolean assigned) {
+        this.tagId = tagId;
+        this.transactionId = transactionId;
+        this.assigned = assigned;
+    }
+
+    /**
+     * Event for a deleted tag, which drops all of its assignments
+     * @param tagId Tag ID
+     * @return Event
+     */
+    public static TransactionTagsChangedEvent tagDeleted(Long tagId) {
+        return new TransactionTagsChangedEvent(tagId, null, false);
+    }
+
+    public Long getTagId() {
+        return tagId;
+    }
+
+    /**
+     * @return Transaction ID, or null when the whole tag was deleted
+     */
+    public Long getTransactionId() {
+        return transactionId;
+    }
+
+    public boolean isAssigned() {
+        return assigned;
+    }
+}
@@ -9,9 +9,11 @@ import com.practice.expensemngr.vo.TransactionTagsUpdateVO;
 import com.practice.expensemngr.vo.TransactionTagsVO;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 
 @Service
@@ -20,16 +22,26 @@ public class TransactionTagsService {
     @Autowired
     private TransactionTagsRepository transactionTagsRepository;
 
+    @Autowired
+    private TombstoneService tombstoneService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public Long save(TransactionTagsVO vO) {
         TransactionTags bean = new TransactionTags();
         BeanUtils.copyProperties(vO, bean);
         bean = transactionTagsRepository.save(bean);
+        tombstoneService.recordTagAssigned(bean.getTransactionId());
+        eventPublisher.publishEvent(new TransactionTagsChangedEvent(bean.getTagId(), bean.getTransactionId(), true));
         return bean.getTransactionId();
     }
 
     public void delete(Long transactionId, Long tagId) {
         TransactionTagsId id = new TransactionTagsId(transactionId, tagId);
+        transactionTagsRepository.findById(id).ifPresent(link -> tombstoneService.recordTagsRemoved(List.of(link)));
         transactionTagsRepository.deleteById(id);
+        eventPublisher.publishEvent(new TransactionTagsChangedEvent(tagId, transactionId, false));
     }
 
     public void update(Long transactionId, Long tagId, TransactionTagsUpdateVO vO) {
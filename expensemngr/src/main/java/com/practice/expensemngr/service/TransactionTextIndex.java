@@ -0,0 +1,371 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.config.TransactionTextIndexProperties;
+import com.practice.expensemngr.dto.TransactionTextDTO;
+import com.practice.expensemngr.repository.TransactionsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * In-memory inverted index over the description, reference number and merchant name of each
+ * user's transactions, for substring keyword search without scanning every row.
+ * Every word is indexed by its 3-character grams; a keyword is answered by intersecting the
+ * posting lists of its grams and verifying the surviving candidates with a substring check,
+ * so results match a case-insensitive LIKE '%keyword%'. User indexes are built from the
+ * database on first search, kept current by TransactionsChangedEvent and evicted
+ * least-recently-used first once the total number of indexed transactions exceeds the bound.
+ */
+@Component
+public class TransactionTextIndex {
+
+    private static final int GRAM = 3;
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    @Autowired
+    private TransactionTextIndexProperties properties;
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    private final LinkedHashMap<Long, UserIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Long> generations = new HashMap<>();
+    private long totalDocuments;
+
+    /**
+     * Find a user's transactions whose description, reference number or merchant name contains a keyword
+     * @param userId User ID
+     * @param keyword Keyword (case-insensitive)
+     * @return Matching transaction IDs, best match first; null when the index cannot serve the user
+     */
+    public List<Long> search(Long userId, String keyword) {
+        if (!properties.isEnabled() || keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        UserIndex index = getOrBuild(userId);
+        return index == null ? null : index.search(keyword.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Index created or updated transactions once the change is committed
+     * @param event Change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        // 1. Invalidate builds that started before this change
+        UserIndex index;
+        synchronized (this) {
+            generations.merge(event.getUserId(), 1L, Long::sum);
+            index = indexes.get(event.getUserId());
+        }
+        if (index == null) {
+            return;
+        }
+
+        // 2. Re-index the changed rows in place
+        List<TransactionTextDTO> rows = transactionsRepository.findTextByIdIn(event.getTransactionIds());
+        int before = index.size();
+        index.putAll(rows);
+
+        // 3. Account for new documents and evict down to the bound
+        synchronized (this) {
+            if (indexes.get(event.getUserId()) == index) {
+                totalDocuments += index.size() - before;
+                evictToBound();
+            }
+        }
+    }
+
+    /**
+     * Drop a user's index; it is rebuilt from the database on the next search
+     * @param userId User ID
+     */
+    public synchronized void invalidateUser(Long userId) {
+        generations.merge(userId, 1L, Long::sum);
+        UserIndex removed = indexes.remove(userId);
+        if (removed != null) {
+            totalDocuments -= removed.size();
+        }
+    }
+
+    /**
+     * Rebuild a user's index from the database now
+     * @param userId User ID
+     */
+    public void rebuildUser(Long userId) {
+        invalidateUser(userId);
+        getOrBuild(userId);
+    }
+
+    /**
+     * Helper: Get a user's index, building it from the database on a miss
+     */
+    private UserIndex getOrBuild(Long userId) {
+        // 1. Look up a loaded index
+        long generation;
+        synchronized (this) {
+            UserIndex index = indexes.get(userId);
+            if (index != null) {
+                return index;
+            }
+            generation = generations.getOrDefault(userId, 0L);
+        }
+
+        // 2. Build outside the lock; users larger than the whole bound are left to SQL
+        if (transactionsRepository.countByUserId(userId) > properties.getMaxDocuments()) {
+            return null;
+        }
+        UserIndex built = new UserIndex();
+        built.putAll(transactionsRepository.findTextByUserId(userId));
+
+        // 3. Keep it unless the user's transactions changed while building
+        synchronized (this) {
+            if (generation != generations.getOrDefault(userId, 0L)) {
+                return null;
+            }
+            UserIndex existing = indexes.get(userId);
+            if (existing != null) {
+                return existing;
+            }
+            indexes.put(userId, built);
+            totalDocuments += built.size();
+            evictToBound();
+        }
+        return built;
+    }
+
+    /**
+     * Helper: Evict least-recently-used user indexes until the document bound holds
+     */
+    private void evictToBound() {
+        Iterator<UserIndex> eldest = indexes.values().iterator();
+        while (totalDocuments > properties.getMaxDocuments() && eldest.hasNext()) {
+            totalDocuments -= eldest.next().size();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Inverted index of one user's transactions. Documents are numbered densely in insertion
+     * order, so every posting list is sorted; an updated transaction gets a new number and its
+     * old one is marked deleted until the next compaction.
+     */
+    private static final class UserIndex {
+
+        private final Map<String, IntList> postings = new HashMap<>();
+        private final Map<Long, Integer> docById = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+        private long[] ids = new long[16];
+        private String[] texts = new String[16];
+        private int docCount;
+
+        synchronized int size() {
+            return docById.size();
+        }
+
+        synchronized void putAll(List<TransactionTextDTO> rows) {
+            for (TransactionTextDTO row : rows) {
+                String text = normalize(row.getDescription()) + FIELD_SEPARATOR
+                        + normalize(row.getReferenceNumber()) + FIELD_SEPARATOR
+                        + normalize(row.getMerchantName());
+                Integer previous = docById.get(row.getId());
+                if (previous != null) {
+                    if (texts[previous].equals(text)) {
+                        continue;
+                    }
+                    deleted.set(previous);
+                }
+                add(row.getId(), text);
+            }
+            if (deleted.cardinality() > docCount / 2) {
+                compact();
+            }
+        }
+
+        synchronized List<Long> search(String keyword) {
+            // 1. Candidates: documents holding every gram of the keyword's words
+            int[] candidates = candidates(keyword);
+
+            // 2. Verify the substring and score each match
+            List<long[]> matches = new ArrayList<>();
+            if (candidates == null) {
+                for (int doc = 0; doc < docCount; doc++) {
+                    scoreInto(doc, keyword, matches);
+                }
+            } else {
+                for (int doc : candidates) {
+                    scoreInto(doc, keyword, matches);
+                }
+            }
+
+            // 3. Best score first, newest transaction first within a score
+            matches.sort((a, b) -> a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(b[0], a[0]));
+            List<Long> result = new ArrayList<>(matches.size());
+            for (long[] match : matches) {
+                result.add(match[0]);
+            }
+            return result;
+        }
+
+        /**
+         * Helper: Intersect the posting lists of the keyword's grams, or null when no word
+         * is long enough to have a gram and every document must be checked
+         */
+        private int[] candidates(String keyword) {
+            Set<String> grams = new HashSet<>();
+            forEachGram(keyword, grams::add);
+            if (grams.isEmpty()) {
+                return null;
+            }
+
+            List<IntList> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                IntList list = postings.get(gram);
+                if (list == null) {
+                    return new int[0];
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            // Walk the shortest list and probe the others by binary search
+            IntList shortest = lists.get(0);
+            int[] result = new int[shortest.size];
+            int count = 0;
+            for (int i = 0; i < shortest.size; i++) {
+                int doc = shortest.values[i];
+                boolean inAll = true;
+                for (int l = 1; l < lists.size() && inAll; l++) {
+                    IntList other = lists.get(l);
+                    inAll = Arrays.binarySearch(other.values, 0, other.size, doc) >= 0;
+                }
+                if (inAll) {
+                    result[count++] = doc;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        /**
+         * Helper: Score one document against the keyword, adding it to the matches when it contains it.
+         * Per field: 4 for an exact field match, 2 when the keyword starts a word, 1 otherwise.
+         */
+        private void scoreInto(int doc, String keyword, List<long[]> matches) {
+            if (deleted.get(doc)) {
+                return;
+            }
+            String text = texts[doc];
+            int score = 0;
+            int fieldStart = 0;
+            while (fieldStart <= text.length()) {
+                int fieldEnd = text.indexOf(FIELD_SEPARATOR, fieldStart);
+                if (fieldEnd < 0) {
+                    fieldEnd = text.length();
+                }
+                int at = text.indexOf(keyword, fieldStart);
+                if (at >= 0 && at + keyword.length() <= fieldEnd) {
+                    if (at == fieldStart && at + keyword.length() == fieldEnd) {
+                        score += 4;
+                    } else if (at == fieldStart || !Character.isLetterOrDigit(text.charAt(at - 1))) {
+                        score += 2;
+                    } else {
+                        score += 1;
+                    }
+                }
+                fieldStart = fieldEnd + 1;
+            }
+            if (score > 0) {
+                matches.add(new long[]{ids[doc], score});
+            }
+        }
+
+        /**
+         * Helper: Append a document and post its grams
+         */
+        private void add(long id, String text) {
+            if (docCount == ids.length) {
+                ids = Arrays.copyOf(ids, docCount * 2);
+                texts = Arrays.copyOf(texts, docCount * 2);
+            }
+            int doc = docCount++;
+            ids[doc] = id;
+            texts[doc] = text;
+            docById.put(id, doc);
+            forEachGram(text, gram -> {
+                IntList list = postings.computeIfAbsent(gram, g -> new IntList());
+                if (list.size == 0 || list.values[list.size - 1] != doc) {
+                    list.add(doc);
+                }
+            });
+        }
+
+        /**
+         * Helper: Renumber the live documents, dropping the space held by deleted ones
+         */
+        private void compact() {
+            long[] liveIds = new long[docById.size()];
+            String[] liveTexts = new String[docById.size()];
+            int live = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                if (!deleted.get(doc)) {
+                    liveIds[live] = ids[doc];
+                    liveTexts[live] = texts[doc];
+                    live++;
+                }
+            }
+            postings.clear();
+            docById.clear();
+            deleted.clear();
+            ids = new long[Math.max(16, live)];
+            texts = new String[Math.max(16, live)];
+            docCount = 0;
+            for (int i = 0; i < live; i++) {
+                add(liveIds[i], liveTexts[i]);
+            }
+        }
+    }
+
+    /**
+     * Helper: Lower-case a field, treating null as empty
+     */
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Helper: Emit the 3-character grams of every letter-or-digit word in a text
+     */
+    private static void forEachGram(String text, Consumer<String> consumer) {
+        int wordStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean inWord = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (inWord && wordStart < 0) {
+                wordStart = i;
+            } else if (!inWord && wordStart >= 0) {
+                for (int g = wordStart; g + GRAM <= i; g++) {
+                    consumer.accept(text.substring(g, g + GRAM));
+                }
+                wordStart = -1;
+            }
+        }
+    }
+
+    /**
+     * Growable sorted list of document numbers
+     */
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
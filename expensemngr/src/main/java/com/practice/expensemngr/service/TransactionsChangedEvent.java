@@ -0,0 +1,25 @@
+package com.practice.expensemngr.service;
+
+import java.util.List;
+
+/**
+ * Event published when transactions of a user are created or updated
+ */
+public class TransactionsChangedEvent {
+
+    private final Long userId;
+    private final List<Long> transactionIds;
+
+    public TransactionsChangedEvent(Long userId, List<Long> transactionIds) {
+        this.userId = userId;
+        this.transactionIds = transactionIds;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public List<Long> getTransactionIds() {
+        return transactionIds;
+    }
+}
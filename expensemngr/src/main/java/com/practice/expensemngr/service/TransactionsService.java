@@ -1,6 +1,8 @@
 package com.practice.expensemngr.service;
 
 import com.practice.expensemngr.dto.TransactionCreateRequestDTO;
+import com.practice.expensemngr.dto.TransactionFilterDTO;
+import com.practice.expensemngr.dto.TransactionPageDTO;
 import com.practice.expensemngr.dto.TransactionResponseDTO;
 import com.practice.expensemngr.entity.Accounts;
 import com.practice.expensemngr.entity.Categories;
@@ -8,10 +10,14 @@ import com.practice.expensemngr.entity.Transactions;
 import com.practice.expensemngr.exception.*;
 import com.practice.expensemngr.repository.AccountsRepository;
 import com.practice.expensemngr.repository.CategoriesRepository;
+import com.practice.expensemngr.repository.TransactionSpecification;
 import com.practice.expensemngr.repository.TransactionsRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.practice.expensemngr.dto.TransferRequestDTO;
 import com.practice.expensemngr.dto.TransferResponseDTO;
 import com.practice.expensemngr.exception.ArchivedAccountException;
@@ -39,6 +45,21 @@ public class TransactionsService {
     @Autowired
     private AccountsService accountsService;
 
+    @Autowired
+    private TransactionRollupService transactionRollupService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private DimensionNameResolver dimensionNameResolver;
+
+    @Autowired
+    private TransactionCursorPager transactionCursorPager;
+
+    @Autowired
+    private TransactionStreamer transactionStreamer;
+
     /**
      * Create a new transaction (expense or income)
      * @param request Transaction creation data
@@ -108,6 +129,7 @@ public class TransactionsService {
                 .build();
 
         transaction = transactionsRepository.save(transaction);
+        transactionRollupService.recordTransaction(transaction);
 
         // 8. Update account balance if status is CLEARED
         if (request.getStatus().equals("CLEARED")) {
@@ -122,6 +144,8 @@ public class TransactionsService {
 
         // 9. Fetch updated account balance
         account = accountsRepository.findById(request.getAccountId()).get();
+        eventPublisher.publishEvent(new DashboardDataChangedEvent(request.getUserId(), "TRANSACTION"));
+        eventPublisher.publishEvent(new TransactionsChangedEvent(request.getUserId(), List.of(transaction.getId())));
 
         // 10. Build and return response
         return toResponseDTO(transaction, account, category);
@@ -138,25 +162,72 @@ public class TransactionsService {
 
         if (accountId != null) {
             // Filter by account
-            transactions = transactionsRepository.findAll().stream()
-                    .filter(t -> t.getUserId().equals(userId) && t.getAccountId().equals(accountId))
-                    .collect(Collectors.toList());
+            transactions = transactionsRepository.findByUserIdAndAccountId(userId, accountId);
         } else {
             // All user transactions
-            transactions = transactionsRepository.findAll().stream()
-                    .filter(t -> t.getUserId().equals(userId))
-                    .collect(Collectors.toList());
+            transactions = transactionsRepository.findByUserId(userId);
         }
 
+        // Resolve accounts and categories once for the whole list
+        DimensionLookup lookup = dimensionNameResolver.forTransactions(transactions, false);
+
         return transactions.stream()
-                .map(t -> {
-                    Accounts acc = accountsRepository.findById(t.getAccountId()).orElse(null);
-                    Categories cat = categoriesRepository.findById(t.getCategoryId()).orElse(null);
-                    return toResponseDTO(t, acc, cat);
-                })
+                .map(t -> toResponseDTO(t, lookup.account(t.getAccountId()), lookup.category(t.getCategoryId())))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get one cursor-paginated page of a user's transactions, newest first
+     * @param userId User ID
+     * @param accountId Optional account filter
+     * @param cursor Cursor from a previous page; null or empty for the first page
+     * @param size Page size (default 20)
+     * @return Page of transactions with next and previous cursors
+     */
+    public TransactionPageDTO getTransactionsPage(Long userId, Long accountId, String cursor, Integer size) {
+        // 1. Set defaults
+        int pageSize = size == null || size <= 0 ? 20 : size;
+
+        // 2. Seek the page
+        TransactionFilterDTO filter = TransactionFilterDTO.builder()
+                .userId(userId)
+                .accountId(accountId)
+                .build();
+        TransactionCursorPager.CursorPage page = transactionCursorPager.fetch(
+                TransactionSpecification.fromFilter(filter), cursor, pageSize);
+
+        // 3. Resolve accounts and categories once for the page
+        DimensionLookup lookup = dimensionNameResolver.forTransactions(page.getTransactions(), false);
+
+        // 4. Build and return response
+        return TransactionPageDTO.builder()
+                .transactions(page.getTransactions().stream()
+                        .map(t -> toResponseDTO(t, lookup.account(t.getAccountId()), lookup.category(t.getCategoryId())))
+                        .collect(Collectors.toList()))
+                .pageSize(pageSize)
+                .nextCursor(page.getNextCursor())
+                .prevCursor(page.getPrevCursor())
+                .build();
+    }
+
+    /**
+     * Stream all of a user's transactions as NDJSON, newest first, without loading them all
+     * @param userId User ID
+     * @param accountId Optional account filter
+     * @return Response body that writes one transaction per line
+     */
+    public StreamingResponseBody streamTransactions(Long userId, Long accountId) {
+        TransactionFilterDTO filter = TransactionFilterDTO.builder()
+                .userId(userId)
+                .accountId(accountId)
+                .build();
+        Specification<Transactions> specification = TransactionSpecification.fromFilter(filter);
+
+        return out -> transactionStreamer.writeNdjson(specification, false,
+                (t, lookup) -> toResponseDTO(t, lookup.account(t.getAccountId()), lookup.category(t.getCategoryId())),
+                out);
+    }
+
     /**
      * Get single transaction by ID
      * @param transactionId Transaction ID
@@ -197,6 +268,9 @@ public class TransactionsService {
             transaction.setStatus(newStatus);
             transaction.setUpdatedAt(new Date());
             transaction = transactionsRepository.save(transaction);
+            transactionRollupService.recordStatusChange(transaction, "PENDING");
+            eventPublisher.publishEvent(new DashboardDataChangedEvent(transaction.getUserId(), "TRANSACTION"));
+            eventPublisher.publishEvent(new TransactionsChangedEvent(transaction.getUserId(), List.of(transaction.getId())));
         }
 
         Accounts account = accountsRepository.findById(transaction.getAccountId()).orElse(null);
@@ -326,6 +400,7 @@ public class TransactionsService {
                 .build();
 
         transferOut = transactionsRepository.save(transferOut);
+        transactionRollupService.recordTransaction(transferOut);
 
         // 12. Create TRANSFER transaction for destination account (incoming)
         Transactions transferIn = Transactions.builder()
@@ -349,6 +424,7 @@ public class TransactionsService {
                 .build();
 
         transferIn = transactionsRepository.save(transferIn);
+        transactionRollupService.recordTransaction(transferIn);
 
         // 13. Update transferOut with linked transaction ID
         transferOut.setLinkedTransactionId(transferIn.getId());
@@ -363,6 +439,9 @@ public class TransactionsService {
         // 16. Fetch updated balances
         sourceAccount = accountsRepository.findById(request.getSourceAccountId()).get();
         destinationAccount = accountsRepository.findById(request.getDestinationAccountId()).get();
+        eventPublisher.publishEvent(new DashboardDataChangedEvent(request.getUserId(), "TRANSACTION"));
+        eventPublisher.publishEvent(new TransactionsChangedEvent(request.getUserId(),
+                List.of(transferOut.getId(), transferIn.getId())));
 
         // 17. Build and return response
         return TransferResponseDTO.builder()
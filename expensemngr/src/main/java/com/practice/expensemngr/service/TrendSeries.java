@@ -0,0 +1,80 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.dto.SpendingTrendDataPointDTO;
+import com.practice.expensemngr.util.Money;
+import com.practice.expensemngr.util.PeriodBucketer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Income, expense and transaction count per period of a PeriodBucketer, kept in primitive
+ * arrays of long minor units. Every period of the range is present, including empty ones.
+ */
+class TrendSeries {
+
+    private final PeriodBucketer bucketer;
+    private final long[] income;
+    private final long[] expense;
+    private final int[] counts;
+    private int scale = Money.DEFAULT_SCALE;
+
+    TrendSeries(PeriodBucketer bucketer) {
+        this.bucketer = bucketer;
+        this.income = new long[bucketer.size()];
+        this.expense = new long[bucketer.size()];
+        this.counts = new int[bucketer.size()];
+    }
+
+    /**
+     * Add an aggregated amount to one period
+     * @param index Period index (ignored when negative, i.e. outside the range)
+     * @param type Transaction type; only INCOME and EXPENSE amounts are summed
+     * @param amount Total amount
+     * @param count Number of transactions the amount covers
+     */
+    void add(int index, String type, BigDecimal amount, long count) {
+        if (index < 0) {
+            return;
+        }
+        if (amount != null && amount.scale() > scale) {
+            widenTo(Math.min(amount.scale(), Money.MAX_SCALE));
+        }
+        if ("INCOME".equals(type)) {
+            income[index] = Math.addExact(income[index], Money.toUnits(amount, scale));
+        } else if ("EXPENSE".equals(type)) {
+            expense[index] = Math.addExact(expense[index], Money.toUnits(amount, scale));
+        }
+        counts[index] += (int) count;
+    }
+
+    /**
+     * Build one data point per period, in period order
+     * @return Data points
+     */
+    List<SpendingTrendDataPointDTO> toDataPoints() {
+        List<SpendingTrendDataPointDTO> points = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            points.add(SpendingTrendDataPointDTO.builder()
+                    .period(bucketer.label(i))
+                    .income(BigDecimal.valueOf(income[i], scale))
+                    .expense(BigDecimal.valueOf(expense[i], scale))
+                    .net(BigDecimal.valueOf(income[i] - expense[i], scale))
+                    .transactionCount(counts[i])
+                    .build());
+        }
+        return points;
+    }
+
+    /**
+     * Helper: Rescale all stored totals to a larger scale
+     */
+    private void widenTo(int newScale) {
+        for (int i = 0; i < counts.length; i++) {
+            income[i] = Money.rescale(income[i], scale, newScale);
+            expense[i] = Money.rescale(expense[i], scale, newScale);
+        }
+        scale = newScale;
+    }
+}
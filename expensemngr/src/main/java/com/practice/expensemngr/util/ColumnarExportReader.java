@@ -0,0 +1,176 @@
+package com.practice.expensemngr.util;
+
+import com.practice.expensemngr.util.ColumnarFormat.Column;
+import com.practice.expensemngr.util.ColumnarFormat.ColumnType;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Reads files in the {@link ColumnarFormat} layout one row group at a time. Values come back as
+ * {@link Long} (INT64), {@link Date} (TIMESTAMP), {@link BigDecimal} (DECIMAL), {@link String}
+ * (STRING, DICTIONARY) and a list of strings (DICTIONARY_LIST); absent values are null.
+ */
+public class ColumnarExportReader implements Closeable {
+
+    private final InputStream in;
+    private final List<Column> columns;
+    private boolean ended;
+
+    /**
+     * Open a file and read its header
+     * @param in Source, positioned at the start of the file
+     */
+    public ColumnarExportReader(InputStream in) throws IOException {
+        this.in = in;
+
+        // 1. Magic and version
+        byte[] magic = ColumnarFormat.readFully(in, ColumnarFormat.MAGIC.length);
+        if (!Arrays.equals(magic, ColumnarFormat.MAGIC)) {
+            throw new IOException("Not a columnar export file");
+        }
+        int version = in.read();
+        if (version != ColumnarFormat.VERSION) {
+            throw new IOException("Unsupported columnar export version: " + version);
+        }
+
+        // 2. Columns
+        int columnCount = Math.toIntExact(ColumnarFormat.readVarLong(in));
+        List<Column> header = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            String name = ColumnarFormat.readString(in);
+            header.add(new Column(name, ColumnType.fromCode(in.read())));
+        }
+        this.columns = Collections.unmodifiableList(header);
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Read the next row group
+     * @return Row group, or null after the last one
+     */
+    public RowGroup nextRowGroup() throws IOException {
+        if (ended) {
+            return null;
+        }
+        int rowCount = Math.toIntExact(ColumnarFormat.readVarLong(in));
+        if (rowCount == 0) {
+            ended = true;
+            return null;
+        }
+
+        Map<String, Object[]> values = new LinkedHashMap<>();
+        for (Column column : columns) {
+            byte[] block = ColumnarFormat.readFully(in, Math.toIntExact(ColumnarFormat.readVarLong(in)));
+            values.put(column.getName(), decodeBlock(new ByteArrayInputStream(block), column.getType(), rowCount));
+        }
+        return new RowGroup(rowCount, values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * One decoded row group, column by column
+     */
+    public static final class RowGroup {
+
+        private final int rowCount;
+        private final Map<String, Object[]> values;
+
+        RowGroup(int rowCount, Map<String, Object[]> values) {
+            this.rowCount = rowCount;
+            this.values = values;
+        }
+
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Values of one column, indexed by row
+         * @param name Column name
+         * @return Values, null for absent ones
+         */
+        public Object[] getColumn(String name) {
+            Object[] column = values.get(name);
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown column: " + name);
+            }
+            return column;
+        }
+    }
+
+    /**
+     * Helper: Decode a block into one value per row
+     */
+    private Object[] decodeBlock(InputStream block, ColumnType type, int rowCount) throws IOException {
+        // 1. Presence
+        boolean[] present = new boolean[rowCount];
+        if (block.read() == 1) {
+            byte[] bitmap = ColumnarFormat.readFully(block, (rowCount + 7) / 8);
+            for (int row = 0; row < rowCount; row++) {
+                present[row] = (bitmap[row / 8] & (1 << (row % 8))) != 0;
+            }
+        } else {
+            Arrays.fill(present, true);
+        }
+
+        // 2. Values, read in order for the present rows
+        Object[] values = new Object[rowCount];
+        long previous = 0;
+        int scale = type == ColumnType.DECIMAL ? block.read() : 0;
+        List<String> dictionary = type == ColumnType.DICTIONARY || type == ColumnType.DICTIONARY_LIST
+                ? readDictionary(block) : null;
+        for (int row = 0; row < rowCount; row++) {
+            if (!present[row]) {
+                continue;
+            }
+            switch (type) {
+                case INT64:
+                    previous += ColumnarFormat.readZigZag(block);
+                    values[row] = previous;
+                    break;
+                case TIMESTAMP:
+                    previous += ColumnarFormat.readZigZag(block);
+                    values[row] = new Date(previous);
+                    break;
+                case DECIMAL:
+                    values[row] = BigDecimal.valueOf(ColumnarFormat.readZigZag(block), scale);
+                    break;
+                case STRING:
+                    values[row] = ColumnarFormat.readString(block);
+                    break;
+                case DICTIONARY:
+                    values[row] = dictionary.get(Math.toIntExact(ColumnarFormat.readVarLong(block)));
+                    break;
+                default:
+                    int count = Math.toIntExact(ColumnarFormat.readVarLong(block));
+                    List<String> list = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        list.add(dictionary.get(Math.toIntExact(ColumnarFormat.readVarLong(block))));
+                    }
+                    values[row] = list;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Helper: Read a block's dictionary entries
+     */
+    private List<String> readDictionary(InputStream block) throws IOException {
+        int size = Math.toIntExact(ColumnarFormat.readVarLong(block));
+        List<String> dictionary = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dictionary.add(ColumnarFormat.readString(block));
+        }
+        return dictionary;
+    }
+}
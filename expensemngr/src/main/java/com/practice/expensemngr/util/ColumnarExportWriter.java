@@ -0,0 +1,207 @@
+package com.practice.expensemngr.util;
+
+import com.practice.expensemngr.util.ColumnarFormat.Column;
+import com.practice.expensemngr.util.ColumnarFormat.ColumnType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.ToLongFunction;
+
+/**
+ * Writes rows in the {@link ColumnarFormat} layout. Rows are buffered column by column until a
+ * row group is full, then encoded and written, so memory is bounded by the row group size.
+ * Values per column type: INT64 {@link Long}, TIMESTAMP {@link Date}, DECIMAL
+ * {@link BigDecimal}, STRING and DICTIONARY {@link String}, DICTIONARY_LIST a list of strings;
+ * any of them may be null.
+ */
+public class ColumnarExportWriter {
+
+    private final OutputStream out;
+    private final List<Column> columns;
+    private final int rowGroupSize;
+    private final List<List<Object>> buffered;
+    private int bufferedRows;
+    private boolean finished;
+
+    /**
+     * Start a file and write its header
+     * @param out Destination; flushed after every row group but not closed
+     * @param columns Column layout
+     * @param rowGroupSize Rows per row group
+     */
+    public ColumnarExportWriter(OutputStream out, List<Column> columns, int rowGroupSize) throws IOException {
+        this.out = out;
+        this.columns = List.copyOf(columns);
+        this.rowGroupSize = Math.max(1, rowGroupSize);
+        this.buffered = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            buffered.add(new ArrayList<>(this.rowGroupSize));
+        }
+
+        out.write(ColumnarFormat.MAGIC);
+        out.write(ColumnarFormat.VERSION);
+        ColumnarFormat.writeVarLong(out, columns.size());
+        for (Column column : columns) {
+            ColumnarFormat.writeString(out, column.getName());
+            out.write(column.getType().getCode());
+        }
+    }
+
+    /**
+     * Add one row
+     * @param values One value per column, in column order
+     */
+    public void writeRow(Object... values) throws IOException {
+        if (finished) {
+            throw new IllegalStateException("Writer is finished");
+        }
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " values, got " + values.length);
+        }
+        for (int i = 0; i < values.length; i++) {
+            buffered.get(i).add(values[i]);
+        }
+        if (++bufferedRows == rowGroupSize) {
+            writeRowGroup();
+        }
+    }
+
+    /**
+     * Write the last row group and the end marker; the stream stays open
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        if (bufferedRows > 0) {
+            writeRowGroup();
+        }
+        ColumnarFormat.writeVarLong(out, 0);
+        out.flush();
+        finished = true;
+    }
+
+    /**
+     * Helper: Encode the buffered rows as one row group and flush it
+     */
+    private void writeRowGroup() throws IOException {
+        ColumnarFormat.writeVarLong(out, bufferedRows);
+        ByteArrayOutputStream block = new ByteArrayOutputStream();
+        for (int i = 0; i < columns.size(); i++) {
+            block.reset();
+            encodeBlock(block, columns.get(i).getType(), buffered.get(i));
+            ColumnarFormat.writeVarLong(out, block.size());
+            block.writeTo(out);
+            buffered.get(i).clear();
+        }
+        bufferedRows = 0;
+        out.flush();
+    }
+
+    /**
+     * Helper: Presence bitmap followed by the encoded present values
+     */
+    private void encodeBlock(ByteArrayOutputStream block, ColumnType type, List<Object> values) throws IOException {
+        // 1. Presence
+        List<Object> present = new ArrayList<>(values.size());
+        byte[] bitmap = new byte[(values.size() + 7) / 8];
+        for (int row = 0; row < values.size(); row++) {
+            Object value = values.get(row);
+            if (value != null) {
+                bitmap[row / 8] |= (byte) (1 << (row % 8));
+                present.add(value);
+            }
+        }
+        boolean hasNulls = present.size() < values.size();
+        block.write(hasNulls ? 1 : 0);
+        if (hasNulls) {
+            block.write(bitmap);
+        }
+
+        // 2. Values
+        switch (type) {
+            case INT64:
+                writeDeltas(block, present, value -> (Long) value);
+                break;
+            case TIMESTAMP:
+                writeDeltas(block, present, value -> ((Date) value).getTime());
+                break;
+            case DECIMAL:
+                writeDecimals(block, present);
+                break;
+            case STRING:
+                for (Object value : present) {
+                    ColumnarFormat.writeString(block, (String) value);
+                }
+                break;
+            case DICTIONARY:
+                writeDictionary(block, present, false);
+                break;
+            default:
+                writeDictionary(block, present, true);
+        }
+    }
+
+    /**
+     * Helper: Zig-zag deltas between consecutive values
+     */
+    private void writeDeltas(ByteArrayOutputStream block, List<Object> values,
+                             ToLongFunction<Object> toLong) throws IOException {
+        long previous = 0;
+        for (Object value : values) {
+            long current = toLong.applyAsLong(value);
+            ColumnarFormat.writeZigZag(block, current - previous);
+            previous = current;
+        }
+    }
+
+    /**
+     * Helper: Amounts as minor units at the largest scale of the row group
+     */
+    private void writeDecimals(ByteArrayOutputStream block, List<Object> values) throws IOException {
+        int scale = 0;
+        for (Object value : values) {
+            scale = Math.max(scale, ((BigDecimal) value).stripTrailingZeros().scale());
+        }
+        scale = Math.min(scale, Money.MAX_SCALE);
+        block.write(scale);
+        for (Object value : values) {
+            ColumnarFormat.writeZigZag(block, Money.of((BigDecimal) value, scale).getUnits());
+        }
+    }
+
+    /**
+     * Helper: Row group dictionary of distinct strings, then entry indexes per value
+     */
+    @SuppressWarnings("unchecked")
+    private void writeDictionary(ByteArrayOutputStream block, List<Object> values, boolean lists) throws IOException {
+        // 1. Build the dictionary in first-seen order
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Object value : values) {
+            Collection<String> strings = lists ? (Collection<String>) value : List.of((String) value);
+            for (String string : strings) {
+                dictionary.putIfAbsent(string, dictionary.size());
+            }
+        }
+        ColumnarFormat.writeVarLong(block, dictionary.size());
+        for (String entry : dictionary.keySet()) {
+            ColumnarFormat.writeString(block, entry);
+        }
+
+        // 2. Indexes
+        for (Object value : values) {
+            if (lists) {
+                Collection<String> strings = (Collection<String>) value;
+                ColumnarFormat.writeVarLong(block, strings.size());
+                for (String string : strings) {
+                    ColumnarFormat.writeVarLong(block, dictionary.get(string));
+                }
+            } else {
+                ColumnarFormat.writeVarLong(block, dictionary.get((String) value));
+            }
+        }
+    }
+}
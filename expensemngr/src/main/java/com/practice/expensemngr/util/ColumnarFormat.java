@@ -0,0 +1,154 @@
+package com.practice.expensemngr.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Binary columnar export layout ("EXCF"), written by {@link ColumnarExportWriter} and read by
+ * {@link ColumnarExportReader}. A file is self-describing: the header names every column and
+ * its type, and the data follows in row groups, each holding one block per column.
+ *
+ * <pre>
+ * file       = magic "EXCF" (4 bytes), version (1 byte, currently 1),
+ *              columnCount (varint), column*, rowGroup*, end marker (varint 0)
+ * column     = name (string), type code (1 byte, see {@link ColumnType})
+ * rowGroup   = rowCount (varint, &gt; 0), then per column in header order:
+ *              blockLength (varint), block (blockLength bytes)
+ * block      = hasNulls (1 byte); when 1, a presence bitmap of ceil(rowCount / 8) bytes
+ *              (bit i of byte i / 8, least significant first, set when row i has a value);
+ *              then the values of the present rows only, encoded by column type:
+ *   INT64           zig-zag varint of the difference to the previous present value (first: to 0)
+ *   TIMESTAMP       as INT64, over epoch milliseconds
+ *   DECIMAL         scale (1 byte), then per value the zig-zag varint of its unscaled amount in
+ *                   minor units at that scale; the scale is the largest in the row group
+ *   STRING          string
+ *   DICTIONARY      entryCount (varint), entry strings, then per value its entry index (varint)
+ *   DICTIONARY_LIST dictionary as above, then per value an element count (varint) followed by
+ *                   that many entry indexes (varint)
+ * string     = UTF-8 byte length (varint), UTF-8 bytes
+ * varint     = unsigned LEB128: 7 bits per byte, least significant group first, high bit set
+ *              on every byte but the last
+ * zig-zag    = (n &lt;&lt; 1) ^ (n &gt;&gt; 63), so small negative numbers stay short
+ * </pre>
+ *
+ * Dictionaries are per row group and per column. Blocks carry their length, so a reader can
+ * skip the columns it doesn't need.
+ */
+public final class ColumnarFormat {
+
+    static final byte[] MAGIC = {'E', 'X', 'C', 'F'};
+    static final int VERSION = 1;
+
+    private ColumnarFormat() {
+    }
+
+    /**
+     * Column value types and their type codes in the header
+     */
+    public enum ColumnType {
+        INT64(1),
+        TIMESTAMP(2),
+        DECIMAL(3),
+        STRING(4),
+        DICTIONARY(5),
+        DICTIONARY_LIST(6);
+
+        private final int code;
+
+        ColumnType(int code) {
+            this.code = code;
+        }
+
+        public int getCode() {
+            return code;
+        }
+
+        static ColumnType fromCode(int code) throws IOException {
+            return Arrays.stream(values())
+                    .filter(type -> type.code == code)
+                    .findFirst()
+                    .orElseThrow(() -> new IOException("Unknown column type code: " + code));
+        }
+    }
+
+    /**
+     * A named, typed column of the layout
+     */
+    public static final class Column {
+
+        private final String name;
+        private final ColumnType type;
+
+        public Column(String name, ColumnType type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public ColumnType getType() {
+            return type;
+        }
+
+        @Override
+        public String toString() {
+            return name + ":" + type;
+        }
+    }
+
+    static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated varint");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    static void writeZigZag(OutputStream out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long readZigZag(InputStream in) throws IOException {
+        long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void writeString(OutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(InputStream in) throws IOException {
+        return new String(readFully(in, Math.toIntExact(readVarLong(in))), StandardCharsets.UTF_8);
+    }
+
+    static byte[] readFully(InputStream in, int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException("Truncated file: expected " + length + " bytes, got " + bytes.length);
+        }
+        return bytes;
+    }
+}
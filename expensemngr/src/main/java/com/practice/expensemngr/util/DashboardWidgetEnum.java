@@ -0,0 +1,24 @@
+package com.practice.expensemngr.util;
+
+/**
+ * Enum for widgets that can be requested from the composite dashboard endpoint
+ */
+public enum DashboardWidgetEnum {
+    SUMMARY("Summary"),
+    CATEGORY_BREAKDOWN("Category Breakdown"),
+    BUDGET_PROGRESS("Budget Progress"),
+    SPENDING_TRENDS("Spending Trends"),
+    INCOME_EXPENSE_COMPARISON("Income vs Expense"),
+    TOP_CATEGORIES("Top Categories"),
+    ACCOUNT_SUMMARY("Account Summary");
+
+    private final String displayName;
+
+    DashboardWidgetEnum(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
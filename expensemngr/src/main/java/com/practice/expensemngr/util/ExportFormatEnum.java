@@ -1,22 +1,37 @@
 package com.practice.expensemngr.util;
 
 /**
- * Enum for export file formats
+ * Enum for export file formats. Compressed formats carry the format of the content they
+ * compress; ZIP bundles one CSV file per data type. COLUMNAR is the binary layout described in
+ * {@link ColumnarFormat}, for transactions only.
  */
 public enum ExportFormatEnum {
     CSV("CSV", "text/csv", ".csv"),
     JSON("JSON", "application/json", ".json"),
     EXCEL("Excel", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", ".xlsx"),
-    PDF("PDF", "application/pdf", ".pdf");
+    PDF("PDF", "application/pdf", ".pdf"),
+    CSV_GZIP("CSV (gzip)", "application/gzip", ".csv.gz", CSV, true),
+    JSON_GZIP("JSON (gzip)", "application/gzip", ".json.gz", JSON, true),
+    ZIP("ZIP of CSV files", "application/zip", ".zip", CSV, false),
+    COLUMNAR("Columnar binary", "application/vnd.expensemngr.columnar", ".excf");
 
     private final String displayName;
     private final String mimeType;
     private final String extension;
+    private final ExportFormatEnum contentFormat;
+    private final boolean gzipped;
 
     ExportFormatEnum(String displayName, String mimeType, String extension) {
+        this(displayName, mimeType, extension, null, false);
+    }
+
+    ExportFormatEnum(String displayName, String mimeType, String extension,
+                     ExportFormatEnum contentFormat, boolean gzipped) {
         this.displayName = displayName;
         this.mimeType = mimeType;
         this.extension = extension;
+        this.contentFormat = contentFormat;
+        this.gzipped = gzipped;
     }
 
     public String getDisplayName() {
@@ -30,4 +45,18 @@ public enum ExportFormatEnum {
     public String getExtension() {
         return extension;
     }
-}
\ No newline at end of file
+
+    /**
+     * Format of the uncompressed content; the format itself when it is not compressed
+     */
+    public ExportFormatEnum getContentFormat() {
+        return contentFormat != null ? contentFormat : this;
+    }
+
+    /**
+     * Whether the content is written through a gzip stream
+     */
+    public boolean isGzipped() {
+        return gzipped;
+    }
+}
@@ -0,0 +1,22 @@
+package com.practice.expensemngr.util;
+
+/**
+ * Enum for the lifecycle of an asynchronous export job
+ */
+public enum ExportJobStatusEnum {
+    QUEUED("Waiting for a worker"),
+    RUNNING("Writing the export file"),
+    COMPLETED("Ready for download"),
+    FAILED("Export failed"),
+    EXPIRED("File deleted after expiry");
+
+    private final String displayName;
+
+    ExportJobStatusEnum(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,440 @@
+package com.practice.expensemngr.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compressed set of non-negative long IDs in the style of a Roaring bitmap.
+ * IDs are split into a high key (id >>> 16) and a 16-bit low part; each key owns one container,
+ * stored as a sorted char array while it holds at most 4096 values and as a 65536-bit bitmap
+ * above that. Keys are kept sorted, so set operations walk both bitmaps in one merge pass and
+ * combine containers pairwise. Not thread-safe; AND, OR and AND NOT return new bitmaps.
+ */
+public final class IdBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    private long[] keys = new long[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    public IdBitmap() {
+    }
+
+    /**
+     * Bitmap holding a collection of IDs
+     * @param ids IDs (non-negative)
+     * @return New bitmap
+     */
+    public static IdBitmap of(Collection<Long> ids) {
+        IdBitmap bitmap = new IdBitmap();
+        for (Long id : ids) {
+            bitmap.add(id);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Add an ID
+     * @param id ID (non-negative)
+     */
+    public void add(long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("IDs must be non-negative: " + id);
+        }
+        int index = indexOf(id >>> 16);
+        if (index < 0) {
+            index = -index - 1;
+            insertAt(index, id >>> 16, new Container());
+        }
+        containers[index].add((char) id);
+    }
+
+    /**
+     * Remove an ID
+     * @param id ID
+     */
+    public void remove(long id) {
+        int index = id < 0 ? -1 : indexOf(id >>> 16);
+        if (index >= 0) {
+            containers[index].remove((char) id);
+            if (containers[index].cardinality == 0) {
+                removeAt(index);
+            }
+        }
+    }
+
+    public boolean contains(long id) {
+        int index = id < 0 ? -1 : indexOf(id >>> 16);
+        return index >= 0 && containers[index].contains((char) id);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Number of IDs in the set
+     * @return Cardinality
+     */
+    public long cardinality() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += containers[i].cardinality;
+        }
+        return total;
+    }
+
+    /**
+     * Independent copy of this bitmap
+     * @return New bitmap
+     */
+    public IdBitmap copy() {
+        IdBitmap result = new IdBitmap();
+        for (int i = 0; i < size; i++) {
+            result.appendIfNotEmpty(keys[i], containers[i].copy());
+        }
+        return result;
+    }
+
+    /**
+     * IDs present in both bitmaps
+     * @param other Other bitmap
+     * @return New bitmap
+     */
+    public IdBitmap and(IdBitmap other) {
+        IdBitmap result = new IdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            int order = Long.compare(keys[i], other.keys[j]);
+            if (order < 0) {
+                i++;
+            } else if (order > 0) {
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * IDs present in either bitmap
+     * @param other Other bitmap
+     * @return New bitmap
+     */
+    public IdBitmap or(IdBitmap other) {
+        IdBitmap result = new IdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            int order = i == size ? 1 : j == other.size ? -1 : Long.compare(keys[i], other.keys[j]);
+            if (order < 0) {
+                result.appendIfNotEmpty(keys[i], containers[i].copy());
+                i++;
+            } else if (order > 0) {
+                result.appendIfNotEmpty(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * IDs present in this bitmap but not in the other
+     * @param other Bitmap of IDs to drop
+     * @return New bitmap
+     */
+    public IdBitmap andNot(IdBitmap other) {
+        IdBitmap result = new IdBitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            Container kept = j < other.size && other.keys[j] == keys[i]
+                    ? containers[i].andNot(other.containers[j])
+                    : containers[i].copy();
+            result.appendIfNotEmpty(keys[i], kept);
+        }
+        return result;
+    }
+
+    /**
+     * IDs in ascending order
+     * @return List of IDs
+     */
+    public List<Long> toList() {
+        List<Long> ids = new ArrayList<>((int) Math.min(Integer.MAX_VALUE, cardinality()));
+        for (int i = 0; i < size; i++) {
+            long high = keys[i] << 16;
+            Container container = containers[i];
+            if (container.bits == null) {
+                for (int v = 0; v < container.cardinality; v++) {
+                    ids.add(high | container.values[v]);
+                }
+            } else {
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    long word = container.bits[w];
+                    while (word != 0) {
+                        ids.add(high | ((long) w << 6) | Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Helper: Position of a key, or (-(insertion point) - 1) when absent
+     */
+    private int indexOf(long key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    /**
+     * Helper: Insert a container keeping keys sorted
+     */
+    private void insertAt(int index, long key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    /**
+     * Helper: Remove the container at a position
+     */
+    private void removeAt(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    /**
+     * Helper: Append a container with a key greater than all present keys
+     */
+    private void appendIfNotEmpty(long key, Container container) {
+        if (container.cardinality > 0) {
+            insertAt(size, key, container);
+        }
+    }
+
+    /**
+     * Values sharing one high key: a sorted char array up to 4096 values, a bitmap above
+     */
+    private static final class Container {
+
+        private char[] values;
+        private long[] bits;
+        private int cardinality;
+
+        Container() {
+            this.values = new char[4];
+        }
+
+        private Container(char[] values, long[] bits, int cardinality) {
+            this.values = values;
+            this.bits = bits;
+            this.cardinality = cardinality;
+        }
+
+        boolean contains(char value) {
+            if (bits != null) {
+                return (bits[value >>> 6] & (1L << value)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        void add(char value) {
+            if (bits != null) {
+                long mask = 1L << value;
+                if ((bits[value >>> 6] & mask) == 0) {
+                    bits[value >>> 6] |= mask;
+                    cardinality++;
+                }
+                return;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return;
+            }
+            if (cardinality == ARRAY_MAX) {
+                toBitmap();
+                add(value);
+                return;
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, cardinality * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+        }
+
+        void remove(char value) {
+            if (bits != null) {
+                long mask = 1L << value;
+                if ((bits[value >>> 6] & mask) != 0) {
+                    bits[value >>> 6] &= ~mask;
+                    cardinality--;
+                    if (cardinality <= ARRAY_MAX) {
+                        toArray();
+                    }
+                }
+                return;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+        }
+
+        Container copy() {
+            return new Container(values == null ? null : Arrays.copyOf(values, Math.max(1, cardinality)),
+                    bits == null ? null : bits.clone(), cardinality);
+        }
+
+        Container and(Container other) {
+            if (bits != null && other.bits != null) {
+                long[] result = new long[BITMAP_WORDS];
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    result[w] = bits[w] & other.bits[w];
+                }
+                return fromBits(result);
+            }
+            // At least one side is an array: keep its values that the other side contains
+            Container array = bits == null ? this : other;
+            Container probe = array == this ? other : this;
+            char[] result = new char[array.cardinality];
+            int count = 0;
+            for (int v = 0; v < array.cardinality; v++) {
+                if (probe.contains(array.values[v])) {
+                    result[count++] = array.values[v];
+                }
+            }
+            return new Container(result, null, count);
+        }
+
+        Container or(Container other) {
+            if (bits == null && other.bits == null && cardinality + other.cardinality <= ARRAY_MAX) {
+                char[] result = new char[cardinality + other.cardinality];
+                int i = 0;
+                int j = 0;
+                int count = 0;
+                while (i < cardinality || j < other.cardinality) {
+                    if (j == other.cardinality || (i < cardinality && values[i] < other.values[j])) {
+                        result[count++] = values[i++];
+                    } else if (i == cardinality || other.values[j] < values[i]) {
+                        result[count++] = other.values[j++];
+                    } else {
+                        result[count++] = values[i++];
+                        j++;
+                    }
+                }
+                return new Container(result, null, count);
+            }
+            long[] result = toBits();
+            if (other.bits != null) {
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    result[w] |= other.bits[w];
+                }
+            } else {
+                for (int v = 0; v < other.cardinality; v++) {
+                    result[other.values[v] >>> 6] |= 1L << other.values[v];
+                }
+            }
+            return fromBits(result);
+        }
+
+        Container andNot(Container other) {
+            if (bits == null) {
+                char[] result = new char[cardinality];
+                int count = 0;
+                for (int v = 0; v < cardinality; v++) {
+                    if (!other.contains(values[v])) {
+                        result[count++] = values[v];
+                    }
+                }
+                return new Container(result, null, count);
+            }
+            long[] result = bits.clone();
+            if (other.bits != null) {
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    result[w] &= ~other.bits[w];
+                }
+            } else {
+                for (int v = 0; v < other.cardinality; v++) {
+                    result[other.values[v] >>> 6] &= ~(1L << other.values[v]);
+                }
+            }
+            return fromBits(result);
+        }
+
+        /**
+         * Helper: This container's values as a fresh bitmap
+         */
+        private long[] toBits() {
+            if (bits != null) {
+                return bits.clone();
+            }
+            long[] result = new long[BITMAP_WORDS];
+            for (int v = 0; v < cardinality; v++) {
+                result[values[v] >>> 6] |= 1L << values[v];
+            }
+            return result;
+        }
+
+        private void toBitmap() {
+            bits = toBits();
+            values = null;
+        }
+
+        private void toArray() {
+            Container array = fromBits(bits);
+            values = array.values;
+            bits = null;
+        }
+
+        /**
+         * Helper: Container for a bitmap, converted to an array when sparse enough
+         */
+        private static Container fromBits(long[] words) {
+            int count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            if (count > ARRAY_MAX) {
+                return new Container(null, words, count);
+            }
+            char[] result = new char[count];
+            int index = 0;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    result[index++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new Container(result, null, count);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.practice.expensemngr.util;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Immutable money amount stored as a long count of minor units at a fixed scale
+ * (e.g. 1050 units at scale 2 is 10.50). The scale is that of the stored decimal amounts,
+ * widened when operands differ, so sums are never rounded. Arithmetic stays in long;
+ * BigDecimal is only produced at the API edge.
+ */
+public final class Money implements Comparable<Money>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int DEFAULT_SCALE = 2;
+    public static final int MAX_SCALE = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final long units;
+    private final int scale;
+
+    private Money(long units, int scale) {
+        this.units = units;
+        this.scale = scale;
+    }
+
+    /**
+     * Create from minor units
+     * @param units Count of minor units
+     * @param scale Number of decimal places
+     * @return Money amount
+     */
+    public static Money ofMinor(long units, int scale) {
+        checkScale(scale);
+        return new Money(units, scale);
+    }
+
+    /**
+     * Zero at a scale
+     * @param scale Number of decimal places
+     * @return Zero amount
+     */
+    public static Money zero(int scale) {
+        return ofMinor(0, scale);
+    }
+
+    /**
+     * Convert a decimal amount, rounding half-up to the given scale
+     * @param amount Decimal amount (null is treated as zero)
+     * @param scale Number of decimal places
+     * @return Money amount
+     */
+    public static Money of(BigDecimal amount, int scale) {
+        checkScale(scale);
+        return new Money(toUnits(amount, scale), scale);
+    }
+
+    /**
+     * Convert a decimal amount keeping its own scale (at least zero)
+     * @param amount Decimal amount (null is treated as zero)
+     * @return Money amount
+     */
+    public static Money of(BigDecimal amount) {
+        int scale = amount == null ? 0 : Math.max(0, amount.scale());
+        return of(amount, Math.min(scale, MAX_SCALE));
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public Money plus(Money other) {
+        int common = Math.max(scale, other.scale);
+        return new Money(Math.addExact(rescale(units, scale, common), rescale(other.units, other.scale, common)), common);
+    }
+
+    public Money minus(Money other) {
+        return plus(other.negate());
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(units), scale);
+    }
+
+    public int signum() {
+        return Long.signum(units);
+    }
+
+    /**
+     * Divide into equal parts, rounding half-up to the result scale (e.g. an average)
+     * @param divisor Number of parts (must be positive)
+     * @param resultScale Decimal places of the result
+     * @return Quotient
+     */
+    public Money dividedBy(long divisor, int resultScale) {
+        checkScale(resultScale);
+        if (divisor <= 0) {
+            throw new IllegalArgumentException("Divisor must be positive: " + divisor);
+        }
+        if (resultScale >= scale) {
+            return new Money(divideHalfUp(rescale(units, scale, resultScale), divisor), resultScale);
+        }
+        return new Money(divideHalfUp(units, Math.multiplyExact(divisor, POWERS_OF_TEN[scale - resultScale])), resultScale);
+    }
+
+    /**
+     * This amount as a percentage of a whole, rounded half-up to two decimals
+     * (e.g. 21.00 of 50.00 is 42.0). Returns 0 when the whole is not positive.
+     * @param whole The 100% amount
+     * @return Percentage
+     */
+    public double percentageOf(Money whole) {
+        return percentage(units, scale, whole.units, whole.scale);
+    }
+
+    /**
+     * Percentage of two minor-unit amounts, rounded half-up to two decimals
+     * @return Percentage, 0 when the whole is not positive
+     */
+    public static double percentage(long partUnits, int partScale, long wholeUnits, int wholeScale) {
+        if (wholeUnits <= 0) {
+            return 0.0;
+        }
+        int common = Math.max(partScale, wholeScale);
+        try {
+            long part = Math.multiplyExact(rescale(partUnits, partScale, common), 10000L);
+            long whole = rescale(wholeUnits, wholeScale, common);
+            return divideHalfUp(part, whole) / 100.0;
+        } catch (ArithmeticException e) {
+            // Beyond long range: fall back to decimal arithmetic
+            return BigDecimal.valueOf(partUnits, partScale)
+                    .divide(BigDecimal.valueOf(wholeUnits, wholeScale), 4, RoundingMode.HALF_UP)
+                    .multiply(BigDecimal.valueOf(100))
+                    .doubleValue();
+        }
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(units, scale);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        int common = Math.max(scale, other.scale);
+        return Long.compare(rescale(units, scale, common), rescale(other.units, other.scale, common));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Money other)) return false;
+        return units == other.units && scale == other.scale;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(units) + scale;
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    /**
+     * Convert a decimal amount to minor units at a scale, rounding half-up
+     * @param amount Decimal amount (null is treated as zero)
+     * @param scale Number of decimal places
+     * @return Minor units
+     */
+    public static long toUnits(BigDecimal amount, int scale) {
+        if (amount == null) {
+            return 0;
+        }
+        return amount.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Move minor units between scales, rounding half-up when the scale shrinks
+     */
+    public static long rescale(long units, int fromScale, int toScale) {
+        if (toScale == fromScale) {
+            return units;
+        }
+        if (toScale > fromScale) {
+            return Math.multiplyExact(units, POWERS_OF_TEN[toScale - fromScale]);
+        }
+        return divideHalfUp(units, POWERS_OF_TEN[fromScale - toScale]);
+    }
+
+    /**
+     * Integer division rounding half away from zero
+     */
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= Math.abs(divisor)) {
+            quotient += Long.signum(dividend) * Long.signum(divisor);
+        }
+        return quotient;
+    }
+
+    private static void checkScale(int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE + ": " + scale);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.practice.expensemngr.util;
+
+import java.math.BigDecimal;
+
+/**
+ * Mutable running sum and count of money amounts in long minor units.
+ * Adding never allocates; the scale widens automatically when an amount with more
+ * decimal places arrives.
+ */
+public final class MoneyAccumulator {
+
+    private long units;
+    private int scale;
+    private long count;
+
+    public MoneyAccumulator() {
+        this(Money.DEFAULT_SCALE);
+    }
+
+    public MoneyAccumulator(int scale) {
+        this.scale = scale;
+    }
+
+    /**
+     * Add one amount
+     * @param amount Decimal amount (null is ignored)
+     * @return This accumulator
+     */
+    public MoneyAccumulator add(BigDecimal amount) {
+        return add(amount, 1);
+    }
+
+    /**
+     * Add a pre-aggregated amount that stands for several items
+     * @param amount Decimal amount (null is ignored)
+     * @param items Number of items the amount covers
+     * @return This accumulator
+     */
+    public MoneyAccumulator add(BigDecimal amount, long items) {
+        if (amount == null) {
+            return this;
+        }
+        widenTo(Math.min(Math.max(0, amount.scale()), Money.MAX_SCALE));
+        return addUnits(Money.toUnits(amount, scale), scale, items);
+    }
+
+    /**
+     * Add one amount
+     * @param amount Money amount
+     * @return This accumulator
+     */
+    public MoneyAccumulator add(Money amount) {
+        return addUnits(amount.getUnits(), amount.getScale(), 1);
+    }
+
+    /**
+     * Add minor units that stand for several items
+     * @param amountUnits Minor units
+     * @param amountScale Scale of the units
+     * @param items Number of items the amount covers
+     * @return This accumulator
+     */
+    public MoneyAccumulator addUnits(long amountUnits, int amountScale, long items) {
+        widenTo(amountScale);
+        units = Math.addExact(units, Money.rescale(amountUnits, amountScale, scale));
+        count += items;
+        return this;
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Money sum() {
+        return Money.ofMinor(units, scale);
+    }
+
+    /**
+     * Sum as a decimal, for the API edge
+     * @return Sum
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(units, scale);
+    }
+
+    /**
+     * This sum as a percentage of another sum, rounded half-up to two decimals
+     * @param whole The 100% sum
+     * @return Percentage, 0 when the whole is not positive
+     */
+    public double percentageOf(MoneyAccumulator whole) {
+        return Money.percentage(units, scale, whole.units, whole.scale);
+    }
+
+    /**
+     * Helper: Increase the working scale, never shrinking it
+     */
+    private void widenTo(int newScale) {
+        if (newScale > scale) {
+            units = Money.rescale(units, scale, newScale);
+            scale = newScale;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.practice.expensemngr.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.IsoFields;
+import java.time.zone.ZoneRules;
+import java.util.Locale;
+
+/**
+ * Maps days and instants of a date range to dense period indexes (0 .. size-1) for one grouping,
+ * so per-period totals can be kept in primitive arrays sized to the range.
+ * Indexes are computed with integer arithmetic on the epoch day: weeks are ISO weeks starting
+ * on Monday, months, quarters and years are calendar periods. Instants are mapped to days in
+ * the bucketer's time zone. Each period label is formatted once, when the bucketer is built.
+ */
+public final class PeriodBucketer {
+
+    private static final DateTimeFormatter MONTH_LABEL = DateTimeFormatter.ofPattern("MMM yyyy", Locale.ENGLISH);
+
+    private final TrendGroupingEnum grouping;
+    private final ZoneRules zoneRules;
+    private final long firstOrdinal;
+    private final String[] labels;
+
+    /**
+     * Create a bucketer covering every period that overlaps [firstDay, lastDay]
+     * @param grouping Period size
+     * @param zone Time zone used to map instants to days
+     * @param firstDay First day of the range
+     * @param lastDay Last day of the range (not before firstDay)
+     */
+    public PeriodBucketer(TrendGroupingEnum grouping, ZoneId zone, LocalDate firstDay, LocalDate lastDay) {
+        this.grouping = grouping;
+        this.zoneRules = zone.getRules();
+        this.firstOrdinal = ordinal(firstDay);
+        int size = (int) (ordinal(lastDay) - firstOrdinal + 1);
+
+        // Format each label once, from the first day of its period
+        this.labels = new String[size];
+        for (int i = 0; i < size; i++) {
+            labels[i] = formatLabel(periodStart(firstOrdinal + i));
+        }
+    }
+
+    public TrendGroupingEnum getGrouping() {
+        return grouping;
+    }
+
+    /**
+     * Number of periods in the range
+     * @return Period count
+     */
+    public int size() {
+        return labels.length;
+    }
+
+    /**
+     * Label of one period, e.g. "2025-12-03", "2025-W49", "Dec 2025", "2025-Q4" or "2025"
+     * @param index Period index
+     * @return Label
+     */
+    public String label(int index) {
+        return labels[index];
+    }
+
+    /**
+     * Period index of a day
+     * @param day Day
+     * @return Index, or -1 when the day is outside the range
+     */
+    public int indexOf(LocalDate day) {
+        return toIndex(ordinal(day));
+    }
+
+    /**
+     * Period index of an instant, taking the day in the bucketer's time zone
+     * @param epochMillis Instant as epoch milliseconds
+     * @return Index, or -1 when the instant is outside the range
+     */
+    public int indexOfInstant(long epochMillis) {
+        long offsetSeconds = zoneRules.isFixedOffset()
+                ? zoneRules.getOffset(Instant.EPOCH).getTotalSeconds()
+                : zoneRules.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds();
+        long epochDay = Math.floorDiv(Math.floorDiv(epochMillis, 1000L) + offsetSeconds, 86400L);
+        return indexOfEpochDay(epochDay);
+    }
+
+    /**
+     * Period index of an epoch day
+     * @param epochDay Days since 1970-01-01
+     * @return Index, or -1 when the day is outside the range
+     */
+    public int indexOfEpochDay(long epochDay) {
+        if (grouping == TrendGroupingEnum.DAILY || grouping == TrendGroupingEnum.WEEKLY) {
+            return toIndex(ordinal(epochDay, 0, 0));
+        }
+        // Civil year and month from the epoch day (days-from-civil inverse, proleptic Gregorian)
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+        return toIndex(ordinal(epochDay, year, month));
+    }
+
+    /**
+     * Helper: Dense index from a period ordinal, -1 outside the range
+     */
+    private int toIndex(long ordinal) {
+        long index = ordinal - firstOrdinal;
+        return index >= 0 && index < labels.length ? (int) index : -1;
+    }
+
+    /**
+     * Helper: Period ordinal of a day
+     */
+    private long ordinal(LocalDate day) {
+        return ordinal(day.toEpochDay(), day.getYear(), day.getMonthValue());
+    }
+
+    /**
+     * Helper: Period ordinal, a running period number that only needs the fields of its grouping
+     */
+    private long ordinal(long epochDay, int year, int month) {
+        switch (grouping) {
+            case WEEKLY:
+                // 1970-01-01 was a Thursday, so Monday-based weeks start at epoch days -3 + 7k
+                return Math.floorDiv(epochDay + 3, 7);
+            case MONTHLY:
+                return year * 12L + (month - 1);
+            case QUARTERLY:
+                return year * 4L + (month - 1) / 3;
+            case YEARLY:
+                return year;
+            default:
+                return epochDay;
+        }
+    }
+
+    /**
+     * Helper: First day of the period with the given ordinal
+     */
+    private LocalDate periodStart(long ordinal) {
+        switch (grouping) {
+            case WEEKLY:
+                return LocalDate.ofEpochDay(ordinal * 7 - 3);
+            case MONTHLY:
+                return LocalDate.of((int) Math.floorDiv(ordinal, 12), (int) Math.floorMod(ordinal, 12) + 1, 1);
+            case QUARTERLY:
+                return LocalDate.of((int) Math.floorDiv(ordinal, 4), (int) Math.floorMod(ordinal, 4) * 3 + 1, 1);
+            case YEARLY:
+                return LocalDate.of((int) ordinal, 1, 1);
+            default:
+                return LocalDate.ofEpochDay(ordinal);
+        }
+    }
+
+    /**
+     * Helper: Label for the period starting on a day
+     */
+    private String formatLabel(LocalDate start) {
+        switch (grouping) {
+            case WEEKLY:
+                return String.format("%d-W%02d", start.get(IsoFields.WEEK_BASED_YEAR),
+                        start.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR)); // "2025-W49"
+            case MONTHLY:
+                return MONTH_LABEL.format(start); // "Dec 2025"
+            case QUARTERLY:
+                return start.getYear() + "-Q" + ((start.getMonthValue() - 1) / 3 + 1); // "2025-Q4"
+            case YEARLY:
+                return String.valueOf(start.getYear()); // "2025"
+            default:
+                return start.toString(); // "2025-12-03"
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.practice.expensemngr.util;
+
+/**
+ * Enum for the fields transaction search results can be faceted by
+ */
+public enum SearchFacetEnum {
+    CATEGORY("Category"),
+    ACCOUNT("Account"),
+    TYPE("Type"),
+    STATUS("Status"),
+    TAG("Tag");
+
+    private final String displayName;
+
+    SearchFacetEnum(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
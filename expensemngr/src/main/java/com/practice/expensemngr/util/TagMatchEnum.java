@@ -0,0 +1,20 @@
+package com.practice.expensemngr.util;
+
+/**
+ * Enum for how a set of tags filters transactions
+ */
+public enum TagMatchEnum {
+    ALL("Has all tags"),
+    ANY("Has any tag"),
+    NONE("Has none of the tags");
+
+    private final String displayName;
+
+    TagMatchEnum(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
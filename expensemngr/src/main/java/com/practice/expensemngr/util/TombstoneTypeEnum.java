@@ -0,0 +1,19 @@
+package com.practice.expensemngr.util;
+
+/**
+ * Enum for the kinds of deletion recorded for delta exports
+ */
+public enum TombstoneTypeEnum {
+    TRANSACTION_TAG("Tag removed from transaction"),
+    ATTACHMENT("Attachment deleted");
+
+    private final String displayName;
+
+    TombstoneTypeEnum(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,102 @@
+package com.practice.expensemngr.util;
+
+import com.practice.expensemngr.entity.Transactions;
+import com.practice.expensemngr.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Opaque keyset pagination cursor: the (transactionDate, createdAt, id) tuple of the row a page
+ * starts after, plus the direction to read in. Encoded as URL-safe Base64 so clients treat it
+ * as a token and never build one themselves.
+ */
+public final class TransactionCursor {
+
+    private static final String VERSION = "t1";
+
+    private final boolean forward;
+    private final long transactionDate;
+    private final long createdAt;
+    private final long id;
+
+    private TransactionCursor(boolean forward, long transactionDate, long createdAt, long id) {
+        this.forward = forward;
+        this.transactionDate = transactionDate;
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * Cursor for the rows that come after a transaction in search order (older rows)
+     * @param transaction Last row of the current page
+     * @return Forward cursor
+     */
+    public static TransactionCursor after(Transactions transaction) {
+        return of(true, transaction);
+    }
+
+    /**
+     * Cursor for the rows that come before a transaction in search order (newer rows)
+     * @param transaction First row of the current page
+     * @return Backward cursor
+     */
+    public static TransactionCursor before(Transactions transaction) {
+        return of(false, transaction);
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode()}
+     * @param token Encoded cursor
+     * @return Cursor
+     * @throws InvalidCursorException when the token is malformed
+     */
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            String[] parts = raw.split(":");
+            if (parts.length != 5 || !VERSION.equals(parts[0])
+                    || !("n".equals(parts[1]) || "p".equals(parts[1]))) {
+                throw new InvalidCursorException(token);
+            }
+            return new TransactionCursor("n".equals(parts[1]),
+                    Long.parseLong(parts[2]), Long.parseLong(parts[3]), Long.parseLong(parts[4]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    /**
+     * Encode as an opaque URL-safe token
+     * @return Token
+     */
+    public String encode() {
+        String raw = VERSION + ":" + (forward ? "n" : "p") + ":" + transactionDate + ":" + createdAt + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public boolean isForward() {
+        return forward;
+    }
+
+    public Date getTransactionDate() {
+        return new Date(transactionDate);
+    }
+
+    public Date getCreatedAt() {
+        return new Date(createdAt);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Helper: Capture the sort key of a row
+     */
+    private static TransactionCursor of(boolean forward, Transactions transaction) {
+        return new TransactionCursor(forward, transaction.getTransactionDate().getTime(),
+                transaction.getCreatedAt().getTime(), transaction.getId());
+    }
+}
@@ -0,0 +1,22 @@
+package com.practice.expensemngr.util;
+
+/**
+ * Enum for period sizes that spending trends can be grouped by
+ */
+public enum TrendGroupingEnum {
+    DAILY("Daily"),
+    WEEKLY("Weekly"),
+    MONTHLY("Monthly"),
+    QUARTERLY("Quarterly"),
+    YEARLY("Yearly");
+
+    private final String displayName;
+
+    TrendGroupingEnum(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
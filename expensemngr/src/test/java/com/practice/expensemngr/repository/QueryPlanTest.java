@@ -0,0 +1,189 @@
+package com.practice.expensemngr.repository;
+
+import com.practice.expensemngr.dto.TransactionFilterDTO;
+import com.practice.expensemngr.entity.Transactions;
+import com.practice.expensemngr.util.TransactionCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs EXPLAIN on the SQL of the hot repository queries and fails when any of them reads a
+ * table without an index, so a dropped index or a rewritten query cannot silently turn into
+ * a full scan.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.practice.expensemngr.repository.CapturingStatementInspector")
+class QueryPlanTest {
+
+    // A table scan, or an index read without any condition on it
+    private static final Pattern FULL_SCAN = Pattern.compile("/\\* PUBLIC\\.[\\w.]+ \\*/");
+
+    private static final Date FROM = new Date(0);
+    private static final Date TO = new Date();
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired
+    private TransactionTagsRepository transactionTagsRepository;
+
+    @Autowired
+    private RecurringRulesRepository recurringRulesRepository;
+
+    @Autowired
+    private BudgetsRepository budgetsRepository;
+
+    @Autowired
+    private BudgetItemsRepository budgetItemsRepository;
+
+    @Autowired
+    private NotificationPreferencesRepository notificationPreferencesRepository;
+
+    @Autowired
+    private TagsRepository tagsRepository;
+
+    @BeforeEach
+    void clearCapturedStatements() {
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    void transactionLookupsUseIndexes() {
+        transactionsRepository.findByUserId(1L);
+        transactionsRepository.countByUserId(1L);
+        transactionsRepository.findByUserIdAndAccountId(1L, 2L);
+        transactionsRepository.existsByAccountId(2L);
+        transactionsRepository.findByUserIdAndTransactionDateBetween(1L, FROM, TO, PageRequest.of(0, 20));
+        transactionsRepository.findByUserIdAndAccountIdAndTransactionDateBetween(1L, 2L, FROM, TO, PageRequest.of(0, 20));
+        transactionsRepository.findTextByUserId(1L);
+        assertIndexedPlans();
+    }
+
+    @Test
+    void transactionAggregatesUseIndexes() {
+        transactionsRepository.sumByType(1L, null, null, FROM, TO);
+        transactionsRepository.sumByCategory(1L, null, "EXPENSE", null, FROM, TO);
+        transactionsRepository.sumByDay(1L, 2L, "CLEARED", FROM, TO);
+        transactionsRepository.sumByCategoryAndDate(1L, List.of(3L), "EXPENSE", "CLEARED", FROM, TO);
+        assertIndexedPlans();
+    }
+
+    @Test
+    void transactionSearchUsesIndexes() {
+        TransactionFilterDTO filter = TransactionFilterDTO.builder()
+                .userId(1L)
+                .startDate(FROM)
+                .endDate(TO)
+                .type("EXPENSE")
+                .minAmount(BigDecimal.ONE)
+                .keyword("coffee")
+                .tagIds(List.of(4L, 5L))
+                .tagMatch("ALL")
+                .build();
+        Specification<Transactions> specification = TransactionSpecification.fromFilter(filter);
+        transactionsRepository.findAll(specification,
+                PageRequest.of(2, 20, TransactionSpecification.SEARCH_SORT));
+
+        Transactions last = Transactions.builder().id(100L).transactionDate(TO).createdAt(TO).build();
+        transactionsRepository.findBy(specification.and(TransactionSpecification.seek(TransactionCursor.after(last))),
+                query -> query.sortBy(TransactionSpecification.SEARCH_SORT).limit(21).all());
+        transactionsRepository.sumFacets(specification);
+        transactionsRepository.sumTagFacets(specification);
+        assertIndexedPlans();
+    }
+
+    @Test
+    void tagLookupsUseIndexes() {
+        transactionTagsRepository.findByTagId(4L);
+        transactionTagsRepository.countByTagId(4L);
+        transactionTagsRepository.findByTagIdIn(List.of(4L, 5L));
+        transactionTagsRepository.findTagRowsByTransactionIdIn(List.of(1L, 2L));
+        tagsRepository.findByUserIdAndName(1L, "trip");
+        assertIndexedPlans();
+    }
+
+    @Test
+    void recurringRuleLookupsUseIndexes() {
+        recurringRulesRepository.findByNextRunDateLessThanEqualAndActive(TO, true);
+        recurringRulesRepository.findByUserIdOrderByNextRunDateAsc(1L);
+        recurringRulesRepository.findByAccountId(2L);
+        assertIndexedPlans();
+    }
+
+    @Test
+    void budgetAndPreferenceLookupsUseIndexes() {
+        budgetsRepository.findOverlapping(1L, FROM, TO);
+        budgetItemsRepository.findByBudgetId(1L);
+        budgetItemsRepository.findByBudgetIdIn(List.of(1L, 2L));
+        notificationPreferencesRepository.findByUserIdAndTypeAndChannel(1L, "BUDGET", "EMAIL");
+        notificationPreferencesRepository.findByUserId(1L);
+        assertIndexedPlans();
+    }
+
+    /**
+     * Helper: EXPLAIN every captured SELECT and fail on any table scan
+     */
+    private void assertIndexedPlans() {
+        List<String> selects = new ArrayList<>();
+        for (String sql : CapturingStatementInspector.statements()) {
+            if (sql.trim().toLowerCase().startsWith("select")) {
+                selects.add(sql);
+            }
+        }
+        assertFalse(selects.isEmpty(), "No SELECT statements were captured");
+
+        List<String> scans = new ArrayList<>();
+        for (String sql : selects) {
+            String plan = explain(sql);
+            if (FULL_SCAN.matcher(plan).find()) {
+                scans.add(sql + "\n  plan: " + plan.replace('\n', ' '));
+            }
+        }
+        if (!scans.isEmpty()) {
+            fail("Queries falling back to a table scan:\n" + String.join("\n", scans));
+        }
+    }
+
+    /**
+     * Helper: H2 query plan of a statement, with every parameter bound to a placeholder value
+     */
+    private String explain(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1));
+                }
+                return plan.toString();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("EXPLAIN failed for: " + sql, e);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.config.StreamingProperties;
+import com.practice.expensemngr.dto.DashboardSummaryDTO;
+import com.practice.expensemngr.dto.SpendingTrendDTO;
+import com.practice.expensemngr.dto.SpendingTrendDataPointDTO;
+import com.practice.expensemngr.dto.TransactionCreateRequestDTO;
+import com.practice.expensemngr.dto.TransactionResponseDTO;
+import com.practice.expensemngr.dto.TransferRequestDTO;
+import com.practice.expensemngr.entity.Accounts;
+import com.practice.expensemngr.entity.Categories;
+import com.practice.expensemngr.repository.AccountsRepository;
+import com.practice.expensemngr.repository.CategoriesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that the dashboard totals read from the daily rollups (ranges covering whole days)
+ * equal those aggregated from the raw transactions (any other range) over the same rows,
+ * after creates, PENDING to CLEARED status changes and transfers have all gone through
+ * {@link TransactionsService}. The raw ranges start a second after midnight and end a second
+ * before the end of the day, so they hold exactly the same transactions.
+ */
+@DataJpaTest
+@Import({DashboardService.class, TransactionsService.class, TransactionRollupService.class, AccountsService.class,
+        DimensionNameResolver.class, TransactionCursorPager.class, TransactionStreamer.class,
+        StreamingProperties.class, JacksonAutoConfiguration.class})
+class DashboardRollupConsistencyTest {
+
+    private static final Long USER_ID = 1001L;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 3, 10);
+    private static final LocalDate LAST_DAY = LocalDate.of(2024, 3, 12);
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TransactionsService transactionsService;
+
+    @Autowired
+    private AccountsRepository accountsRepository;
+
+    @Autowired
+    private CategoriesRepository categoriesRepository;
+
+    private Long walletId;
+    private Long bankId;
+    private Long foodId;
+    private Long salaryId;
+
+    @BeforeEach
+    void createReferenceData() {
+        walletId = createAccount("Wallet");
+        bankId = createAccount("Bank");
+        foodId = createCategory("Food", "EXPENSE");
+        salaryId = createCategory("Salary", "INCOME");
+        createCategory("Transfer", "TRANSFER");
+    }
+
+    @Test
+    void summaryTotalsMatchOnBothPaths() {
+        createTransactions();
+
+        assertSameSummary(null);
+        assertSameSummary(walletId);
+        assertSameSummary(bankId);
+
+        DashboardSummaryDTO summary = dashboardService.getDashboardSummary(USER_ID,
+                at(FIRST_DAY, LocalTime.MIDNIGHT), endOf(LAST_DAY), null, 5);
+        assertAmount("1500.00", summary.getTotalIncome());
+        assertAmount("90.25", summary.getTotalExpense());
+        assertAmount("1409.75", summary.getNetSavings());
+        // Pending rows and both transfer legs count as transactions
+        assertEquals(7, summary.getTransactionCount());
+    }
+
+    @Test
+    void trendTotalsMatchOnBothPaths() {
+        createTransactions();
+
+        for (String groupBy : List.of("DAILY", "WEEKLY", "MONTHLY")) {
+            assertSameTrends(groupBy, null);
+            assertSameTrends(groupBy, walletId);
+            assertSameTrends(groupBy, bankId);
+        }
+
+        SpendingTrendDTO daily = dashboardService.getSpendingTrends(USER_ID,
+                at(FIRST_DAY, LocalTime.MIDNIGHT), endOf(LAST_DAY), "DAILY", null, null);
+        assertEquals(3, daily.getDataPoints().size());
+        assertAmount("1000.00", daily.getDataPoints().get(0).getIncome());
+        assertAmount("40.10", daily.getDataPoints().get(1).getExpense());
+        assertAmount("50.15", daily.getDataPoints().get(2).getExpense());
+    }
+
+    @Test
+    void clearingMovesTotalsOnBothPaths() {
+        createTransactions();
+        TransactionResponseDTO pending = create(walletId, foodId, "EXPENSE", "9.99", "PENDING", LAST_DAY, LocalTime.NOON);
+        assertSameSummary(null);
+        assertSameTrends("DAILY", null);
+
+        transactionsService.updateTransactionStatus(pending.getId(), "CLEARED");
+
+        assertSameSummary(null);
+        assertSameTrends("DAILY", null);
+        DashboardSummaryDTO summary = dashboardService.getDashboardSummary(USER_ID,
+                at(FIRST_DAY, LocalTime.MIDNIGHT), endOf(LAST_DAY), null, 5);
+        assertAmount("100.24", summary.getTotalExpense());
+    }
+
+    /**
+     * Helper: Income, cleared and pending expenses, a cleared pending row and a transfer, with
+     * rows at the edges of the days and outside the range
+     */
+    private void createTransactions() {
+        create(walletId, salaryId, "INCOME", "1000.00", "CLEARED", FIRST_DAY, LocalTime.of(0, 0, 5));
+        create(bankId, salaryId, "INCOME", "500.00", "CLEARED", LAST_DAY, LocalTime.of(23, 59, 50));
+        TransactionResponseDTO pending = create(walletId, foodId, "EXPENSE", "40.10", "PENDING",
+                FIRST_DAY.plusDays(1), LocalTime.of(13, 30));
+        create(walletId, foodId, "EXPENSE", "5.55", "PENDING", FIRST_DAY.plusDays(1), LocalTime.NOON);
+        create(walletId, foodId, "EXPENSE", "50.15", "CLEARED", LAST_DAY, LocalTime.of(8, 0));
+        transactionsService.updateTransactionStatus(pending.getId(), "CLEARED");
+
+        TransferRequestDTO transfer = new TransferRequestDTO();
+        transfer.setUserId(USER_ID);
+        transfer.setSourceAccountId(walletId);
+        transfer.setDestinationAccountId(bankId);
+        transfer.setAmount(new BigDecimal("200.00"));
+        transfer.setTransferDate(at(LAST_DAY, LocalTime.NOON));
+        transactionsService.transferFunds(transfer, false);
+
+        // Outside the range on either side
+        create(walletId, salaryId, "INCOME", "7.00", "CLEARED", FIRST_DAY.minusDays(1), LocalTime.of(23, 59, 59));
+        create(walletId, foodId, "EXPENSE", "3.00", "CLEARED", LAST_DAY.plusDays(1), LocalTime.MIDNIGHT);
+    }
+
+    /**
+     * Helper: Summary totals from the rollups equal those from the raw rows
+     */
+    private void assertSameSummary(Long accountId) {
+        DashboardSummaryDTO rollup = dashboardService.getDashboardSummary(USER_ID,
+                at(FIRST_DAY, LocalTime.MIDNIGHT), endOf(LAST_DAY), accountId, 5);
+        DashboardSummaryDTO raw = dashboardService.getDashboardSummary(USER_ID,
+                at(FIRST_DAY, LocalTime.of(0, 0, 1)), at(LAST_DAY, LocalTime.of(23, 59, 58)), accountId, 5);
+
+        String context = "account " + accountId;
+        assertAmount(raw.getTotalIncome(), rollup.getTotalIncome(), context);
+        assertAmount(raw.getTotalExpense(), rollup.getTotalExpense(), context);
+        assertAmount(raw.getNetSavings(), rollup.getNetSavings(), context);
+        assertEquals(raw.getTransactionCount(), rollup.getTransactionCount(), context);
+    }
+
+    /**
+     * Helper: Trend data points from the rollups equal those from the raw rows, period by period
+     */
+    private void assertSameTrends(String groupBy, Long accountId) {
+        SpendingTrendDTO rollup = dashboardService.getSpendingTrends(USER_ID,
+                at(FIRST_DAY, LocalTime.MIDNIGHT), endOf(LAST_DAY), groupBy, accountId, null);
+        SpendingTrendDTO raw = dashboardService.getSpendingTrends(USER_ID,
+                at(FIRST_DAY, LocalTime.of(0, 0, 1)), at(LAST_DAY, LocalTime.of(23, 59, 58)), groupBy, accountId, null);
+
+        assertEquals(raw.getDataPoints().size(), rollup.getDataPoints().size());
+        for (int i = 0; i < raw.getDataPoints().size(); i++) {
+            SpendingTrendDataPointDTO expected = raw.getDataPoints().get(i);
+            SpendingTrendDataPointDTO actual = rollup.getDataPoints().get(i);
+            String context = groupBy + " " + expected.getPeriod() + " account " + accountId;
+            assertEquals(expected.getPeriod(), actual.getPeriod(), context);
+            assertAmount(expected.getIncome(), actual.getIncome(), context);
+            assertAmount(expected.getExpense(), actual.getExpense(), context);
+            assertAmount(expected.getNet(), actual.getNet(), context);
+            assertEquals(expected.getTransactionCount(), actual.getTransactionCount(), context);
+        }
+    }
+
+    private TransactionResponseDTO create(Long accountId, Long categoryId, String type, String amount,
+                                          String status, LocalDate day, LocalTime time) {
+        TransactionCreateRequestDTO request = new TransactionCreateRequestDTO();
+        request.setUserId(USER_ID);
+        request.setAccountId(accountId);
+        request.setCategoryId(categoryId);
+        request.setType(type);
+        request.setAmount(new BigDecimal(amount));
+        request.setCurrencyCode("PKR");
+        request.setTransactionDate(at(day, time));
+        request.setStatus(status);
+        return transactionsService.createTransaction(request, false);
+    }
+
+    private Long createAccount(String name) {
+        Accounts account = new Accounts();
+        account.setUserId(USER_ID);
+        account.setName(name);
+        account.setType("Cash");
+        account.setCurrencyCode("PKR");
+        account.setInitialBalance(new BigDecimal("1000.00"));
+        account.setCurrentBalance(new BigDecimal("1000.00"));
+        account.setArchived(false);
+        account.setCreatedAt(new Date());
+        account.setUpdatedAt(new Date());
+        return accountsRepository.save(account).getId();
+    }
+
+    private Long createCategory(String name, String type) {
+        Categories category = new Categories();
+        category.setUserId(USER_ID);
+        category.setName(name);
+        category.setType(type);
+        category.setArchived(false);
+        category.setCreatedAt(new Date());
+        category.setUpdatedAt(new Date());
+        return categoriesRepository.save(category).getId();
+    }
+
+    private static Date at(LocalDate day, LocalTime time) {
+        return Date.from(day.atTime(time).atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static Date endOf(LocalDate day) {
+        return at(day, LocalTime.of(23, 59, 59));
+    }
+
+    private static void assertAmount(String expected, BigDecimal actual) {
+        assertAmount(new BigDecimal(expected), actual, "");
+    }
+
+    /**
+     * Helper: Compare amounts by value; the two paths may sum to different scales
+     */
+    private static void assertAmount(BigDecimal expected, BigDecimal actual, String context) {
+        assertEquals(0, expected.compareTo(actual), context + ": expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,200 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.dto.TransactionFilterDTO;
+import com.practice.expensemngr.entity.Categories;
+import com.practice.expensemngr.entity.Transactions;
+import com.practice.expensemngr.exception.InvalidCursorException;
+import com.practice.expensemngr.repository.CategoriesRepository;
+import com.practice.expensemngr.repository.TransactionSpecification;
+import com.practice.expensemngr.repository.TransactionsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Walks {@link TransactionCursorPager} forward and backward over rows that share their
+ * transactionDate and createdAt, so only the ID breaks ties, and checks every walk against
+ * OFFSET paging in the same order: no row skipped or repeated, and cursors only where more
+ * rows exist.
+ */
+@DataJpaTest
+@Import(TransactionCursorPager.class)
+class TransactionCursorPagerTest {
+
+    private static final Long USER_ID = 701L;
+
+    @Autowired
+    private TransactionCursorPager transactionCursorPager;
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired
+    private CategoriesRepository categoriesRepository;
+
+    private Long categoryId;
+    private Specification<Transactions> specification;
+    private List<Long> expected;
+
+    @BeforeEach
+    void createTransactions() {
+        Categories category = new Categories();
+        category.setName("Food");
+        category.setType("EXPENSE");
+        category.setArchived(false);
+        category.setCreatedAt(new Date());
+        category.setUpdatedAt(new Date());
+        categoryId = categoriesRepository.save(category).getId();
+
+        // Three dates, two creation times per date, several rows per pair, saved in shuffled order
+        Random random = new Random(9);
+        List<Transactions> transactions = new ArrayList<>();
+        for (int date = 0; date < 3; date++) {
+            for (int created = 0; created < 2; created++) {
+                int count = 3 + random.nextInt(4);
+                for (int i = 0; i < count; i++) {
+                    transactions.add(newTransaction(USER_ID,
+                            new Date(1_700_000_000_000L + date * 86_400_000L),
+                            new Date(1_700_100_000_000L + created * 1_000L)));
+                }
+            }
+        }
+        // A row with its own timestamps, and another user's rows at the same ones
+        transactions.add(newTransaction(USER_ID, new Date(1_600_000_000_000L), new Date(1_600_000_000_000L)));
+        transactions.add(newTransaction(702L, new Date(1_700_000_000_000L), new Date(1_700_100_000_000L)));
+        Collections.shuffle(transactions, random);
+        transactionsRepository.saveAllAndFlush(transactions);
+
+        specification = TransactionSpecification.fromFilter(TransactionFilterDTO.builder().userId(USER_ID).build());
+        expected = transactionsRepository.findAll(specification, TransactionSpecification.SEARCH_SORT).stream()
+                .map(Transactions::getId)
+                .toList();
+        assertTrue(expected.size() > 20);
+    }
+
+    @Test
+    void forwardPagesMatchOffsetPages() {
+        for (int size = 1; size <= 8; size++) {
+            List<List<Long>> pages = walkForward(size);
+
+            List<Long> seen = new ArrayList<>();
+            for (int page = 0; page < pages.size(); page++) {
+                Page<Transactions> offsetPage = transactionsRepository.findAll(specification,
+                        PageRequest.of(page, size, TransactionSpecification.SEARCH_SORT));
+                assertEquals(ids(offsetPage.getContent()), pages.get(page), "size " + size + " page " + page);
+                seen.addAll(pages.get(page));
+            }
+            assertEquals(expected, seen, "size " + size);
+            assertEquals((expected.size() + size - 1) / size, pages.size(), "size " + size);
+        }
+    }
+
+    @Test
+    void backwardPagesReturnTheForwardPages() {
+        for (int size = 1; size <= 8; size++) {
+            // Step back from each page to the one before it
+            List<List<Long>> pages = walkForward(size);
+            TransactionCursorPager.CursorPage page = transactionCursorPager.fetch(specification, null, size);
+            for (int index = 1; index < pages.size(); index++) {
+                page = transactionCursorPager.fetch(specification, page.getNextCursor(), size);
+                TransactionCursorPager.CursorPage previous = transactionCursorPager.fetch(
+                        specification, page.getPrevCursor(), size);
+                assertEquals(pages.get(index - 1), ids(previous.getTransactions()), "size " + size + " page " + index);
+                assertNotNull(previous.getNextCursor());
+                assertEquals(index > 1, previous.getPrevCursor() != null, "size " + size + " page " + index);
+            }
+        }
+    }
+
+    @Test
+    void backwardWalkCoversEveryRowOnce() {
+        for (int size = 1; size <= 8; size++) {
+            // Forward to the last page, then back to the first
+            TransactionCursorPager.CursorPage page = transactionCursorPager.fetch(specification, null, size);
+            while (page.getNextCursor() != null) {
+                page = transactionCursorPager.fetch(specification, page.getNextCursor(), size);
+            }
+            List<Long> seen = new ArrayList<>(ids(page.getTransactions()));
+            while (page.getPrevCursor() != null) {
+                page = transactionCursorPager.fetch(specification, page.getPrevCursor(), size);
+                // Backward pages line up with the end, so only the newest one may be short
+                assertTrue(page.getTransactions().size() == size || page.getPrevCursor() == null, "size " + size);
+                assertNotNull(page.getNextCursor());
+                seen.addAll(0, ids(page.getTransactions()));
+            }
+            assertEquals(seen.size(), new LinkedHashSet<>(seen).size(), "duplicates for size " + size);
+            assertEquals(expected, seen, "size " + size);
+        }
+    }
+
+    @Test
+    void blankCursorStartsAtTheFirstPage() {
+        TransactionCursorPager.CursorPage first = transactionCursorPager.fetch(specification, "  ", 5);
+        assertEquals(expected.subList(0, 5), ids(first.getTransactions()));
+        assertNull(first.getPrevCursor());
+        assertNotNull(first.getNextCursor());
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThrows(InvalidCursorException.class,
+                () -> transactionCursorPager.fetch(specification, "bm90LWEtY3Vyc29y", 5));
+        assertThrows(InvalidCursorException.class,
+                () -> transactionCursorPager.fetch(specification, "***", 5));
+    }
+
+    /**
+     * Helper: Follow next cursors from the first page to the last, collecting the IDs of each page
+     */
+    private List<List<Long>> walkForward(int size) {
+        List<List<Long>> pages = new ArrayList<>();
+        TransactionCursorPager.CursorPage page = transactionCursorPager.fetch(specification, null, size);
+        assertNull(page.getPrevCursor());
+        pages.add(ids(page.getTransactions()));
+        while (page.getNextCursor() != null) {
+            page = transactionCursorPager.fetch(specification, page.getNextCursor(), size);
+            assertNotNull(page.getPrevCursor());
+            pages.add(ids(page.getTransactions()));
+        }
+        return pages;
+    }
+
+    private List<Long> ids(List<Transactions> transactions) {
+        return transactions.stream().map(Transactions::getId).toList();
+    }
+
+    private Transactions newTransaction(Long userId, Date transactionDate, Date createdAt) {
+        return Transactions.builder()
+                .userId(userId)
+                .accountId(1L)
+                .categoryId(categoryId)
+                .type("EXPENSE")
+                .amount(BigDecimal.TEN)
+                .currencyCode("PKR")
+                .transactionDate(transactionDate)
+                .status("CLEARED")
+                .recurringInstance(false)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
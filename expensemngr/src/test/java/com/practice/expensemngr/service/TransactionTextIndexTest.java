@@ -0,0 +1,288 @@
+package com.practice.expensemngr.service;
+
+import com.practice.expensemngr.config.TransactionTextIndexProperties;
+import com.practice.expensemngr.dto.TransactionFilterDTO;
+import com.practice.expensemngr.entity.Categories;
+import com.practice.expensemngr.entity.Merchants;
+import com.practice.expensemngr.entity.Transactions;
+import com.practice.expensemngr.repository.CategoriesRepository;
+import com.practice.expensemngr.repository.MerchantsRepository;
+import com.practice.expensemngr.repository.TransactionSpecification;
+import com.practice.expensemngr.repository.TransactionsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks that keyword searches answered by {@link TransactionTextIndex} return the same
+ * transactions as the SQL LIKE fallback in {@link TransactionSpecification}, for keywords too
+ * short to have a gram, keywords spanning words and punctuation, merchant names, and after
+ * updates that leave deleted documents behind and trigger compaction. Each test uses its own
+ * user IDs, since the index outlives the rolled-back test transactions.
+ */
+@DataJpaTest
+@Import({TransactionTextIndex.class, TransactionTextIndexProperties.class})
+class TransactionTextIndexTest {
+
+    private static final List<String> KEYWORDS = List.of(
+            "c", "co", "ab", "%", "_", "#", ".", "-", " ",
+            "coffee", "COFFEE", "offee", "fee sh", "ee s", "coffee shop", "shop downtown", "e-s",
+            "inv-2024", "2024-0", "#42", "ref_1", "100%", "_100",
+            "starbucks", "bucks co", "amazon.com", ".com", "mart", "tea & c", "& cakes",
+            "café", "xyz", "trip to", "rip");
+
+    private static final String[] DESCRIPTIONS = {
+            "Coffee shop", "COFFEE", "coffee-shop downtown", "Tea & cakes", "ab", "Grocery store #42",
+            "Uber trip to airport", null, "", "Café au lait", "weekly mart run", "x"};
+
+    private static final String[] REFERENCES = {
+            null, "INV-2024-001", "ref_100%", "REF-7", "", "inv 2024 002"};
+
+    @Autowired
+    private TransactionTextIndex transactionTextIndex;
+
+    @Autowired
+    private TransactionTextIndexProperties properties;
+
+    @Autowired
+    private TransactionsRepository transactionsRepository;
+
+    @Autowired
+    private CategoriesRepository categoriesRepository;
+
+    @Autowired
+    private MerchantsRepository merchantsRepository;
+
+    private Long categoryId;
+    private List<Long> merchantIds;
+    private int defaultMaxDocuments;
+
+    @BeforeEach
+    void createReferenceData() {
+        Categories category = new Categories();
+        category.setName("Food");
+        category.setType("EXPENSE");
+        category.setArchived(false);
+        category.setCreatedAt(new Date());
+        category.setUpdatedAt(new Date());
+        categoryId = categoriesRepository.save(category).getId();
+
+        merchantIds = new ArrayList<>();
+        for (String name : List.of("Starbucks Coffee", "Amazon.com", "Mart & Co", "Corner Café")) {
+            Merchants merchant = new Merchants();
+            merchant.setUserId(1L);
+            merchant.setName(name);
+            merchant.setCreatedAt(new Date());
+            merchant.setUpdatedAt(new Date());
+            merchantIds.add(merchantsRepository.save(merchant).getId());
+        }
+        defaultMaxDocuments = properties.getMaxDocuments();
+    }
+
+    @AfterEach
+    void restoreProperties() {
+        properties.setMaxDocuments(defaultMaxDocuments);
+    }
+
+    @Test
+    void keywordResultsMatchLike() {
+        Long userId = 101L;
+        Random random = new Random(3);
+        for (int i = 0; i < 60; i++) {
+            createTransaction(userId, random);
+        }
+        // Another user's rows never leak into the results
+        createTransaction(102L, random);
+
+        assertMatchesLike(userId);
+    }
+
+    @Test
+    void updatesAndCompactionKeepResultsInStep() {
+        Long userId = 201L;
+        Random random = new Random(5);
+        List<Transactions> transactions = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            transactions.add(createTransaction(userId, random));
+        }
+        assertMatchesLike(userId);
+
+        for (int round = 0; round < 6; round++) {
+            // Rewrite most rows, so more than half the documents become deleted and get compacted
+            List<Long> changed = new ArrayList<>();
+            for (Transactions transaction : transactions) {
+                if (random.nextInt(4) > 0) {
+                    fillText(transaction, random);
+                    changed.add(transaction.getId());
+                }
+            }
+            transactionsRepository.saveAllAndFlush(transactions);
+
+            // New rows and rows whose text did not change arrive in the same event
+            for (int i = 0; i < 3; i++) {
+                Transactions created = createTransaction(userId, random);
+                transactions.add(created);
+                changed.add(created.getId());
+            }
+            changed.add(transactions.get(0).getId());
+
+            transactionTextIndex.onTransactionsChanged(new TransactionsChangedEvent(userId, changed));
+            assertMatchesLike(userId);
+        }
+    }
+
+    @Test
+    void merchantRenameIsPickedUpOnRebuild() {
+        Long userId = 301L;
+        Transactions transaction = createTransaction(userId, "Weekly groceries", null, merchantIds.get(2));
+        assertEquals(List.of(transaction.getId()), transactionTextIndex.search(userId, "mart & co"));
+
+        // A merchant rename publishes no transaction event; invalidating rebuilds from the database
+        Merchants merchant = merchantsRepository.findById(merchantIds.get(2)).orElseThrow();
+        merchant.setName("Hyper Store");
+        merchantsRepository.saveAndFlush(merchant);
+        transactionTextIndex.invalidateUser(userId);
+
+        assertEquals(List.of(), transactionTextIndex.search(userId, "mart & co"));
+        assertEquals(List.of(transaction.getId()), transactionTextIndex.search(userId, "hyper"));
+        assertMatchesLike(userId);
+    }
+
+    @Test
+    void leastRecentlyUsedUserIsEvicted() {
+        properties.setMaxDocuments(5);
+        Long first = 401L;
+        Long second = 402L;
+        Transactions firstRow = createTransaction(first, "Coffee beans", null, null);
+        createTransaction(first, "Tea", null, null);
+        createTransaction(first, "Milk", null, null);
+        createTransaction(second, "Coffee", null, null);
+        createTransaction(second, "Sugar", null, null);
+        createTransaction(second, "Flour", null, null);
+
+        // Both users fit on their own; loading the second pushes the first out
+        assertNotNull(transactionTextIndex.search(first, "coffee"));
+        assertNotNull(transactionTextIndex.search(second, "coffee"));
+
+        // A change without an event is only visible to an index rebuilt after it
+        firstRow.setDescription("Espresso beans");
+        transactionsRepository.saveAndFlush(firstRow);
+        assertEquals(List.of(firstRow.getId()), transactionTextIndex.search(first, "espresso"));
+        assertMatchesLike(first);
+    }
+
+    @Test
+    void cachedIndexIsOnlyUpdatedByEvents() {
+        Long userId = 501L;
+        Transactions row = createTransaction(userId, "Coffee beans", null, null);
+        assertEquals(List.of(row.getId()), transactionTextIndex.search(userId, "coffee"));
+
+        row.setDescription("Espresso beans");
+        transactionsRepository.saveAndFlush(row);
+        assertNotEquals(List.of(row.getId()), transactionTextIndex.search(userId, "espresso"));
+
+        transactionTextIndex.onTransactionsChanged(new TransactionsChangedEvent(userId, List.of(row.getId())));
+        assertEquals(List.of(row.getId()), transactionTextIndex.search(userId, "espresso"));
+        assertEquals(List.of(), transactionTextIndex.search(userId, "coffee"));
+    }
+
+    @Test
+    void usersLargerThanTheBoundAreLeftToSql() {
+        properties.setMaxDocuments(2);
+        Long userId = 601L;
+        for (int i = 0; i < 3; i++) {
+            createTransaction(userId, "Coffee " + i, null, null);
+        }
+        assertNull(transactionTextIndex.search(userId, "coffee"));
+        assertNull(transactionTextIndex.search(userId, "  "));
+    }
+
+    /**
+     * Helper: Every keyword returns the same IDs from the index as from the LIKE predicate
+     */
+    private void assertMatchesLike(Long userId) {
+        for (String keyword : KEYWORDS) {
+            if (keyword.isBlank()) {
+                assertNull(transactionTextIndex.search(userId, keyword));
+                continue;
+            }
+            List<Long> indexed = transactionTextIndex.search(userId, keyword);
+            assertNotNull(indexed, "index did not serve keyword '" + keyword + "'");
+
+            TransactionFilterDTO filter = TransactionFilterDTO.builder().userId(userId).keyword(keyword).build();
+            TreeSet<Long> expected = new TreeSet<>();
+            for (Transactions transaction : transactionsRepository.findAll(TransactionSpecification.fromFilter(filter))) {
+                expected.add(transaction.getId());
+            }
+            assertEquals(indexed.size(), new TreeSet<>(indexed).size(), "duplicates for keyword '" + keyword + "'");
+            assertEquals(expected, new TreeSet<>(indexed), "keyword '" + keyword + "'");
+        }
+    }
+
+    /**
+     * Helper: Save a transaction with random text and index it like a committed create would
+     */
+    private Transactions createTransaction(Long userId, Random random) {
+        Transactions transaction = newTransaction(userId);
+        fillText(transaction, random);
+        return save(transaction);
+    }
+
+    /**
+     * Helper: Save a transaction with the given text and index it like a committed create would
+     */
+    private Transactions createTransaction(Long userId, String description, String referenceNumber, Long merchantId) {
+        Transactions transaction = newTransaction(userId);
+        transaction.setDescription(description);
+        transaction.setReferenceNumber(referenceNumber);
+        transaction.setMerchantId(merchantId);
+        return save(transaction);
+    }
+
+    private Transactions newTransaction(Long userId) {
+        return Transactions.builder()
+                .userId(userId)
+                .accountId(1L)
+                .categoryId(categoryId)
+                .type("EXPENSE")
+                .amount(BigDecimal.TEN)
+                .currencyCode("PKR")
+                .transactionDate(new Date())
+                .status("CLEARED")
+                .recurringInstance(false)
+                .createdAt(new Date())
+                .updatedAt(new Date())
+                .build();
+    }
+
+    private Transactions save(Transactions transaction) {
+        Transactions saved = transactionsRepository.saveAndFlush(transaction);
+        transactionTextIndex.onTransactionsChanged(
+                new TransactionsChangedEvent(saved.getUserId(), List.of(saved.getId())));
+        return saved;
+    }
+
+    /**
+     * Helper: Random description, reference number and merchant, any of them possibly absent
+     */
+    private void fillText(Transactions transaction, Random random) {
+        transaction.setDescription(DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]);
+        transaction.setReferenceNumber(REFERENCES[random.nextInt(REFERENCES.length)]);
+        transaction.setMerchantId(random.nextInt(3) == 0 ? null : merchantIds.get(random.nextInt(merchantIds.size())));
+    }
+}
@@ -0,0 +1,197 @@
+package com.practice.expensemngr.util;
+
+import com.practice.expensemngr.util.ColumnarFormat.Column;
+import com.practice.expensemngr.util.ColumnarFormat.ColumnType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Writes files with {@link ColumnarExportWriter} and reads them back with
+ * {@link ColumnarExportReader}, checking every column type survives the encoding: absent
+ * values, decimals of mixed scales, dictionaries rebuilt per row group and deltas across
+ * row group boundaries.
+ */
+class ColumnarFormatTest {
+
+    private static final List<Column> COLUMNS = List.of(
+            new Column("id", ColumnType.INT64),
+            new Column("at", ColumnType.TIMESTAMP),
+            new Column("amount", ColumnType.DECIMAL),
+            new Column("note", ColumnType.STRING),
+            new Column("kind", ColumnType.DICTIONARY),
+            new Column("tags", ColumnType.DICTIONARY_LIST)
+    );
+
+    @Test
+    void roundTripKeepsValuesNullsAndScales() throws IOException {
+        List<Object[]> rows = List.of(
+                row(1L, new Date(1_700_000_000_000L), new BigDecimal("-1.500"), "coffee", "EXPENSE", List.of("food", "daily")),
+                row(null, null, null, null, null, null),
+                row(Long.MAX_VALUE, new Date(0), new BigDecimal("2.125"), "", "INCOME", List.of()),
+                row(Long.MIN_VALUE, new Date(-86_400_000L), new BigDecimal("100"), "naïve ☕ unicode", "EXPENSE", List.of("daily")),
+                row(-7L, new Date(1_700_000_000_001L), BigDecimal.ZERO, null, "EXPENSE", null)
+        );
+
+        List<Object[]> read = roundTrip(rows, 100);
+
+        assertRowsEqual(rows, read);
+    }
+
+    @Test
+    void roundTripAcrossRowGroups() throws IOException {
+        Random random = new Random(42);
+        String[] kinds = {"EXPENSE", "INCOME", "TRANSFER"};
+        String[] tags = {"trip", "food", "work", "gift", "rent"};
+        List<Object[]> rows = new ArrayList<>();
+        long id = 0;
+        for (int i = 0; i < 50; i++) {
+            id += random.nextInt(1000) - 300;
+            List<String> tagList = new ArrayList<>();
+            for (int t = random.nextInt(4); t > 0; t--) {
+                tagList.add(tags[random.nextInt(tags.length)]);
+            }
+            rows.add(row(
+                    random.nextInt(10) == 0 ? null : id,
+                    random.nextInt(10) == 0 ? null : new Date(1_600_000_000_000L + random.nextInt(1_000_000_000)),
+                    random.nextInt(10) == 0 ? null : BigDecimal.valueOf(random.nextInt(2_000_000) - 1_000_000, random.nextInt(4)),
+                    random.nextInt(10) == 0 ? null : "note " + i,
+                    random.nextInt(10) == 0 ? null : kinds[random.nextInt(kinds.length)],
+                    random.nextInt(10) == 0 ? null : tagList));
+        }
+
+        // 7 rows per group leaves a short last group
+        List<Object[]> read = roundTrip(rows, 7);
+
+        assertRowsEqual(rows, read);
+    }
+
+    @Test
+    void rowGroupsAreSizedAndEndMarked() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ColumnarExportWriter writer = new ColumnarExportWriter(out, COLUMNS, 3);
+        for (long i = 0; i < 8; i++) {
+            writer.writeRow(i, null, null, null, null, null);
+        }
+        writer.finish();
+
+        List<Integer> groupSizes = new ArrayList<>();
+        try (ColumnarExportReader reader = new ColumnarExportReader(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(describe(COLUMNS), describe(reader.getColumns()));
+            ColumnarExportReader.RowGroup group;
+            while ((group = reader.nextRowGroup()) != null) {
+                groupSizes.add(group.getRowCount());
+            }
+            assertNull(reader.nextRowGroup());
+        }
+        assertEquals(List.of(3, 3, 2), groupSizes);
+    }
+
+    @Test
+    void emptyFileHasHeaderAndNoRowGroups() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ColumnarExportWriter(out, COLUMNS, 10).finish();
+
+        try (ColumnarExportReader reader = new ColumnarExportReader(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(describe(COLUMNS), describe(reader.getColumns()));
+            assertNull(reader.nextRowGroup());
+        }
+    }
+
+    @Test
+    void rejectsOtherFiles() {
+        byte[] csv = "id,amount\n1,2.00\n".getBytes();
+        assertThrows(IOException.class, () -> new ColumnarExportReader(new ByteArrayInputStream(csv)));
+    }
+
+    @Test
+    void zigZagVarintsRoundTrip() throws IOException {
+        long[] values = {0, 1, -1, 63, -64, 64, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, Integer.MIN_VALUE,
+                Long.MAX_VALUE, Long.MIN_VALUE};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (long value : values) {
+            ColumnarFormat.writeZigZag(out, value);
+        }
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        for (long value : values) {
+            assertEquals(value, ColumnarFormat.readZigZag(in));
+        }
+        assertEquals(-1, in.read());
+    }
+
+    /**
+     * Helper: Write rows and read them back, row by row
+     */
+    private List<Object[]> roundTrip(List<Object[]> rows, int rowGroupSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ColumnarExportWriter writer = new ColumnarExportWriter(out, COLUMNS, rowGroupSize);
+        for (Object[] row : rows) {
+            writer.writeRow(row);
+        }
+        writer.finish();
+
+        List<Object[]> read = new ArrayList<>();
+        try (ColumnarExportReader reader = new ColumnarExportReader(new ByteArrayInputStream(out.toByteArray()))) {
+            ColumnarExportReader.RowGroup group;
+            while ((group = reader.nextRowGroup()) != null) {
+                assertTrue(group.getRowCount() <= rowGroupSize);
+                for (int r = 0; r < group.getRowCount(); r++) {
+                    Object[] row = new Object[COLUMNS.size()];
+                    for (int c = 0; c < COLUMNS.size(); c++) {
+                        row[c] = group.getColumn(COLUMNS.get(c).getName())[r];
+                    }
+                    read.add(row);
+                }
+            }
+        }
+        return read;
+    }
+
+    /**
+     * Helper: Compare rows; decimals by value, since a row group stores them at its widest scale
+     */
+    private void assertRowsEqual(List<Object[]> expected, List<Object[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int r = 0; r < expected.size(); r++) {
+            Object[] expectedRow = expected.get(r).clone();
+            Object[] actualRow = actual.get(r).clone();
+            int amount = 2;
+            if (expectedRow[amount] != null && actualRow[amount] != null) {
+                assertEquals(0, ((BigDecimal) expectedRow[amount]).compareTo((BigDecimal) actualRow[amount]),
+                        "amount in row " + r + ": " + expectedRow[amount] + " vs " + actualRow[amount]);
+                expectedRow[amount] = null;
+                actualRow[amount] = null;
+            }
+            assertArrayEquals(expectedRow, actualRow, "row " + r + ": " + Arrays.toString(actual.get(r)));
+        }
+    }
+
+    /**
+     * Helper: Column names and types, for comparing layouts
+     */
+    private List<String> describe(List<Column> columns) {
+        List<String> described = new ArrayList<>();
+        for (Column column : columns) {
+            described.add(column.getName() + ":" + column.getType());
+        }
+        return described;
+    }
+
+    private static Object[] row(Object... values) {
+        return values;
+    }
+}
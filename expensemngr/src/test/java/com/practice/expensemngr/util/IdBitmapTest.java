@@ -0,0 +1,219 @@
+package com.practice.expensemngr.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks {@link IdBitmap} against a {@link TreeSet} holding the same IDs. The random IDs are
+ * drawn around the 16-bit chunk boundaries and densely enough that containers move between
+ * the sorted array and the bitmap representation (4096 values) in both directions.
+ */
+class IdBitmapTest {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final long CHUNK = 1L << 16;
+
+    @Test
+    void addAndRemoveMatchTreeSet() {
+        for (long seed = 1; seed <= 5; seed++) {
+            Random random = new Random(seed);
+            IdBitmap bitmap = new IdBitmap();
+            TreeSet<Long> expected = new TreeSet<>();
+
+            for (int op = 0; op < 60_000; op++) {
+                long id = randomId(random);
+                // Mostly adds, so the dense chunk grows past the array limit, then mostly removes
+                // until it is back under it
+                if (random.nextInt(10) < (op < 30_000 ? 9 : 1)) {
+                    bitmap.add(id);
+                    expected.add(id);
+                } else {
+                    bitmap.remove(id);
+                    expected.remove(id);
+                }
+                if (op % 5_000 == 0) {
+                    assertSameIds(expected, bitmap);
+                }
+            }
+            assertSameIds(expected, bitmap);
+
+            for (int probe = 0; probe < 10_000; probe++) {
+                long id = randomId(random);
+                assertEquals(expected.contains(id), bitmap.contains(id), "contains(" + id + ")");
+            }
+        }
+    }
+
+    @Test
+    void crossesArrayLimitBothWays() {
+        IdBitmap bitmap = new IdBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+
+        // Exactly at the limit the chunk is still an array; one more value makes it a bitmap
+        for (long i = 0; i < ARRAY_MAX; i++) {
+            bitmap.add(CHUNK + i * 3);
+            expected.add(CHUNK + i * 3);
+        }
+        assertSameIds(expected, bitmap);
+        bitmap.add(CHUNK + CHUNK - 1);
+        expected.add(CHUNK + CHUNK - 1);
+        assertSameIds(expected, bitmap);
+
+        // Back under the limit, then grown again
+        bitmap.remove(CHUNK);
+        expected.remove(CHUNK);
+        bitmap.remove(CHUNK + 3);
+        expected.remove(CHUNK + 3);
+        assertSameIds(expected, bitmap);
+        bitmap.add(CHUNK + 1);
+        expected.add(CHUNK + 1);
+        bitmap.add(CHUNK + 2);
+        expected.add(CHUNK + 2);
+        assertSameIds(expected, bitmap);
+
+        // Emptying a chunk drops it entirely
+        for (Long id : new ArrayList<>(expected)) {
+            bitmap.remove(id);
+        }
+        assertTrue(bitmap.isEmpty());
+        assertEquals(0, bitmap.cardinality());
+        assertEquals(List.of(), bitmap.toList());
+    }
+
+    @Test
+    void setOperationsMatchTreeSet() {
+        Random random = new Random(7);
+        for (int round = 0; round < 30; round++) {
+            TreeSet<Long> left = randomSet(random);
+            TreeSet<Long> right = randomSet(random);
+            IdBitmap leftBitmap = IdBitmap.of(left);
+            IdBitmap rightBitmap = IdBitmap.of(right);
+
+            TreeSet<Long> and = new TreeSet<>(left);
+            and.retainAll(right);
+            TreeSet<Long> or = new TreeSet<>(left);
+            or.addAll(right);
+            TreeSet<Long> andNot = new TreeSet<>(left);
+            andNot.removeAll(right);
+
+            IdBitmap andBitmap = leftBitmap.and(rightBitmap);
+            IdBitmap orBitmap = leftBitmap.or(rightBitmap);
+            IdBitmap andNotBitmap = leftBitmap.andNot(rightBitmap);
+            assertSameIds(and, andBitmap);
+            assertSameIds(or, orBitmap);
+            assertSameIds(andNot, andNotBitmap);
+            assertSameIds(and, rightBitmap.and(leftBitmap));
+            assertSameIds(or, rightBitmap.or(leftBitmap));
+
+            // Operands are left untouched
+            assertSameIds(left, leftBitmap);
+            assertSameIds(right, rightBitmap);
+
+            // Results stay usable as ordinary bitmaps
+            for (int i = 0; i < 2_000; i++) {
+                long id = randomId(random);
+                if (random.nextBoolean()) {
+                    orBitmap.add(id);
+                    or.add(id);
+                    andBitmap.add(id);
+                    and.add(id);
+                } else {
+                    orBitmap.remove(id);
+                    or.remove(id);
+                    andNotBitmap.remove(id);
+                    andNot.remove(id);
+                }
+            }
+            assertSameIds(or, orBitmap);
+            assertSameIds(and, andBitmap);
+            assertSameIds(andNot, andNotBitmap);
+        }
+    }
+
+    @Test
+    void copyIsIndependent() {
+        Random random = new Random(11);
+        TreeSet<Long> ids = randomSet(random);
+        IdBitmap original = IdBitmap.of(ids);
+        IdBitmap copy = original.copy();
+
+        copy.add(CHUNK - 1);
+        copy.add(5 * CHUNK);
+        copy.remove(ids.first());
+
+        assertSameIds(ids, original);
+        assertTrue(copy.contains(5 * CHUNK));
+        assertFalse(copy.contains(ids.first()));
+    }
+
+    @Test
+    void keepsChunkBoundariesAndLargeIdsApart() {
+        long[] ids = {0, 1, CHUNK - 1, CHUNK, CHUNK + 1, 2 * CHUNK - 1, 2 * CHUNK,
+                (1L << 32) - 1, 1L << 32, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+        IdBitmap bitmap = new IdBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+        for (int i = ids.length - 1; i >= 0; i--) {
+            bitmap.add(ids[i]);
+            expected.add(ids[i]);
+        }
+        assertSameIds(expected, bitmap);
+        assertFalse(bitmap.contains(CHUNK + 2));
+        assertFalse(bitmap.contains((1L << 32) + 1));
+    }
+
+    @Test
+    void rejectsNegativeIds() {
+        IdBitmap bitmap = IdBitmap.of(List.of(1L, 2L));
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+        assertFalse(bitmap.contains(-1));
+        bitmap.remove(-1);
+        assertEquals(List.of(1L, 2L), bitmap.toList());
+    }
+
+    /**
+     * Helper: Compare contents, cardinality and ascending order with the oracle
+     */
+    private void assertSameIds(TreeSet<Long> expected, IdBitmap bitmap) {
+        assertEquals(expected.size(), bitmap.cardinality());
+        assertEquals(expected.isEmpty(), bitmap.isEmpty());
+        assertEquals(new ArrayList<>(expected), bitmap.toList());
+    }
+
+    /**
+     * Helper: Random set mixing sparse chunks, dense chunks past the array limit and chunk edges
+     */
+    private TreeSet<Long> randomSet(Random random) {
+        TreeSet<Long> ids = new TreeSet<>();
+        int count = random.nextInt(3) == 0 ? random.nextInt(50) : 4 * ARRAY_MAX + random.nextInt(4 * ARRAY_MAX);
+        for (int i = 0; i < count; i++) {
+            ids.add(randomId(random));
+        }
+        ids.add(randomId(random));
+        return ids;
+    }
+
+    /**
+     * Helper: ID from a dense range in chunk 0, either side of the chunk 1/2 boundary, or a far chunk
+     */
+    private long randomId(Random random) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return random.nextInt(3 * ARRAY_MAX);
+            case 1:
+                return 2 * CHUNK - ARRAY_MAX + random.nextInt(2 * ARRAY_MAX);
+            case 2:
+                return CHUNK - 1 + random.nextInt(3);
+            default:
+                return (1L << 40) + random.nextInt((int) CHUNK);
+        }
+    }
+}
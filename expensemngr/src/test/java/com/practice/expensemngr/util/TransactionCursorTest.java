@@ -0,0 +1,83 @@
+package com.practice.expensemngr.util;
+
+import com.practice.expensemngr.entity.Transactions;
+import com.practice.expensemngr.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link TransactionCursor} tokens decode to the sort key and direction they were
+ * encoded from, and that anything else a client might send is rejected as
+ * {@link InvalidCursorException} rather than failing deeper in the query.
+ */
+class TransactionCursorTest {
+
+    @Test
+    void tokensRoundTrip() {
+        Transactions transaction = Transactions.builder()
+                .id(42L)
+                .transactionDate(new Date(1_700_000_000_000L))
+                .createdAt(new Date(1_700_000_123_456L))
+                .build();
+
+        TransactionCursor after = TransactionCursor.decode(TransactionCursor.after(transaction).encode());
+        assertTrue(after.isForward());
+        assertEquals(transaction.getTransactionDate(), after.getTransactionDate());
+        assertEquals(transaction.getCreatedAt(), after.getCreatedAt());
+        assertEquals(42L, after.getId());
+
+        TransactionCursor before = TransactionCursor.decode(TransactionCursor.before(transaction).encode());
+        assertFalse(before.isForward());
+        assertEquals(transaction.getTransactionDate(), before.getTransactionDate());
+        assertEquals(transaction.getCreatedAt(), before.getCreatedAt());
+        assertEquals(42L, before.getId());
+    }
+
+    @Test
+    void tokensAreUrlSafe() {
+        // Dates before the epoch and large IDs still encode to URL-safe characters only
+        Transactions transaction = Transactions.builder()
+                .id(Long.MAX_VALUE)
+                .transactionDate(new Date(-86_400_000L))
+                .createdAt(new Date(Long.MAX_VALUE))
+                .build();
+
+        for (TransactionCursor cursor : List.of(TransactionCursor.after(transaction), TransactionCursor.before(transaction))) {
+            String token = cursor.encode();
+            assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+            assertEquals(token, TransactionCursor.decode(token).encode());
+        }
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        List<String> tokens = List.of(
+                "",
+                "not a cursor!",
+                "%%%",
+                encode("t1:n:1:2"),
+                encode("t1:n:1:2:3:4"),
+                encode("t2:n:1:2:3"),
+                encode("t1:x:1:2:3"),
+                encode("t1:n:one:2:3"),
+                encode("t1:p:1:2:"),
+                encode("t1:n:1:2:99999999999999999999"));
+
+        for (String token : tokens) {
+            assertThrows(InvalidCursorException.class, () -> TransactionCursor.decode(token), token);
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+}